@@ -0,0 +1,53 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Douglas Peucker line simplification, with a tolerance and with a point budget.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApproximatorBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    /**
+     * the number of points ApproximatorN reduces to
+     */
+    @Param({"500"})
+    public int resultCount;
+
+    private float[] mPoints;
+
+    private Approximator mApproximator = new Approximator();
+    private ApproximatorN mApproximatorN = new ApproximatorN();
+
+    @Setup
+    public void setup() {
+        mPoints = BenchmarkData.createPoints(size);
+    }
+
+    @Benchmark
+    public float[] approximator() {
+        return mApproximator.reduceWithDouglasPeucker(mPoints, 1f);
+    }
+
+    @Benchmark
+    public float[] approximatorN() {
+        return mApproximatorN.reduceWithDouglasPeucker(mPoints, resultCount);
+    }
+}
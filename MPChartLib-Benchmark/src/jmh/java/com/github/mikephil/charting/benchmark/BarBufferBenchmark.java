@@ -0,0 +1,70 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.buffer.HorizontalBarBuffer;
+import com.github.mikephil.charting.data.BarDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeding the bar buffers, which happens for every DataSet on every frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BarBufferBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    /**
+     * number of values per bar, 1 for plain bars
+     */
+    @Param({"1", "3"})
+    public int stackSize;
+
+    private BarDataSet mDataSet;
+
+    private BarBuffer mBuffer;
+    private HorizontalBarBuffer mHorizontalBuffer;
+
+    @Setup
+    public void setup() {
+
+        mDataSet = new BarDataSet(BenchmarkData.createBarEntries(size, stackSize), "");
+
+        final boolean stacked = mDataSet.isStacked();
+        final int bufferSize = size * 4 * (stacked ? mDataSet.getStackSize() : 1);
+
+        mBuffer = new BarBuffer(bufferSize, 1, stacked);
+        mBuffer.setBarWidth(0.85f);
+
+        mHorizontalBuffer = new HorizontalBarBuffer(bufferSize, 1, stacked);
+        mHorizontalBuffer.setBarWidth(0.85f);
+    }
+
+    @Benchmark
+    public float[] feed() {
+        mBuffer.setPhases(1f, 1f);
+        mBuffer.feed(mDataSet);
+        mBuffer.reset();
+        return mBuffer.buffer;
+    }
+
+    @Benchmark
+    public float[] feedHorizontal() {
+        mHorizontalBuffer.setPhases(1f, 1f);
+        mHorizontalBuffer.feed(mDataSet);
+        mHorizontalBuffer.reset();
+        return mHorizontalBuffer.buffer;
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the deterministic input data shared by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns count entries with x-values 0, 1, 2, ... and a random walk as y-values.
+     */
+    public static List<Entry> createEntries(int count) {
+
+        Random random = new Random(SEED);
+        List<Entry> entries = new ArrayList<>(count);
+
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            entries.add(new Entry(i, y));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns count bar entries, each with stackSize random y-values if stackSize is
+     * greater than 1.
+     */
+    public static List<BarEntry> createBarEntries(int count, int stackSize) {
+
+        Random random = new Random(SEED);
+        List<BarEntry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+
+            if (stackSize > 1) {
+
+                float[] vals = new float[stackSize];
+
+                for (int j = 0; j < stackSize; j++) {
+                    vals[j] = random.nextFloat() * 200f - 50f;
+                }
+
+                entries.add(new BarEntry(i, vals));
+            } else {
+                entries.add(new BarEntry(i, random.nextFloat() * 200f - 100f));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns count points as x/y pairs with x-values 0, 1, 2, ... and a random walk as y-values.
+     */
+    public static float[] createPoints(int count) {
+
+        Random random = new Random(SEED);
+        float[] points = new float[count * 2];
+
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            points[i * 2] = i;
+            points[i * 2 + 1] = y;
+        }
+
+        return points;
+    }
+
+    /**
+     * Returns count random values in [min, max).
+     */
+    public static float[] createValues(int count, float min, float max) {
+
+        Random random = new Random(SEED);
+        float[] values = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            values[i] = min + random.nextFloat() * (max - min);
+        }
+
+        return values;
+    }
+
+    /**
+     * Creates an instance of the given class without calling its constructor. Used for renderers,
+     * whose constructors create Paint objects that need the native Android libraries.
+     */
+    public static <T> T allocateInstance(Class<T> clazz) {
+
+        try {
+            Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+
+            return clazz.cast(unsafe.getClass()
+                    .getMethod("allocateInstance", Class.class)
+                    .invoke(unsafe, clazz));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not allocate " + clazz.getName(), e);
+        }
+    }
+}
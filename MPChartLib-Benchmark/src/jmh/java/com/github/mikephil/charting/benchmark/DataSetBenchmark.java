@@ -0,0 +1,88 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups and bounds calculations of DataSets, for Entry lists and primitive storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataSetBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"ENTRIES", "PRIMITIVE"})
+    public String storage;
+
+    private DataSet<Entry> mDataSet;
+
+    /**
+     * x-values to look up, cycled through to defeat branch prediction and caching of a single position
+     */
+    private float[] mQueries;
+
+    private int mQuery;
+
+    @Setup
+    public void setup() {
+
+        List<Entry> entries = BenchmarkData.createEntries(size);
+
+        if ("PRIMITIVE".equals(storage))
+            mDataSet = new PrimitiveLineDataSet(entries, "");
+        else
+            mDataSet = new LineDataSet(entries, "");
+
+        mQueries = BenchmarkData.createValues(1024, 0f, size - 1);
+    }
+
+    private float nextQuery() {
+        mQuery = (mQuery + 1) & (mQueries.length - 1);
+        return mQueries[mQuery];
+    }
+
+    @Benchmark
+    public int getEntryIndex() {
+        return mDataSet.getEntryIndex(nextQuery(), Float.NaN, DataSet.Rounding.CLOSEST);
+    }
+
+    @Benchmark
+    public List<Entry> getEntriesForXValue() {
+        return mDataSet.getEntriesForXValue((int) nextQuery());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float calcMinMax() {
+        mDataSet.calcMinMax();
+        return mDataSet.getYMax();
+    }
+
+    /**
+     * Bounds of a visible range covering 10% of the values, as calculated for autoscaling.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float calcMinMaxY() {
+        final float from = nextQuery() * 0.9f;
+        mDataSet.calcMinMaxY(from, from + size * 0.1f);
+        return mDataSet.getYMax();
+    }
+}
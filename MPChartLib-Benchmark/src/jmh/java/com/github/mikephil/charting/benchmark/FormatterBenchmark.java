@@ -0,0 +1,56 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.formatter.LargeValueFormatter;
+import com.github.mikephil.charting.utils.Utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of single values, as done for every drawn value and axis label.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatterBenchmark {
+
+    /**
+     * the magnitude of the formatted values
+     */
+    @Param({"1000", "10000000"})
+    public float maxValue;
+
+    private float[] mValues;
+
+    private int mValue;
+
+    private LargeValueFormatter mLargeValueFormatter = new LargeValueFormatter();
+
+    @Setup
+    public void setup() {
+        mValues = BenchmarkData.createValues(1024, -maxValue, maxValue);
+    }
+
+    private float nextValue() {
+        mValue = (mValue + 1) & (mValues.length - 1);
+        return mValues[mValue];
+    }
+
+    @Benchmark
+    public String formatNumber() {
+        return Utils.formatNumber(nextValue(), 2, true);
+    }
+
+    @Benchmark
+    public String largeValueFormatter() {
+        return mLargeValueFormatter.getFormattedValue(nextValue());
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.ObjectPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Getting and recycling pooled objects, one at a time and in batches larger than the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ObjectPoolBenchmark {
+
+    /**
+     * the number of objects taken from the pool before they are recycled
+     */
+    @Param({"1", "64", "1000"})
+    public int batchSize;
+
+    private ObjectPool<MPPointD> mPool;
+
+    private List<MPPointD> mBatch;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        mPool = ObjectPool.create(64, MPPointD.getInstance(0, 0));
+        mPool.setReplenishPercentage(0.5f);
+        mBatch = new ArrayList<>(batchSize);
+    }
+
+    @Benchmark
+    public int getAndRecycle() {
+
+        for (int i = 0; i < batchSize; i++) {
+            MPPointD point = mPool.get();
+            point.x = i;
+            mBatch.add(point);
+        }
+
+        for (int i = 0; i < batchSize; i++) {
+            mPool.recycle(mBatch.get(i));
+        }
+
+        mBatch.clear();
+        return mPool.getPoolCount();
+    }
+
+    @Benchmark
+    public int getAndRecycleList() {
+
+        for (int i = 0; i < batchSize; i++) {
+            mBatch.add(mPool.get());
+        }
+
+        mPool.recycle(mBatch);
+
+        mBatch.clear();
+        return mPool.getPoolCount();
+    }
+}
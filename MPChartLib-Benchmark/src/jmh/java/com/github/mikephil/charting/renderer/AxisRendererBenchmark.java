@@ -0,0 +1,73 @@
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.benchmark.BenchmarkData;
+import com.github.mikephil.charting.components.YAxis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculation of the axis labels, done on every zoom and scroll step. Lives in the renderer
+ * package to call the protected computeAxisValues(...) directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AxisRendererBenchmark {
+
+    @Param({"6", "25"})
+    public int labelCount;
+
+    @Param({"false", "true"})
+    public boolean forceLabels;
+
+    @Param({"false", "true"})
+    public boolean centerAxisLabels;
+
+    private YAxisRenderer mRenderer;
+
+    /**
+     * axis ranges as min/max pairs
+     */
+    private float[] mRanges;
+
+    private int mRange;
+
+    @Setup
+    public void setup() {
+
+        YAxis axis = new YAxis();
+        axis.setLabelCount(labelCount, forceLabels);
+        axis.setCenterAxisLabels(centerAxisLabels);
+
+        // the constructor creates Paint objects, which need the native Android libraries
+        mRenderer = BenchmarkData.allocateInstance(YAxisRenderer.class);
+        mRenderer.mAxis = axis;
+        mRenderer.mYAxis = axis;
+
+        float[] mins = BenchmarkData.createValues(512, -1000f, 1000f);
+        float[] spans = BenchmarkData.createValues(512, 0.01f, 100000f);
+
+        mRanges = new float[1024];
+
+        for (int i = 0; i < 512; i++) {
+            mRanges[i * 2] = mins[i];
+            mRanges[i * 2 + 1] = mins[i] + spans[i];
+        }
+    }
+
+    @Benchmark
+    public float[] computeAxisValues() {
+        mRange = (mRange + 2) & (mRanges.length - 1);
+        mRenderer.computeAxisValues(mRanges[mRange], mRanges[mRange + 1]);
+        return mRenderer.mAxis.mEntries;
+    }
+}
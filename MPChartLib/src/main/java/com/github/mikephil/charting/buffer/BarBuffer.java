@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 
 public class BarBuffer extends AbstractBuffer<IBarDataSet> {
@@ -14,12 +15,55 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** the index of the first entry fed into the buffer by the last feed */
+    protected int mFeedStart = 0;
+
+    /** the number of floats written into the buffer by the last feed */
+    protected int mFeedLength = 0;
+
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
         this.mContainsStacks = containsStacks;
     }
 
+    /**
+     * Returns the index of the first bar of the given DataSet that can be visible if the
+     * lowest visible x-value is the given one. Bars that start left of it but reach into
+     * the viewport are included. The range is rounded outwards, so it can start with one
+     * bar that is not visible, e.g. if several entries share an x-value at its border;
+     * the renderers cull it against the viewport.
+     *
+     * @param data
+     * @param lowestVisibleX
+     * @param barWidth       width of the bars on the x-axis, in values
+     * @return
+     */
+    public static int getFirstVisibleIndex(IBarDataSet data, float lowestVisibleX, float barWidth) {
+
+        final int index = data.getEntryIndex(lowestVisibleX - barWidth / 2f,
+                Float.NaN, DataSet.Rounding.DOWN);
+
+        return Math.max(index, 0);
+    }
+
+    /**
+     * Returns the index of the last bar of the given DataSet that can be visible if the
+     * highest visible x-value is the given one, -1 if the DataSet is empty. Bars that end
+     * right of it but reach into the viewport are included. Like the first index, it is
+     * rounded outwards.
+     *
+     * @param data
+     * @param highestVisibleX
+     * @param barWidth        width of the bars on the x-axis, in values
+     * @return
+     */
+    public static int getLastVisibleIndex(IBarDataSet data, float highestVisibleX, float barWidth) {
+
+        return data.getEntryIndex(highestVisibleX + barWidth / 2f,
+                Float.NaN, DataSet.Rounding.UP);
+    }
+
     public void setBarWidth(float barWidth) {
         this.mBarWidth = barWidth;
     }
@@ -40,13 +84,45 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         buffer[index++] = bottom;
     }
 
+    /**
+     * Returns the index of the first entry fed into the buffer by the last feed.
+     *
+     * @return
+     */
+    public int getFeedStart() {
+        return mFeedStart;
+    }
+
+    /**
+     * Returns the number of floats the last feed wrote into the buffer, starting at 0.
+     *
+     * @return
+     */
+    public int getFeedLength() {
+        return mFeedLength;
+    }
+
     @Override
     public void feed(IBarDataSet data) {
+        feed(data, 0, data.getEntryCount() - 1);
+    }
+
+    /**
+     * Feeds the bars of the entries in the index range [from, to] into the start of the
+     * buffer, e.g. only the visible ones. The range is limited by the x-phase like feed(...).
+     *
+     * @param data
+     * @param from
+     * @param to
+     */
+    public void feed(IBarDataSet data, int from, int to) {
 
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        mFeedStart = from;
+
+        for (int i = from; i <= to && i < size; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -125,6 +201,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
+        mFeedLength = index;
         reset();
     }
 }
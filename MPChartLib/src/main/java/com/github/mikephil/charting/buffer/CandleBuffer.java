@@ -0,0 +1,279 @@
+
+package com.github.mikephil.charting.buffer;
+
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+
+import java.util.List;
+
+/**
+ * Buffer that holds the geometry of the candles of a DataSet, grouped by decreasing,
+ * increasing and neutral candles so that each group can be drawn in one color with a few
+ * draw calls.
+ *
+ * With candle bars, the buffer holds the shadows of all candles first (two lines with 8
+ * floats per candle), followed by the bodies (4 floats per candle). The body of a decreasing
+ * or increasing candle is a rect (left, top, right, bottom), the body of a neutral candle is
+ * a line. Without candle bars, it holds the OHLC bars (three lines with 12 floats per candle).
+ */
+public class CandleBuffer extends AbstractBuffer<ICandleDataSet> {
+
+    public static final int DECREASING = 0;
+    public static final int INCREASING = 1;
+    public static final int NEUTRAL = 2;
+
+    /**
+     * the maximum number of floats a candle needs in the buffer
+     */
+    public static final int FLOATS_PER_CANDLE = 12;
+
+    protected boolean mShowCandleBar = true;
+
+    /** the number of candles fed by the last feed */
+    protected int mCandleCount = 0;
+
+    /** the number of candles of each type fed by the last feed */
+    protected final int[] mTypeCounts = new int[3];
+
+    /** the position of the next candle of each type while feeding */
+    private final int[] mNextCandle = new int[3];
+
+    /** the entry index of each fed candle, in the order of the buffer */
+    protected int[] mEntryIndices;
+
+    public CandleBuffer(int size) {
+        super(size);
+        mEntryIndices = new int[size / FLOATS_PER_CANDLE];
+    }
+
+    @Override
+    public void feed(ICandleDataSet data) {
+        feed(data, 0, (int) Math.ceil(data.getEntryCount() * phaseX) - 1);
+    }
+
+    /**
+     * Feeds the candles of the entries in the index range [from, to] into the buffer, e.g.
+     * only the visible ones. The buffer must be large enough for FLOATS_PER_CANDLE floats per
+     * candle.
+     *
+     * @param data
+     * @param from
+     * @param to
+     */
+    public void feed(ICandleDataSet data, int from, int to) {
+        feed(data, 0, from, to);
+    }
+
+    /**
+     * Feeds the candles in the index range [from, to] of the given aggregation level into
+     * the buffer. The candles of level k are 2^k times as wide as the entries.
+     *
+     * @param data
+     * @param level the level of the aggregation pyramid of the DataSet, 0 for the entries
+     * @param from
+     * @param to
+     */
+    public void feed(ICandleDataSet data, int level, int from, int to) {
+
+        mShowCandleBar = data.getShowCandleBar();
+
+        final List<CandleEntry> candles = level > 0
+                ? data.getAggregationPyramid().getLevel(level)
+                : null;
+        final int count = candles != null ? candles.size() : data.getEntryCount();
+
+        final int last = Math.min(to, count - 1);
+
+        // count the candles of each type first, so that each type gets a contiguous part
+        mTypeCounts[DECREASING] = 0;
+        mTypeCounts[INCREASING] = 0;
+        mTypeCounts[NEUTRAL] = 0;
+
+        for (int i = from; i <= last; i++) {
+
+            CandleEntry e = candles != null ? candles.get(i) : data.getEntryForIndex(i);
+
+            if (e != null)
+                mTypeCounts[getType(e)]++;
+        }
+
+        mCandleCount = mTypeCounts[DECREASING] + mTypeCounts[INCREASING] + mTypeCounts[NEUTRAL];
+
+        final int[] next = mNextCandle;
+
+        for (int type = DECREASING; type <= NEUTRAL; type++) {
+            next[type] = getFirstCandle(type);
+        }
+
+        final float halfWidth = 0.5f * (1 << level);
+        final float barSpace = data.getBarSpace() * (1 << level);
+
+        for (int i = from; i <= last; i++) {
+
+            CandleEntry e = candles != null ? candles.get(i) : data.getEntryForIndex(i);
+
+            if (e == null)
+                continue;
+
+            final int type = getType(e);
+            final int candle = next[type]++;
+
+            // the index of the first entry the candle covers
+            mEntryIndices[candle] = i << level;
+
+            final float xPos = e.getX();
+            final float open = e.getOpen() * phaseY;
+            final float close = e.getClose() * phaseY;
+            final float high = e.getHigh() * phaseY;
+            final float low = e.getLow() * phaseY;
+
+            if (mShowCandleBar) {
+
+                final float top = type == INCREASING ? close : open;
+                final float bottom = type == INCREASING ? open : close;
+
+                index = getShadowOffset(candle);
+                addPoint(xPos, high);
+                addPoint(xPos, top);
+                addPoint(xPos, low);
+                addPoint(xPos, bottom);
+
+                index = getBodyOffset(candle);
+                addPoint(xPos - halfWidth + barSpace, top);
+                addPoint(xPos + halfWidth - barSpace, bottom);
+
+            } else {
+
+                index = getBarOffset(candle);
+
+                // the range
+                addPoint(xPos, high);
+                addPoint(xPos, low);
+
+                // open
+                addPoint(xPos - halfWidth + barSpace, open);
+                addPoint(xPos, open);
+
+                // close
+                addPoint(xPos + halfWidth - barSpace, close);
+                addPoint(xPos, close);
+            }
+        }
+
+        reset();
+    }
+
+    protected void addPoint(float x, float y) {
+        buffer[index++] = x;
+        buffer[index++] = y;
+    }
+
+    protected static int getType(CandleEntry e) {
+
+        final float open = e.getOpen();
+        final float close = e.getClose();
+
+        if (open > close)
+            return DECREASING;
+        else if (open < close)
+            return INCREASING;
+        else
+            return NEUTRAL;
+    }
+
+    /**
+     * Returns true if the last feed created candle bars, false if it created OHLC bars.
+     *
+     * @return
+     */
+    public boolean isShowCandleBar() {
+        return mShowCandleBar;
+    }
+
+    /**
+     * Returns the number of candles fed by the last feed.
+     *
+     * @return
+     */
+    public int getCandleCount() {
+        return mCandleCount;
+    }
+
+    /**
+     * Returns the number of fed candles of the given type.
+     *
+     * @param type DECREASING, INCREASING or NEUTRAL
+     * @return
+     */
+    public int getCandleCount(int type) {
+        return mTypeCounts[type];
+    }
+
+    /**
+     * Returns the position of the first fed candle of the given type, the candles of a type
+     * follow each other.
+     *
+     * @param type DECREASING, INCREASING or NEUTRAL
+     * @return
+     */
+    public int getFirstCandle(int type) {
+
+        int first = 0;
+
+        for (int t = 0; t < type; t++) {
+            first += mTypeCounts[t];
+        }
+
+        return first;
+    }
+
+    /**
+     * Returns the entry index of the candle at the given position, for an aggregated candle
+     * the index of the first entry it covers.
+     *
+     * @param candle
+     * @return
+     */
+    public int getEntryIndex(int candle) {
+        return mEntryIndices[candle];
+    }
+
+    /**
+     * Returns the number of floats the last feed wrote into the buffer, starting at 0.
+     *
+     * @return
+     */
+    public int getFeedLength() {
+        return mCandleCount * FLOATS_PER_CANDLE;
+    }
+
+    /**
+     * Returns the buffer index of the shadow lines of the candle at the given position.
+     *
+     * @param candle
+     * @return
+     */
+    public int getShadowOffset(int candle) {
+        return candle * 8;
+    }
+
+    /**
+     * Returns the buffer index of the body of the candle at the given position.
+     *
+     * @param candle
+     * @return
+     */
+    public int getBodyOffset(int candle) {
+        return mCandleCount * 8 + candle * 4;
+    }
+
+    /**
+     * Returns the buffer index of the OHLC bar lines of the candle at the given position.
+     *
+     * @param candle
+     * @return
+     */
+    public int getBarOffset(int candle) {
+        return candle * FLOATS_PER_CANDLE;
+    }
+}
@@ -11,12 +11,14 @@ public class HorizontalBarBuffer extends BarBuffer {
     }
 
     @Override
-    public void feed(IBarDataSet data) {
+    public void feed(IBarDataSet data, int from, int to) {
 
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        mFeedStart = from;
+
+        for (int i = from; i <= to && i < size; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -89,6 +91,7 @@ public class HorizontalBarBuffer extends BarBuffer {
             }
         }
 
+        mFeedLength = index;
         reset();
     }
 }
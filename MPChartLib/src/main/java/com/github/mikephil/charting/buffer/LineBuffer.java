@@ -0,0 +1,243 @@
+
+package com.github.mikephil.charting.buffer;
+
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+/**
+ * Buffer that holds the lines of a LineDataSet in the format of Canvas.drawLines(...):
+ * x1, y1, x2, y2 per line. A value of a stepped DataSet needs two lines. Only the values of
+ * an index range or the values at given indices (e.g. the result of a decimation) are fed,
+ * so the required size depends on the number of drawn values, not on the size of the DataSet.
+ *
+ * For DataSets with more than one color, feedSegments(...) feeds the lines between the
+ * values instead and keeps the color of each line, so that lines of the same color can be
+ * drawn together in runs.
+ */
+public class LineBuffer extends AbstractBuffer<ILineDataSet> {
+
+    protected boolean mStepped = false;
+
+    /** the number of floats written into the buffer by the last feed */
+    protected int mFeedLength = 0;
+
+    /** the color of each segment fed by the last feedSegments(...) */
+    protected final int[] mSegmentColors;
+
+    /** true for each fed segment that is not drawn, e.g. because it is outside the viewport */
+    protected final boolean[] mSegmentCulled;
+
+    /** the number of segments fed by the last feedSegments(...) */
+    protected int mSegmentCount = 0;
+
+    public LineBuffer(int size) {
+        super(size);
+        mSegmentColors = new int[size / 4];
+        mSegmentCulled = new boolean[size / 4];
+    }
+
+    /**
+     * Returns the number of floats a buffer needs to feed the given number of values.
+     *
+     * @param valueCount
+     * @param stepped
+     * @return
+     */
+    public static int getRequiredSize(int valueCount, boolean stepped) {
+        return Math.max(valueCount, 1) * (stepped ? 8 : 4);
+    }
+
+    public void setStepped(boolean stepped) {
+        this.mStepped = stepped;
+    }
+
+    /**
+     * Returns the number of floats the last feed wrote into the buffer, starting at 0.
+     *
+     * @return
+     */
+    public int getFeedLength() {
+        return mFeedLength;
+    }
+
+    @Override
+    public void feed(ILineDataSet data) {
+        feed(data, 0, data.getEntryCount() - 1);
+    }
+
+    /**
+     * Feeds one line per value in the index range [from, to], from the value before it to
+     * the value itself. The line of the value at index 0 starts and ends at that value.
+     *
+     * @param data
+     * @param from
+     * @param to
+     */
+    public void feed(ILineDataSet data, int from, int to) {
+
+        for (int i = from; i <= to; i++) {
+            addLine(data, i == 0 ? 0 : i - 1, i);
+        }
+
+        mFeedLength = index;
+        reset();
+    }
+
+    /**
+     * Feeds one line per value at the given indices, from the previously given index to it.
+     * The line of the first value starts at the value before it in the DataSet, so that the
+     * line reaches the first index.
+     *
+     * @param data
+     * @param indices sorted indices of the values to feed
+     * @param offset  the position of the first index in the indices array
+     * @param count   the number of indices to feed
+     */
+    public void feed(ILineDataSet data, int[] indices, int offset, int count) {
+
+        for (int k = 0; k < count; k++) {
+
+            final int x = indices[offset + k];
+            final int prev = k > 0 ? indices[offset + k - 1] : (x == 0 ? 0 : x - 1);
+
+            addLine(data, prev, x);
+        }
+
+        mFeedLength = index;
+        reset();
+    }
+
+    /**
+     * Feeds the segments between consecutive values in the index range [from, to], each
+     * with the color of the value it starts at. Segments whose start and end are the same
+     * are left out.
+     *
+     * @param data
+     * @param from
+     * @param to
+     */
+    public void feedSegments(ILineDataSet data, int from, int to) {
+
+        mSegmentCount = 0;
+
+        for (int i = from; i < to; i++) {
+            addSegment(data, i, i + 1);
+        }
+
+        mFeedLength = index;
+        reset();
+    }
+
+    /**
+     * Feeds the segments between consecutive values at the given indices, each with the
+     * color of the value it starts at. Segments whose start and end are the same are left
+     * out.
+     *
+     * @param data
+     * @param indices sorted indices of the values
+     * @param offset  the position of the first index in the indices array
+     * @param count   the number of indices
+     */
+    public void feedSegments(ILineDataSet data, int[] indices, int offset, int count) {
+
+        mSegmentCount = 0;
+
+        for (int k = 0; k < count - 1; k++) {
+            addSegment(data, indices[offset + k], indices[offset + k + 1]);
+        }
+
+        mFeedLength = index;
+        reset();
+    }
+
+    private void addSegment(ILineDataSet data, int from, int to) {
+
+        // make sure the start and end coordinates of the line differ
+        if (data.getX(from) == data.getX(to) && data.getY(from) * phaseY == data.getY(to) * phaseY)
+            return;
+
+        addLine(data, from, to);
+
+        mSegmentColors[mSegmentCount] = data.getColor(from);
+        mSegmentCulled[mSegmentCount] = false;
+        mSegmentCount++;
+    }
+
+    /**
+     * Returns the number of floats per segment, 8 for stepped lines, 4 otherwise.
+     *
+     * @return
+     */
+    public int getFloatsPerSegment() {
+        return mStepped ? 8 : 4;
+    }
+
+    /**
+     * Returns the number of segments fed by the last feedSegments(...).
+     *
+     * @return
+     */
+    public int getSegmentCount() {
+        return mSegmentCount;
+    }
+
+    public int getSegmentColor(int segment) {
+        return mSegmentColors[segment];
+    }
+
+    /**
+     * Marks the given segment as not drawn, it ends the run it would be part of.
+     *
+     * @param segment
+     * @param culled
+     */
+    public void setSegmentCulled(int segment, boolean culled) {
+        mSegmentCulled[segment] = culled;
+    }
+
+    public boolean isSegmentCulled(int segment) {
+        return mSegmentCulled[segment];
+    }
+
+    /**
+     * Returns the end (exclusive) of the run of segments that starts at the given segment:
+     * the first segment before the given end that is culled or has another color, or the
+     * end. The segments of a run follow each other in the buffer and can be drawn with one
+     * draw call.
+     *
+     * @param from the first segment of the run, must not be culled
+     * @param to   the end (exclusive) of the segments to consider
+     * @return
+     */
+    public int getRunEnd(int from, int to) {
+
+        final int color = mSegmentColors[from];
+
+        int end = from + 1;
+
+        while (end < to && !mSegmentCulled[end] && mSegmentColors[end] == color)
+            end++;
+
+        return end;
+    }
+
+    protected void addLine(ILineDataSet data, int from, int to) {
+
+        final float x1 = data.getX(from);
+        final float y1 = data.getY(from) * phaseY;
+        final float x2 = data.getX(to);
+        final float y2 = data.getY(to) * phaseY;
+
+        buffer[index++] = x1;
+        buffer[index++] = y1;
+
+        if (mStepped) {
+            buffer[index++] = x2;
+            buffer[index++] = y1;
+            buffer[index++] = x2;
+            buffer[index++] = y1;
+        }
+
+        buffer[index++] = x2;
+        buffer[index++] = y2;
+    }
+}
@@ -33,6 +33,7 @@ import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderMetrics;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -135,9 +136,6 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     protected XAxisRenderer mXAxisRenderer;
 
-    // /** the approximator object used for data filtering */
-    // private Approximator mApproximator;
-
     public BarLineChartBase(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
     }
@@ -194,13 +192,25 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         long starttime = System.currentTimeMillis();
 
+        // null if no one is interested in the metrics
+        final RenderMetrics metrics = beginRenderMetrics();
+
         // execute all drawing commands
         drawGridBackground(canvas);
 
         if (mAutoScaleMinMaxEnabled) {
+            if (metrics != null)
+                metrics.beginPhase(RenderMetrics.Phase.AUTO_SCALE);
+
             autoScale();
+
+            if (metrics != null)
+                metrics.endPhase();
         }
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.COMPUTE_AXIS);
+
         if (mAxisLeft.isEnabled())
             mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
 
@@ -210,6 +220,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
+        if (metrics != null)
+            metrics.endPhase();
+
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
         mAxisRendererRight.renderAxisLine(canvas);
@@ -239,8 +252,14 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             canvas.clipRect(mViewPortHandler.getContentRect());
         }
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_DATA);
+
         mRenderer.drawData(canvas);
 
+        if (metrics != null)
+            metrics.endPhase();
+
         if (!mXAxis.isDrawGridLinesBehindDataEnabled())
             mXAxisRenderer.renderGridLines(canvas);
 
@@ -251,9 +270,16 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mAxisRendererRight.renderGridLines(canvas);
 
         // if highlighting is enabled
-        if (valuesToHighlight())
+        if (valuesToHighlight()) {
+            if (metrics != null)
+                metrics.beginPhase(RenderMetrics.Phase.DRAW_HIGHLIGHTED);
+
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
+            if (metrics != null)
+                metrics.endPhase();
+        }
+
         // Removes clipping rectangle
         canvas.restoreToCount(clipRestoreCount);
 
@@ -268,10 +294,18 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mAxisRight.isEnabled() && !mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.RENDER_AXIS_LABELS);
+
         mXAxisRenderer.renderAxisLabels(canvas);
         mAxisRendererLeft.renderAxisLabels(canvas);
         mAxisRendererRight.renderAxisLabels(canvas);
 
+        if (metrics != null) {
+            metrics.endPhase();
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_VALUES);
+        }
+
         if (isClipValuesToContentEnabled()) {
             clipRestoreCount = canvas.save();
             canvas.clipRect(mViewPortHandler.getContentRect());
@@ -283,12 +317,28 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mRenderer.drawValues(canvas);
         }
 
+        if (metrics != null) {
+            metrics.endPhase();
+            metrics.beginPhase(RenderMetrics.Phase.RENDER_LEGEND);
+        }
+
         mLegendRenderer.renderLegend(canvas);
 
+        if (metrics != null)
+            metrics.endPhase();
+
         drawDescription(canvas);
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_MARKERS);
+
         drawMarkers(canvas);
 
+        if (metrics != null)
+            metrics.endPhase();
+
+        endRenderMetrics(metrics);
+
         if (mLogEnabled) {
             long drawtime = (System.currentTimeMillis() - starttime);
             totalTime += drawtime;
@@ -351,7 +401,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
         if (mLegend != null)
-            mLegendRenderer.computeLegend(mData);
+            computeLegend();
 
         calculateOffsets();
     }
@@ -30,6 +30,7 @@ import com.github.mikephil.charting.animation.Easing.EasingFunction;
 import com.github.mikephil.charting.components.Description;
 import com.github.mikephil.charting.components.IMarker;
 import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.LegendEntry;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.Entry;
@@ -39,13 +40,19 @@ import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.IHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
+import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.listener.ChartRenderMetrics;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PreparationRunner;
+import com.github.mikephil.charting.utils.RenderMetrics;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -54,6 +61,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 /**
  * Baseclass of all Chart-Views.
@@ -137,6 +147,16 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     protected OnChartValueSelectedListener mSelectionListener;
 
+    /**
+     * listener that receives the timings and draw counts of every frame
+     */
+    protected ChartRenderMetrics mRenderMetricsListener;
+
+    /**
+     * the timings and draw counts of the current frame, reused for every frame
+     */
+    protected RenderMetrics mRenderMetrics = new RenderMetrics();
+
     protected ChartTouchListener mChartTouchListener;
 
     /**
@@ -281,6 +301,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setData(T data) {
 
+        cancelDataPreparation();
+
         mData = data;
         mOffsetsCalculated = false;
 
@@ -303,11 +325,163 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             Log.i(LOG_TAG, "Data is set.");
     }
 
+    /**
+     * runs the preparations of the data passed to setDataAsync(...) and hands the latest one
+     * to setData(...) on the UI thread, created when it is first needed
+     */
+    private PreparationRunner<PreparedData> mDataPreparation;
+
+    /**
+     * the legend entries of the data that is being set, computed by prepareData(...), null
+     * if the legend has to compute them
+     */
+    private List<LegendEntry> mPreparedLegendEntries;
+
+    /**
+     * Sets a new data object for the chart like setData(...), but does the work that only
+     * depends on the data object on the given Executor instead of the UI thread: the legend
+     * entries and the indexes of the DataSets that are built on first use (e.g. the spatial
+     * index of scatter and bubble DataSets, the aggregation of candles) are built there, and
+     * are not built again by setData(...). The bounds of the DataSets are calculated where
+     * the DataSets are created, so large data should be created on a worker thread as well.
+     * When the preparation is done, the data is swapped into the chart on the UI thread in a
+     * single step, the chart keeps drawing the previous data until then. Calling
+     * setDataAsync(...), setData(...) or clear() again before that cancels the pending
+     * preparation, its result is discarded. The data object must not be modified while it is
+     * being prepared. Needs to be called from the UI thread.
+     *
+     * @param data
+     * @param executor the Executor to prepare the data on, e.g. AsyncTask.THREAD_POOL_EXECUTOR
+     */
+    public void setDataAsync(final T data, Executor executor) {
+
+        cancelDataPreparation();
+
+        if (data == null) {
+            setData(null);
+            return;
+        }
+
+        if (mDataPreparation == null) {
+            mDataPreparation = new PreparationRunner<>(new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    post(command);
+                }
+            }, new PreparationRunner.Callback<PreparedData>() {
+                @Override
+                public void onPrepared(PreparedData result) {
+                    setPreparedData(result);
+                }
+
+                @Override
+                public void onFailed(Throwable error) {
+                    Log.e(LOG_TAG, "Preparing the data failed.", error);
+                }
+            });
+        }
+
+        mDataPreparation.start(new Callable<PreparedData>() {
+            @Override
+            public PreparedData call() {
+                return prepareData(data);
+            }
+        }, executor);
+    }
+
+    /**
+     * Returns true if data passed to setDataAsync(...) is still being prepared.
+     *
+     * @return
+     */
+    public boolean isPreparingData() {
+        return mDataPreparation != null && mDataPreparation.isPending();
+    }
+
+    /**
+     * Cancels the preparation started by setDataAsync(...), if any.
+     */
+    protected void cancelDataPreparation() {
+
+        if (mDataPreparation != null)
+            mDataPreparation.cancel();
+    }
+
+    /**
+     * Does the work of setData(...) that only depends on the data object itself. Called on a
+     * worker thread by setDataAsync(...), must not access the state of the chart.
+     *
+     * @param data
+     * @return
+     */
+    protected PreparedData prepareData(T data) {
+
+        // build the indexes that are otherwise built on the first draw or touch
+        for (IDataSet set : data.getDataSets()) {
+
+            if (set instanceof IScatterDataSet)
+                ((IScatterDataSet) set).getSpatialIndex();
+            else if (set instanceof IBubbleDataSet)
+                ((IBubbleDataSet) set).getSpatialIndex();
+            else if (set instanceof ICandleDataSet)
+                ((ICandleDataSet) set).getAggregationPyramid();
+        }
+
+        List<LegendEntry> legendEntries = new ArrayList<>();
+        LegendRenderer.computeLegendEntries(data, legendEntries);
+
+        return new PreparedData(data, legendEntries);
+    }
+
+    /**
+     * Sets data prepared by prepareData(...), without doing the prepared work again.
+     *
+     * @param prepared
+     */
+    private void setPreparedData(PreparedData prepared) {
+
+        mPreparedLegendEntries = prepared.legendEntries;
+
+        try {
+            setData(prepared.data);
+        } finally {
+            mPreparedLegendEntries = null;
+        }
+    }
+
+    /**
+     * Computes the legend of the current data, using the legend entries prepared by
+     * prepareData(...) if the data has been set by setDataAsync(...).
+     */
+    protected void computeLegend() {
+
+        if (mPreparedLegendEntries == null)
+            mLegendRenderer.computeLegend(mData);
+        else
+            mLegendRenderer.computeLegend(mData, mPreparedLegendEntries);
+    }
+
+    /**
+     * The result of prepareData(...).
+     */
+    protected class PreparedData {
+
+        final T data;
+
+        final List<LegendEntry> legendEntries;
+
+        protected PreparedData(T data, List<LegendEntry> legendEntries) {
+            this.data = data;
+            this.legendEntries = legendEntries;
+        }
+    }
+
     /**
      * Clears the chart from all data (sets it to null) and refreshes it (by
      * calling invalidate()).
      */
     public void clear() {
+        cancelDataPreparation();
         mData = null;
         mOffsetsCalculated = false;
         mIndicesToHighlight = null;
@@ -1034,6 +1208,58 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         this.mSelectionListener = l;
     }
 
+    /**
+     * Sets a listener that receives the timings of the drawing phases and the draw counts
+     * per DataSet after every frame. Set to null to disable the measurements.
+     *
+     * @param l
+     */
+    public void setRenderMetricsListener(ChartRenderMetrics l) {
+        this.mRenderMetricsListener = l;
+    }
+
+    /**
+     * Returns the listener that receives the render metrics, null if none is set.
+     *
+     * @return
+     */
+    public ChartRenderMetrics getRenderMetricsListener() {
+        return mRenderMetricsListener;
+    }
+
+    /**
+     * Starts recording the metrics of a frame if a ChartRenderMetrics listener is set.
+     * Returns the metrics object to record into, null if no listener is set.
+     *
+     * @return
+     */
+    protected RenderMetrics beginRenderMetrics() {
+
+        final RenderMetrics metrics = mRenderMetricsListener == null ? null : mRenderMetrics;
+
+        if (mRenderer != null)
+            mRenderer.setRenderMetrics(metrics);
+
+        if (metrics != null)
+            metrics.beginFrame(mData.getDataSets());
+
+        return metrics;
+    }
+
+    /**
+     * Finishes recording the metrics of a frame and reports them to the listener.
+     *
+     * @param metrics the object returned by beginRenderMetrics(), may be null
+     */
+    protected void endRenderMetrics(RenderMetrics metrics) {
+
+        if (metrics == null || mRenderMetricsListener == null)
+            return;
+
+        metrics.endFrame();
+        mRenderMetricsListener.onFrameRendered(this, metrics);
+    }
+
     /**
      * Sets a gesture-listener for the chart for custom callbacks when executing
      * gestures on the chart surface.
@@ -15,6 +15,7 @@ import com.github.mikephil.charting.highlight.PieHighlighter;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.renderer.PieChartRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderMetrics;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.List;
@@ -47,6 +48,17 @@ public class PieChart extends PieRadarChartBase<PieData> {
      */
     private float[] mAbsoluteAngles = new float[1];
 
+    /**
+     * buffer for the angles of the slices if there is a minimum angle
+     */
+    private float[] mMinAngles = new float[1];
+
+    /**
+     * incremented whenever the angles are calculated, lets the renderer reuse the slice
+     * geometry until the data changes
+     */
+    private int mAnglesVersion = 0;
+
     /**
      * if true, the white hole inside the chart will be drawn
      */
@@ -129,20 +141,55 @@ public class PieChart extends PieRadarChartBase<PieData> {
         if (mData == null)
             return;
 
+        // null if no one is interested in the metrics
+        final RenderMetrics metrics = beginRenderMetrics();
+
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_DATA);
+
         mRenderer.drawData(canvas);
 
-        if (valuesToHighlight())
+        if (metrics != null)
+            metrics.endPhase();
+
+        if (valuesToHighlight()) {
+            if (metrics != null)
+                metrics.beginPhase(RenderMetrics.Phase.DRAW_HIGHLIGHTED);
+
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
+            if (metrics != null)
+                metrics.endPhase();
+        }
+
         mRenderer.drawExtras(canvas);
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_VALUES);
+
         mRenderer.drawValues(canvas);
 
+        if (metrics != null) {
+            metrics.endPhase();
+            metrics.beginPhase(RenderMetrics.Phase.RENDER_LEGEND);
+        }
+
         mLegendRenderer.renderLegend(canvas);
 
+        if (metrics != null)
+            metrics.endPhase();
+
         drawDescription(canvas);
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_MARKERS);
+
         drawMarkers(canvas);
+
+        if (metrics != null)
+            metrics.endPhase();
+
+        endRenderMetrics(metrics);
     }
 
     @Override
@@ -235,7 +282,11 @@ public class PieChart extends PieRadarChartBase<PieData> {
         List<IPieDataSet> dataSets = mData.getDataSets();
 
         boolean hasMinAngle = mMinAngleForSlices != 0f && entryCount * mMinAngleForSlices <= mMaxAngle;
-        float[] minAngles = new float[entryCount];
+
+        if (hasMinAngle && mMinAngles.length != entryCount)
+            mMinAngles = new float[entryCount];
+
+        float[] minAngles = mMinAngles;
 
         int cnt = 0;
         float offset = 0f;
@@ -284,8 +335,20 @@ public class PieChart extends PieRadarChartBase<PieData> {
                 }
             }
 
-            mDrawAngles = minAngles;
+            System.arraycopy(minAngles, 0, mDrawAngles, 0, entryCount);
         }
+
+        mAnglesVersion++;
+    }
+
+    /**
+     * Returns a number that changes whenever the angles of the slices are calculated, i.e.
+     * when the data changed.
+     *
+     * @return
+     */
+    public int getAnglesVersion() {
+        return mAnglesVersion;
     }
 
     /**
@@ -103,7 +103,7 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
         calcMinMax();
 
         if (mLegend != null)
-            mLegendRenderer.computeLegend(mData);
+            computeLegend();
 
         calculateOffsets();
     }
@@ -14,6 +14,7 @@ import com.github.mikephil.charting.highlight.RadarHighlighter;
 import com.github.mikephil.charting.renderer.RadarChartRenderer;
 import com.github.mikephil.charting.renderer.XAxisRendererRadarChart;
 import com.github.mikephil.charting.renderer.YAxisRendererRadarChart;
+import com.github.mikephil.charting.utils.RenderMetrics;
 import com.github.mikephil.charting.utils.Utils;
 
 /**
@@ -115,7 +116,7 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
         if (mLegend != null && !mLegend.isLegendCustom())
-            mLegendRenderer.computeLegend(mData);
+            computeLegend();
 
         calculateOffsets();
     }
@@ -127,37 +128,90 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mData == null)
             return;
 
+        // null if no one is interested in the metrics
+        final RenderMetrics metrics = beginRenderMetrics();
+
 //        if (mYAxis.isEnabled())
 //            mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
 
-        if (mXAxis.isEnabled())
+        if (mXAxis.isEnabled()) {
+            if (metrics != null)
+                metrics.beginPhase(RenderMetrics.Phase.COMPUTE_AXIS);
+
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
+            if (metrics != null)
+                metrics.endPhase();
+        }
+
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.RENDER_AXIS_LABELS);
+
         mXAxisRenderer.renderAxisLabels(canvas);
 
+        if (metrics != null)
+            metrics.endPhase();
+
         if (mDrawWeb)
             mRenderer.drawExtras(canvas);
 
         if (mYAxis.isEnabled() && mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_DATA);
+
         mRenderer.drawData(canvas);
 
-        if (valuesToHighlight())
+        if (metrics != null)
+            metrics.endPhase();
+
+        if (valuesToHighlight()) {
+            if (metrics != null)
+                metrics.beginPhase(RenderMetrics.Phase.DRAW_HIGHLIGHTED);
+
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
+            if (metrics != null)
+                metrics.endPhase();
+        }
+
         if (mYAxis.isEnabled() && !mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.RENDER_AXIS_LABELS);
+
         mYAxisRenderer.renderAxisLabels(canvas);
 
+        if (metrics != null) {
+            metrics.endPhase();
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_VALUES);
+        }
+
         mRenderer.drawValues(canvas);
 
+        if (metrics != null) {
+            metrics.endPhase();
+            metrics.beginPhase(RenderMetrics.Phase.RENDER_LEGEND);
+        }
+
         mLegendRenderer.renderLegend(canvas);
 
+        if (metrics != null)
+            metrics.endPhase();
+
         drawDescription(canvas);
 
+        if (metrics != null)
+            metrics.beginPhase(RenderMetrics.Phase.DRAW_MARKERS);
+
         drawMarkers(canvas);
+
+        if (metrics != null)
+            metrics.endPhase();
+
+        endRenderMetrics(metrics);
     }
 
     /**
@@ -5,6 +5,7 @@ import android.content.Context;
 import android.util.AttributeSet;
 
 import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.highlight.NearestPointHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.renderer.ScatterChartRenderer;
 
@@ -36,6 +37,8 @@ public class ScatterChart extends BarLineChartBase<ScatterData> implements Scatt
 
         mRenderer = new ScatterChartRenderer(this, mAnimator, mViewPortHandler);
 
+        setHighlighter(new NearestPointHighlighter(this));
+
         getXAxis().setSpaceMin(0.5f);
         getXAxis().setSpaceMax(0.5f);
     }
@@ -5,6 +5,7 @@ import android.graphics.DashPathEffect;
 import android.util.Log;
 
 import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
+import com.github.mikephil.charting.formatter.FormattedLabelCache;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -23,6 +24,11 @@ public abstract class AxisBase extends ComponentBase {
      */
     protected ValueFormatter mAxisValueFormatter;
 
+    /**
+     * the labels of cacheable formatters, reused while zooming and dragging
+     */
+    protected FormattedLabelCache mLabelCache = new FormattedLabelCache(64);
+
     private int mGridColor = Color.GRAY;
 
     private float mGridLineWidth = 1f;
@@ -518,7 +524,31 @@ public abstract class AxisBase extends ComponentBase {
         if (index < 0 || index >= mEntries.length)
             return "";
         else
-            return getValueFormatter().getAxisLabel(mEntries[index], this);
+            return getLabelForValue(mEntries[index]);
+    }
+
+    /**
+     * Returns the label of the given value, formatted by the formatter of this axis. The
+     * labels of cacheable formatters (see ValueFormatter.isCacheable()) are cached.
+     *
+     * @param value
+     * @return
+     */
+    public String getLabelForValue(float value) {
+
+        ValueFormatter formatter = getValueFormatter();
+
+        if (!formatter.isCacheable())
+            return formatter.getAxisLabel(value, this);
+
+        String label = mLabelCache.get(formatter, value);
+
+        if (label == null) {
+            label = formatter.getAxisLabel(value, this);
+            mLabelCache.put(formatter, value, label);
+        }
+
+        return label;
     }
 
     /**
@@ -536,6 +566,8 @@ public abstract class AxisBase extends ComponentBase {
             mAxisValueFormatter = new DefaultAxisValueFormatter(mDecimals);
         else
             mAxisValueFormatter = f;
+
+        mLabelCache.clear();
     }
 
     /**
@@ -88,6 +88,11 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     protected boolean mVisible = true;
 
+    /**
+     * counter that is incremented whenever the values of this DataSet change
+     */
+    protected int mDataVersion = 0;
+
     /**
      * Default constructor.
      */
@@ -114,9 +119,43 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * Use this method to tell the data set that the underlying data has changed.
      */
     public void notifyDataSetChanged() {
+        mDataVersion++;
         calcMinMax();
     }
 
+    @Override
+    public int getDataVersion() {
+        return mDataVersion;
+    }
+
+    /**
+     * Reads the x-value through getEntryForIndex(...), 0 if there is no Entry at the index
+     * (e.g. in sparse DataSets). Override this in DataSets that can return the value without
+     * creating or looking up an Entry object.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public float getX(int index) {
+        T e = getEntryForIndex(index);
+        return e != null ? e.getX() : 0f;
+    }
+
+    /**
+     * Reads the y-value through getEntryForIndex(...), 0 if there is no Entry at the index
+     * (e.g. in sparse DataSets). Override this in DataSets that can return the value without
+     * creating or looking up an Entry object.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public float getY(int index) {
+        T e = getEntryForIndex(index);
+        return e != null ? e.getY() : 0f;
+    }
+
 
     /**
      * ###### ###### COLOR GETTING RELATED METHODS ##### ######
@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.data;
 
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.utils.KdTree;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
@@ -14,6 +15,11 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
 
     private float mHighlightCircleWidth = 2.5f;
 
+    /**
+     * index for finding the value closest to a touch position
+     */
+    protected final SpatialIndexSupport mSpatialIndex = new SpatialIndexSupport();
+
     public BubbleDataSet(List<BubbleEntry> yVals, String label) {
         super(yVals, label);
     }
@@ -39,6 +45,32 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
         }
     }
 
+    /**
+     * Enables / disables the spatial index of this DataSet. With the index enabled, the
+     * highlighter of the chart finds the value closest to a touch position in O(log n),
+     * in both directions, instead of only looking at the values with the closest x-value.
+     * The index is built on first use and rebuilt after the values changed. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpatialIndexEnabled(boolean enabled) {
+        mSpatialIndex.setEnabled(enabled);
+    }
+
+    /**
+     * Returns true if the spatial index is enabled.
+     *
+     * @return
+     */
+    public boolean isSpatialIndexEnabled() {
+        return mSpatialIndex.isEnabled();
+    }
+
+    @Override
+    public KdTree getSpatialIndex() {
+        return mSpatialIndex.get(this);
+    }
+
     @Override
     public DataSet<BubbleEntry> copy() {
         List<BubbleEntry> entries = new ArrayList<BubbleEntry>();
@@ -53,6 +85,7 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
     protected void copy(BubbleDataSet bubbleDataSet) {
         bubbleDataSet.mHighlightCircleWidth = mHighlightCircleWidth;
         bubbleDataSet.mNormalizeSize = mNormalizeSize;
+        bubbleDataSet.setSpatialIndexEnabled(isSpatialIndexEnabled());
     }
 
     @Override
@@ -0,0 +1,187 @@
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed coarser versions of a list of candles. Level 0 are the candles themselves,
+ * each candle of level k merges two neighbouring candles of level k - 1, so it covers 2^k
+ * candles: it opens with the first, closes with the last and spans their highest high and
+ * lowest low. Candles appended at the end are merged in with O(levels) work.
+ */
+public class CandleAggregationPyramid {
+
+    /**
+     * the maximum number of levels, including level 0
+     */
+    public static final int MAX_LEVELS = 20;
+
+    /**
+     * the levels 1 and above, level k is at index k - 1
+     */
+    private final List<List<CandleEntry>> mLevels = new ArrayList<>();
+
+    /**
+     * the number of candles of level 0 that are merged into the levels
+     */
+    private int mBaseCount = 0;
+
+    /**
+     * Builds all levels from the given candles, which must be sorted by x.
+     *
+     * @param entries
+     */
+    public void build(List<CandleEntry> entries) {
+
+        mLevels.clear();
+        mBaseCount = 0;
+
+        append(entries);
+    }
+
+    /**
+     * Merges the candles that were appended to the given list since the last call into the
+     * levels. The candles that were already merged must not have changed.
+     *
+     * @param entries
+     */
+    public void append(List<CandleEntry> entries) {
+
+        for (int i = mBaseCount; i < entries.size(); i++) {
+
+            mBaseCount = i + 1;
+            update(entries, i);
+        }
+    }
+
+    /**
+     * Updates the merged candles that cover the candle at the given index, e.g. after the
+     * values of the last candle changed.
+     *
+     * @param entries
+     * @param index
+     */
+    public void update(List<CandleEntry> entries, int index) {
+
+        if (index < 0 || index >= mBaseCount)
+            return;
+
+        List<CandleEntry> children = entries;
+        int childCount = mBaseCount;
+
+        for (int level = 1; level < MAX_LEVELS && childCount > 1; level++) {
+
+            final int position = index >> level;
+            final int size = (childCount + 1) / 2;
+
+            List<CandleEntry> candles;
+
+            if (level > mLevels.size()) {
+                candles = new ArrayList<>(size);
+                mLevels.add(candles);
+            } else {
+                candles = mLevels.get(level - 1);
+            }
+
+            CandleEntry first = children.get(position * 2);
+            CandleEntry second = position * 2 + 1 < childCount ? children.get(position * 2 + 1) : null;
+
+            if (position < candles.size())
+                merge(candles.get(position), first, second);
+            else
+                candles.add(merge(new CandleEntry(0f, 0f, 0f, 0f, 0f), first, second));
+
+            children = candles;
+            childCount = size;
+        }
+    }
+
+    private static CandleEntry merge(CandleEntry out, CandleEntry first, CandleEntry second) {
+
+        if (second == null) {
+
+            out.setX(first.getX());
+            out.setOpen(first.getOpen());
+            out.setClose(first.getClose());
+            out.setHigh(first.getHigh());
+            out.setLow(first.getLow());
+
+        } else {
+
+            out.setX((first.getX() + second.getX()) / 2f);
+            out.setOpen(first.getOpen());
+            out.setClose(second.getClose());
+            out.setHigh(first.getHigh() >= second.getHigh() ? first.getHigh() : second.getHigh());
+            out.setLow(first.getLow() <= second.getLow() ? first.getLow() : second.getLow());
+        }
+
+        out.setY((out.getHigh() + out.getLow()) / 2f);
+
+        return out;
+    }
+
+    /**
+     * Returns the number of candles of level 0 that are merged into the levels.
+     *
+     * @return
+     */
+    public int getBaseCount() {
+        return mBaseCount;
+    }
+
+    /**
+     * Returns the number of levels, including level 0.
+     *
+     * @return
+     */
+    public int getLevelCount() {
+        return mLevels.size() + 1;
+    }
+
+    /**
+     * Returns the merged candles of the given level, which must be at least 1.
+     *
+     * @param level
+     * @return
+     */
+    public List<CandleEntry> getLevel(int level) {
+        return mLevels.get(level - 1);
+    }
+
+    /**
+     * Returns the index of the candle of the given level that is closest to the given
+     * x-value, rounded down or up to a candle on that side if there is one.
+     *
+     * @param level at least 1
+     * @param x
+     * @param roundUp
+     * @return
+     */
+    public int getIndex(int level, float x, boolean roundUp) {
+
+        List<CandleEntry> candles = getLevel(level);
+
+        int low = 0;
+        int high = candles.size() - 1;
+
+        // the first candle with an x-value larger than x
+        while (low <= high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (candles.get(mid).getX() <= x)
+                low = mid + 1;
+            else
+                high = mid - 1;
+        }
+
+        if (roundUp) {
+            // the first candle at or after x
+            return low > 0 && candles.get(low - 1).getX() == x
+                    ? low - 1
+                    : Math.min(low, candles.size() - 1);
+        }
+
+        return Math.max(low - 1, 0);
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.mikephil.charting.data;
 
+import android.util.Log;
+
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
 
 import java.util.ArrayList;
@@ -18,4 +20,34 @@ public class CandleData extends BarLineScatterCandleBubbleData<ICandleDataSet> {
     public CandleData(ICandleDataSet... dataSets) {
         super(dataSets);
     }
+
+    /**
+     * Adds a trade to the candle of its time bucket in the CandleDataSet at the given index,
+     * see CandleDataSet.addTick(...), and extends the bounds of the data. Costs O(log n) per
+     * tick at most, instead of the O(n) of notifyDataChanged(). Call notifyDataSetChanged()
+     * and invalidate() on the chart afterwards to show the tick.
+     *
+     * @param dataSetIndex
+     * @param timestamp
+     * @param price
+     * @param volume
+     * @return the index of the candle the tick went into, -1 if there is no CandleDataSet at
+     * the given index
+     */
+    public int addTick(int dataSetIndex, long timestamp, float price, float volume) {
+
+        if (dataSetIndex < 0 || dataSetIndex >= mDataSets.size()
+                || !(mDataSets.get(dataSetIndex) instanceof CandleDataSet)) {
+            Log.e("addTick", "Cannot add tick because there is no CandleDataSet at the index.");
+            return -1;
+        }
+
+        CandleDataSet set = (CandleDataSet) mDataSets.get(dataSetIndex);
+
+        int index = set.addTick(timestamp, price, volume);
+
+        calcMinMax(set);
+
+        return index;
+    }
 }
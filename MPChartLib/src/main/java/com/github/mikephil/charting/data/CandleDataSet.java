@@ -73,6 +73,37 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
      */
     protected int mShadowColor = ColorTemplate.COLOR_SKIP;
 
+    /**
+     * coarser levels of the candles for drawing when zoomed out, null if disabled
+     */
+    protected CandleAggregationPyramid mAggregationPyramid;
+
+    /**
+     * true if the aggregation pyramid needs to be rebuilt
+     */
+    protected boolean mAggregationInvalid = true;
+
+    /**
+     * the duration of the candles created by addTick(...), in the unit of the timestamps
+     */
+    private long mTickBucketSize = 60000L;
+
+    /**
+     * the timestamp at which the candle with the x-value 0 starts
+     */
+    private long mTickOrigin = 0L;
+
+    /**
+     * false if the origin is taken from the first tick
+     */
+    private boolean mTickOriginSet = false;
+
+    /**
+     * the largest distance from the origin, in candles, at which the x-values of the candles
+     * are still exact floats
+     */
+    private static final long MAX_TICK_BUCKET = 1L << 24;
+
     public CandleDataSet(List<CandleEntry> yVals, String label) {
         super(yVals, label);
     }
@@ -101,6 +132,250 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
         candleDataSet.mIncreasingColor = mIncreasingColor;
         candleDataSet.mDecreasingColor = mDecreasingColor;
         candleDataSet.mShadowColor = mShadowColor;
+        candleDataSet.setAggregationEnabled(isAggregationEnabled());
+    }
+
+    @Override
+    public void calcMinMax() {
+        super.calcMinMax();
+
+        // the entries may have changed in any way
+        mAggregationInvalid = true;
+    }
+
+    @Override
+    public void addEntryOrdered(CandleEntry e) {
+
+        // inserting before the last entry shifts the merged candles
+        if (e != null && getEntryCount() > 0
+                && getEntryForIndex(getEntryCount() - 1).getX() > e.getX())
+            mAggregationInvalid = true;
+
+        super.addEntryOrdered(e);
+    }
+
+    @Override
+    public boolean removeEntry(CandleEntry e) {
+
+        boolean removed = super.removeEntry(e);
+
+        if (removed)
+            mAggregationInvalid = true;
+
+        return removed;
+    }
+
+    /**
+     * Enables / disables the aggregation of candles. If enabled, coarser levels that merge
+     * 2, 4, 8, ... neighbouring candles are kept, and the renderer draws the level in which
+     * the candles are about one pixel wide, so that zooming out on a long history does not
+     * draw many candles per pixel. Entries appended with addEntry(...) or addEntryOrdered(...)
+     * are merged in incrementally, if the values of an entry are changed in place, call
+     * notifyEntryChanged(...). Costs about one more CandleEntry per entry. Default: false
+     *
+     * @param enabled
+     */
+    public void setAggregationEnabled(boolean enabled) {
+
+        if (enabled && mAggregationPyramid == null) {
+            mAggregationPyramid = new CandleAggregationPyramid();
+            mAggregationInvalid = true;
+        } else if (!enabled) {
+            mAggregationPyramid = null;
+        }
+    }
+
+    /**
+     * Returns true if the aggregation of candles is enabled.
+     *
+     * @return
+     */
+    public boolean isAggregationEnabled() {
+        return mAggregationPyramid != null;
+    }
+
+    /**
+     * Updates the aggregated candles after the values of the entry at the given index were
+     * changed in place, e.g. the close of the last candle.
+     *
+     * @param index
+     */
+    public void notifyEntryChanged(int index) {
+
+        mDataVersion++;
+
+        if (mAggregationPyramid != null && !mAggregationInvalid)
+            mAggregationPyramid.update(mEntries, index);
+    }
+
+    /**
+     * Sets the duration of the candles that addTick(...) builds, in the unit of the
+     * timestamps. The candle with the x-value 0 starts at the bucket of the next tick, e.g.
+     * the minute it falls into, and the candles after it count up from there. Use
+     * setTickBuckets(bucketSize, origin) if the DataSet already holds candles.
+     * Default: 60000 (one minute in milliseconds)
+     *
+     * @param bucketSize
+     */
+    public void setTickBuckets(long bucketSize) {
+
+        if (bucketSize <= 0)
+            throw new IllegalArgumentException("The bucket size must be positive.");
+
+        mTickBucketSize = bucketSize;
+        mTickOriginSet = false;
+    }
+
+    /**
+     * Sets the duration of the candles that addTick(...) builds, in the unit of the
+     * timestamps, and the timestamp at which the candle with the x-value 0 starts. The candle
+     * of a tick gets the x-value floor((timestamp - origin) / bucketSize), which needs to be
+     * within 2^24 candles of the origin to be exact as a float. Use a recent origin for
+     * timestamps like epoch milliseconds.
+     *
+     * @param bucketSize
+     * @param origin
+     */
+    public void setTickBuckets(long bucketSize, long origin) {
+
+        if (bucketSize <= 0)
+            throw new IllegalArgumentException("The bucket size must be positive.");
+
+        mTickBucketSize = bucketSize;
+        mTickOrigin = origin;
+        mTickOriginSet = true;
+    }
+
+    public long getTickBucketSize() {
+        return mTickBucketSize;
+    }
+
+    /**
+     * Returns the timestamp at which the candle with the x-value 0 starts. Only valid after
+     * the first tick if no origin has been set.
+     *
+     * @return
+     */
+    public long getTickOrigin() {
+        return mTickOrigin;
+    }
+
+    /**
+     * Adds a trade to the candle of its time bucket. A tick in the bucket of the last candle
+     * updates that candle in place: its close, high, low and volume. A tick in a later bucket
+     * opens a new candle. A late tick for an earlier bucket only extends the high, low and
+     * volume of its candle (or adds a candle if the bucket has none). The bounds of the
+     * DataSet are adjusted incrementally, so calling notifyDataSetChanged() on the DataSet
+     * is not needed.
+     *
+     * @param timestamp
+     * @param price
+     * @param volume
+     * @return the index of the candle the tick went into
+     * @throws IllegalArgumentException if the tick is more than 2^24 candles from the origin
+     */
+    public int addTick(long timestamp, float price, float volume) {
+
+        if (!mTickOriginSet) {
+            mTickOrigin = floorBucket(timestamp) * mTickBucketSize;
+            mTickOriginSet = true;
+        }
+
+        // kept as a long until it is known to be exact as a float, neighbouring epoch
+        // milliseconds buckets would merge otherwise
+        final long bucket = floorBucket(timestamp - mTickOrigin);
+
+        if (Math.abs(bucket) > MAX_TICK_BUCKET)
+            throw new IllegalArgumentException("The tick is too far from the origin of the candles, "
+                    + "set a closer origin with setTickBuckets(bucketSize, origin).");
+
+        final float x = (float) bucket;
+        final int count = getEntryCount();
+
+        if (count == 0 || getEntryForIndex(count - 1).getX() < x) {
+
+            CandleEntry e = new CandleEntry(x, price, price, price, price);
+            e.setVolume(volume);
+            addEntry(e);
+
+            return count;
+        }
+
+        int index = count - 1;
+
+        if (getEntryForIndex(index).getX() != x) {
+
+            index = getEntryIndex(x, Float.NaN, Rounding.CLOSEST);
+
+            if (getEntryForIndex(index).getX() != x) {
+
+                CandleEntry e = new CandleEntry(x, price, price, price, price);
+                e.setVolume(volume);
+                addEntryOrdered(e);
+
+                return getEntryIndex(e);
+            }
+        }
+
+        CandleEntry e = getEntryForIndex(index);
+
+        if (index == count - 1)
+            e.setClose(price);
+
+        if (price > e.getHigh())
+            e.setHigh(price);
+
+        if (price < e.getLow())
+            e.setLow(price);
+
+        e.setY((e.getHigh() + e.getLow()) / 2f);
+        e.setVolume(e.getVolume() + volume);
+
+        // the candle only grows, so the bounds can be extended
+        calcMinMax(e);
+
+        if (mYRangeIndex != null)
+            updateYRangeIndex(index);
+
+        notifyEntryChanged(index);
+
+        return index;
+    }
+
+    /**
+     * Returns the bucket of the given offset, rounded towards negative infinity.
+     */
+    private long floorBucket(long offset) {
+
+        long bucket = offset / mTickBucketSize;
+
+        if (offset % mTickBucketSize != 0 && offset < 0)
+            bucket--;
+
+        return bucket;
+    }
+
+    @Override
+    public CandleAggregationPyramid getAggregationPyramid() {
+
+        if (mAggregationPyramid == null)
+            return null;
+
+        // the entries might have been modified without notifying the DataSet
+        if (mAggregationInvalid || mAggregationPyramid.getBaseCount() > mEntries.size()) {
+            mAggregationPyramid.build(mEntries);
+            mAggregationInvalid = false;
+        } else if (mAggregationPyramid.getBaseCount() < mEntries.size()) {
+            mAggregationPyramid.append(mEntries);
+        }
+
+        return mAggregationPyramid;
+    }
+
+    @Override
+    protected boolean canCalcMinMaxFromYRangeIndex() {
+        // the index holds the high and low of each candle, which are its bounds
+        return true;
     }
 
     @Override
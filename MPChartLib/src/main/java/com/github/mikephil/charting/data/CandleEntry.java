@@ -24,6 +24,9 @@ public class CandleEntry extends Entry {
     /** open value */
     private float mOpen = 0f;
 
+    /** traded volume, e.g. summed up from ticks */
+    private float mVolume = 0f;
+
     /**
      * Constructor.
      * 
@@ -135,6 +138,7 @@ public class CandleEntry extends Entry {
 
         CandleEntry c = new CandleEntry(getX(), mShadowHigh, mShadowLow, mOpen,
                 mClose, getData());
+        c.mVolume = mVolume;
 
         return c;
     }
@@ -190,4 +194,17 @@ public class CandleEntry extends Entry {
     public void setOpen(float mOpen) {
         this.mOpen = mOpen;
     }
+
+    /**
+     * Returns the traded volume of the candle, 0 if not set.
+     *
+     * @return
+     */
+    public float getVolume() {
+        return mVolume;
+    }
+
+    public void setVolume(float volume) {
+        this.mVolume = volume;
+    }
 }
@@ -7,9 +7,11 @@ import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.ParallelTasks;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Class that holds all relevant data that represents the chart. That involves
@@ -53,6 +55,21 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     protected List<T> mDataSets;
 
+    /**
+     * runs the min and max calculations in parallel if set, null for sequential
+     */
+    protected Executor mParallelExecutor;
+
+    /**
+     * the minimum number of entries (of all DataSets) for the parallel calculation
+     */
+    protected int mParallelThreshold = 200000;
+
+    /**
+     * the size of the chunks large DataSets are split into for the parallel calculation
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 65536;
+
     /**
      * Default constructor.
      */
@@ -100,10 +117,16 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
     /**
      * Call this method to let the ChartData know that the underlying data has
      * changed. Calling this performs all necessary recalculations needed when
-     * the contained data has changed.
+     * the contained data has changed. With a parallel executor set and at least the
+     * parallel threshold of entries, this also recalculates the minimum and maximum values
+     * of all DataSets in parallel, like calcDataSetsMinMax().
      */
     public void notifyDataChanged() {
-        calcMinMax();
+
+        if (isParallelCalculation())
+            calcDataSetsMinMax();
+        else
+            calcMinMax();
     }
 
     /**
@@ -115,6 +138,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     public void calcMinMaxY(float fromX, float toX) {
 
+        // not parallel, this runs with every frame and is cheap with the y-range index
         for (T set : mDataSets) {
             set.calcMinMaxY(fromX, toX);
         }
@@ -123,6 +147,151 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         calcMinMax();
     }
 
+    /**
+     * Recalculates the minimum and maximum values of all DataSets, and then of this data.
+     * With a parallel executor set (and enough entries), the DataSets are calculated in
+     * parallel and large DataSets in chunks. The chunks are merged in order, so the result
+     * is the same as the sequential calculation.
+     */
+    public void calcDataSetsMinMax() {
+
+        if (mDataSets == null)
+            return;
+
+        if (!isParallelCalculation()) {
+
+            for (T set : mDataSets) {
+                set.calcMinMax();
+            }
+
+            calcMinMax();
+            return;
+        }
+
+        List<Runnable> tasks = new ArrayList<>();
+
+        // the large DataSets and the bounds of their chunks, merged after all tasks are done
+        List<DataSet<?>> chunkedSets = new ArrayList<>();
+        List<float[]> chunkBounds = new ArrayList<>();
+
+        for (final T set : mDataSets) {
+
+            final int entryCount = set.getEntryCount();
+
+            if (set instanceof DataSet && ((DataSet<?>) set).canCalcMinMaxInChunks()
+                    && entryCount >= 2 * PARALLEL_CHUNK_SIZE) {
+
+                final DataSet<?> dataSet = (DataSet<?>) set;
+                final float[] bounds = new float[(entryCount + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE * 4];
+
+                for (int from = 0; from < entryCount; from += PARALLEL_CHUNK_SIZE) {
+
+                    final int chunkFrom = from;
+                    final int chunkTo = Math.min(from + PARALLEL_CHUNK_SIZE, entryCount);
+
+                    tasks.add(new Runnable() {
+                        @Override
+                        public void run() {
+                            dataSet.calcMinMaxRange(chunkFrom, chunkTo, bounds,
+                                    chunkFrom / PARALLEL_CHUNK_SIZE * 4);
+                        }
+                    });
+                }
+
+                if (dataSet.mYRangeIndex != null) {
+                    tasks.add(new Runnable() {
+                        @Override
+                        public void run() {
+                            dataSet.buildYRangeIndex();
+                        }
+                    });
+                }
+
+                chunkedSets.add(dataSet);
+                chunkBounds.add(bounds);
+
+            } else {
+
+                tasks.add(new Runnable() {
+                    @Override
+                    public void run() {
+                        set.calcMinMax();
+                    }
+                });
+            }
+        }
+
+        ParallelTasks.runAll(mParallelExecutor, tasks);
+
+        for (int i = 0; i < chunkedSets.size(); i++) {
+
+            DataSet<?> dataSet = chunkedSets.get(i);
+            float[] bounds = chunkBounds.get(i);
+
+            dataSet.mXMin = Float.MAX_VALUE;
+            dataSet.mXMax = -Float.MAX_VALUE;
+            dataSet.mYMin = Float.MAX_VALUE;
+            dataSet.mYMax = -Float.MAX_VALUE;
+
+            for (int j = 0; j < bounds.length; j += 4) {
+
+                if (bounds[j] < dataSet.mXMin)
+                    dataSet.mXMin = bounds[j];
+
+                if (bounds[j + 1] > dataSet.mXMax)
+                    dataSet.mXMax = bounds[j + 1];
+
+                if (bounds[j + 2] < dataSet.mYMin)
+                    dataSet.mYMin = bounds[j + 2];
+
+                if (bounds[j + 3] > dataSet.mYMax)
+                    dataSet.mYMax = bounds[j + 3];
+            }
+        }
+
+        calcMinMax();
+    }
+
+    /**
+     * Sets the executor the minimum and maximum values are calculated on in parallel by
+     * notifyDataChanged() and calcDataSetsMinMax(), if the data has at least the parallel
+     * threshold of entries. The calling thread takes part in the calculation and waits for
+     * it. Set null to calculate sequentially. Default: null
+     *
+     * @param executor
+     */
+    public void setParallelExecutor(Executor executor) {
+        mParallelExecutor = executor;
+    }
+
+    public Executor getParallelExecutor() {
+        return mParallelExecutor;
+    }
+
+    /**
+     * Sets the minimum number of entries (of all DataSets) from which on the parallel
+     * executor is used, smaller data is calculated sequentially. Default: 200000
+     *
+     * @param entryCount
+     */
+    public void setParallelThreshold(int entryCount) {
+        mParallelThreshold = entryCount;
+    }
+
+    public int getParallelThreshold() {
+        return mParallelThreshold;
+    }
+
+    /**
+     * Returns true if the minimum and maximum values are calculated in parallel.
+     *
+     * @return
+     */
+    protected boolean isParallelCalculation() {
+        return mParallelExecutor != null && mDataSets != null
+                && getEntryCount() >= mParallelThreshold;
+    }
+
     /**
      * Calc minimum and maximum values (both x and y) over all DataSets.
      */
@@ -399,7 +568,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
 
         // if a DataSet was removed
         if (removed) {
-            notifyDataChanged();
+            calcMinMax();
         }
 
         return removed;
@@ -525,8 +694,9 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             // remove the entry from the dataset
             boolean removed = set.removeEntry(e);
 
+            // the DataSet has updated its own bounds
             if (removed) {
-                notifyDataChanged();
+                calcMinMax();
             }
 
             return removed;
@@ -534,6 +704,46 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             return false;
     }
 
+    /**
+     * Adds an Entry to the end of the DataSet at the specified index and removes its oldest
+     * entries so that it holds at most maxEntryCount entries afterwards. The minimum and
+     * maximum values of the data are updated once, from the bounds of the DataSets.
+     * Meant for realtime charts: with a StreamingLineDataSet, appending and evicting costs
+     * O(1) per Entry and the Entry's values are copied, so the same Entry object can be
+     * reused for every call.
+     *
+     * @param e
+     * @param dataSetIndex
+     * @param maxEntryCount the maximum number of entries the DataSet holds after adding,
+     *                      at least 1
+     */
+    public void appendAndEvict(Entry e, int dataSetIndex, int maxEntryCount) {
+
+        if (maxEntryCount < 1)
+            throw new IllegalArgumentException("The maximum entry count needs to be at least 1.");
+
+        if (e == null)
+            return;
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+
+            IDataSet set = mDataSets.get(dataSetIndex);
+
+            while (set.getEntryCount() >= maxEntryCount && set.getEntryCount() > 0) {
+                if (!set.removeFirst())
+                    break;
+            }
+
+            if (!set.addEntry(e))
+                return;
+
+            calcMinMax();
+
+        } else {
+            Log.e("appendAndEvict", "Cannot add Entry because dataSetIndex too high or too low.");
+        }
+    }
+
     /**
      * Removes the Entry object closest to the given DataSet at the
      * specified index. Returns true if an Entry was removed, false if no Entry
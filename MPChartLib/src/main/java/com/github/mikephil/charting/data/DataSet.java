@@ -1,6 +1,8 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,6 +41,12 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * index over the y-bounds of all entries, used to answer calcMinMaxY(fromX, toX) in
+     * O(log n), null if disabled
+     */
+    protected MinMaxSegmentTree mYRangeIndex;
+
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -66,6 +74,9 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         mXMax = -Float.MAX_VALUE;
         mXMin = Float.MAX_VALUE;
 
+        if (mYRangeIndex != null)
+            buildYRangeIndex();
+
         if (mEntries == null || mEntries.isEmpty())
             return;
 
@@ -87,6 +98,16 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
         if (indexTo < indexFrom) return;
 
+        // the entries might have been modified without notifying the DataSet
+        if (mYRangeIndex != null && mYRangeIndex.size() != mEntries.size())
+            buildYRangeIndex();
+
+        if (mYRangeIndex != null) {
+            mYMin = mYRangeIndex.getMin(indexFrom, indexTo);
+            mYMax = mYRangeIndex.getMax(indexFrom, indexTo);
+            return;
+        }
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -109,6 +130,61 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMaxY(e);
     }
 
+    /**
+     * Returns true if the bounds of this DataSet only depend on the x- and y-values of the
+     * entries, so that ChartData can compute the bounds of a large DataSet in chunks in
+     * parallel with calcMinMaxRange(...). Subclasses that take more into account (e.g. stacks
+     * or candle shadows) return false. Default: false
+     *
+     * @return
+     */
+    protected boolean canCalcMinMaxInChunks() {
+        return false;
+    }
+
+    /**
+     * Writes the bounds of the entries in the index range [from, to) to the given array,
+     * in the order x-min, x-max, y-min, y-max, without changing the bounds of this DataSet.
+     * Safe to call from several threads as long as the entries are not modified.
+     *
+     * @param from
+     * @param to
+     * @param out
+     * @param offset
+     */
+    protected void calcMinMaxRange(int from, int to, float[] out, int offset) {
+
+        float xMin = Float.MAX_VALUE;
+        float xMax = -Float.MAX_VALUE;
+        float yMin = Float.MAX_VALUE;
+        float yMax = -Float.MAX_VALUE;
+
+        for (int i = from; i < to; i++) {
+
+            T e = mEntries.get(i);
+
+            if (e == null)
+                continue;
+
+            if (e.getX() < xMin)
+                xMin = e.getX();
+
+            if (e.getX() > xMax)
+                xMax = e.getX();
+
+            if (e.getY() < yMin)
+                yMin = e.getY();
+
+            if (e.getY() > yMax)
+                yMax = e.getY();
+        }
+
+        out[offset] = xMin;
+        out[offset + 1] = xMax;
+        out[offset + 2] = yMin;
+        out[offset + 3] = yMax;
+    }
+
     protected void calcMinMaxX(T e) {
 
         if (e.getX() < mXMin)
@@ -127,6 +203,168 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             mYMax = e.getY();
     }
 
+    /**
+     * Enables / disables an index over the y-values of this DataSet. If enabled,
+     * calcMinMaxY(fromX, toX), which is called on every frame by charts with
+     * autoScaleMinMax enabled, answers in O(log n) instead of scanning all visible entries.
+     * The index is kept up to date by addEntry(...), addEntryOrdered(...), removeEntry(...)
+     * and notifyDataSetChanged(). Adding and removing entries at either end updates it in
+     * O(log n), so a sliding window (removeFirst() and addEntry(...) per frame) stays cheap.
+     * Inserting or removing in the middle rebuilds it in O(n) with the next query.
+     * Costs two floats per entry (times two). Default: false
+     *
+     * @param enabled
+     */
+    public void setYRangeIndexEnabled(boolean enabled) {
+
+        if (enabled && mYRangeIndex == null) {
+            mYRangeIndex = new MinMaxSegmentTree(getEntryCount());
+            buildYRangeIndex();
+        } else if (!enabled) {
+            mYRangeIndex = null;
+        }
+    }
+
+    /**
+     * Returns true if the index over the y-values is enabled.
+     *
+     * @return
+     */
+    public boolean isYRangeIndexEnabled() {
+        return mYRangeIndex != null;
+    }
+
+    /**
+     * Rebuilds the index over the y-values from all entries.
+     */
+    protected void buildYRangeIndex() {
+
+        mYRangeIndex.clear();
+
+        if (mEntries == null)
+            return;
+
+        mYRangeIndex.ensureCapacity(mEntries.size());
+
+        for (int i = 0; i < mEntries.size(); i++) {
+            addToYRangeIndex(i, mEntries.get(i), false);
+        }
+    }
+
+    /**
+     * Adds the y-bounds of the given Entry to the index at the given position. The bounds
+     * are determined with calcMinMaxY(e), so that DataSets that take more than the
+     * y-value into account (e.g. candles) are indexed the same way they are scanned.
+     *
+     * @param index
+     * @param e
+     * @param insert true to insert in between, false to append
+     */
+    protected void addToYRangeIndex(int index, T e, boolean insert) {
+
+        final float yMin = mYMin;
+        final float yMax = mYMax;
+
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+
+        calcMinMaxY(e);
+
+        if (insert)
+            mYRangeIndex.insert(index, mYMin, mYMax);
+        else
+            mYRangeIndex.add(mYMin, mYMax);
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    /**
+     * Updates the y-bounds of the Entry at the given position in the index, after its values
+     * were changed in place.
+     *
+     * @param index
+     */
+    protected void updateYRangeIndex(int index) {
+
+        final float yMin = mYMin;
+        final float yMax = mYMax;
+
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+
+        calcMinMaxY(mEntries.get(index));
+
+        mYRangeIndex.set(index, mYMin, mYMax);
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    /**
+     * Returns true if the bounds of this DataSet are the x-range of its entries and the
+     * y-bounds that calcMinMaxY(e) determines for each entry, so that they can be taken from
+     * the y-range index. Default: the same as canCalcMinMaxInChunks()
+     *
+     * @return
+     */
+    protected boolean canCalcMinMaxFromYRangeIndex() {
+        return canCalcMinMaxInChunks();
+    }
+
+    /**
+     * Recalculates the bounds in O(log n) from the y-range index and the first and last
+     * entry, instead of scanning all entries. Requires the y-range index and entries sorted
+     * by x.
+     */
+    protected void calcMinMaxFromYRangeIndex() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        if (mEntries.isEmpty())
+            return;
+
+        calcMinMaxX(mEntries.get(0));
+        calcMinMaxX(mEntries.get(mEntries.size() - 1));
+
+        mYMin = mYRangeIndex.getMin(0, mEntries.size() - 1);
+        mYMax = mYRangeIndex.getMax(0, mEntries.size() - 1);
+    }
+
+    /**
+     * Returns true if the given Entry lies on the current x- or y-bounds of this DataSet,
+     * which means they need to be recalculated if it is removed.
+     *
+     * @param e
+     * @return
+     */
+    protected boolean isOnBounds(T e) {
+
+        final float xMin = mXMin;
+        final float xMax = mXMax;
+        final float yMin = mYMin;
+        final float yMax = mYMax;
+
+        mXMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+
+        calcMinMax(e);
+
+        final boolean onBounds = mXMin <= xMin || mXMax >= xMax || mYMin <= yMin || mYMax >= yMax;
+
+        mXMin = xMin;
+        mXMax = xMax;
+        mYMin = yMin;
+        mYMax = yMax;
+
+        return onBounds;
+    }
+
     @Override
     public int getEntryCount() {
         return mEntries.size();
@@ -186,6 +424,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected void copy(DataSet dataSet) {
         super.copy(dataSet);
+        dataSet.setYRangeIndexEnabled(isYRangeIndexEnabled());
     }
 
     @Override
@@ -243,11 +482,19 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
         calcMinMax(e);
 
+        mDataVersion++;
+
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mEntries.add(closestIndex, e);
+
+            if (mYRangeIndex != null)
+                addToYRangeIndex(closestIndex, e, true);
         } else {
             mEntries.add(e);
+
+            if (mYRangeIndex != null)
+                addToYRangeIndex(mEntries.size() - 1, e, false);
         }
     }
 
@@ -271,7 +518,14 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        boolean added = values.add(e);
+
+        mDataVersion++;
+
+        if (added && mYRangeIndex != null && values == mEntries)
+            addToYRangeIndex(values.size() - 1, e, false);
+
+        return added;
     }
 
     @Override
@@ -283,10 +537,34 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries == null)
             return false;
 
+        if (mYRangeIndex != null) {
+
+            int index = mEntries.indexOf(e);
+            if (index < 0)
+                return false;
+
+            mEntries.remove(index);
+            mYRangeIndex.remove(index);
+
+            mDataVersion++;
+
+            // the bounds only change if the entry was on them
+            if (isOnBounds(e)) {
+
+                if (canCalcMinMaxFromYRangeIndex())
+                    calcMinMaxFromYRangeIndex();
+                else
+                    calcMinMax();
+            }
+
+            return true;
+        }
+
         // remove the entry
         boolean removed = mEntries.remove(e);
 
         if (removed) {
+            mDataVersion++;
             calcMinMax();
         }
 
@@ -320,18 +598,20 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
 
-        if (mEntries == null || mEntries.isEmpty())
+        final int entryCount = mEntries == null ? 0 : getEntryCount();
+
+        if (entryCount == 0)
             return -1;
 
         int low = 0;
-        int high = mEntries.size() - 1;
+        int high = entryCount - 1;
         int closest = high;
 
         while (low < high) {
             int m = (low + high) / 2;
 
-            final float d1 = mEntries.get(m).getX() - xValue,
-                    d2 = mEntries.get(m + 1).getX() - xValue,
+            final float d1 = getX(m) - xValue,
+                    d2 = getX(m + 1) - xValue,
                     ad1 = Math.abs(d1), ad2 = Math.abs(d2);
 
             if (ad2 < ad1) {
@@ -358,10 +638,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
 
         if (closest != -1) {
-            float closestXValue = mEntries.get(closest).getX();
+            float closestXValue = getX(closest);
             if (rounding == Rounding.UP) {
                 // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mEntries.size() - 1) {
+                if (closestXValue < xValue && closest < entryCount - 1) {
                     ++closest;
                 }
             } else if (rounding == Rounding.DOWN) {
@@ -373,23 +653,21 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
             // Search by closest to y-value
             if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mEntries.get(closest - 1).getX() == closestXValue)
+                while (closest > 0 && getX(closest - 1) == closestXValue)
                     closest -= 1;
 
-                float closestYValue = mEntries.get(closest).getY();
+                float closestYValue = getY(closest);
                 int closestYIndex = closest;
 
                 while (true) {
                     closest += 1;
-                    if (closest >= mEntries.size())
+                    if (closest >= entryCount)
                         break;
 
-                    final Entry value = mEntries.get(closest);
-
-                    if (value.getX() != closestXValue)
+                    if (getX(closest) != closestXValue)
                         break;
 
-                    if (Math.abs(value.getY() - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    if (Math.abs(getY(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
                         closestYValue = closestToY;
                         closestYIndex = closest;
                     }
@@ -407,25 +685,26 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
         List<T> entries = new ArrayList<T>();
 
+        final int entryCount = getEntryCount();
+
         int low = 0;
-        int high = mEntries.size() - 1;
+        int high = entryCount - 1;
 
         while (low <= high) {
             int m = (high + low) / 2;
-            T entry = mEntries.get(m);
+            float x = getX(m);
 
             // if we have a match
-            if (xValue == entry.getX()) {
-                while (m > 0 && mEntries.get(m - 1).getX() == xValue)
+            if (xValue == x) {
+                while (m > 0 && getX(m - 1) == xValue)
                     m--;
 
-                high = mEntries.size();
+                high = entryCount;
 
                 // loop over all "equal" entries
                 for (; m < high; m++) {
-                    entry = mEntries.get(m);
-                    if (entry.getX() == xValue) {
-                        entries.add(entry);
+                    if (getX(m) == xValue) {
+                        entries.add(getEntryForIndex(m));
                     } else {
                         break;
                     }
@@ -433,7 +712,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
                 break;
             } else {
-                if (xValue > entry.getX())
+                if (xValue > x)
                     low = m + 1;
                 else
                     high = m - 1;
@@ -22,6 +22,11 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      **/
     private LineDataSet.Mode mMode = Mode.LINEAR;
 
+    /**
+     * Decimation mode for this line dataset
+     **/
+    private LineDataSet.DecimationMode mDecimationMode = DecimationMode.NONE;
+
     /**
      * List representing all colors that are used for the circles
      */
@@ -105,6 +110,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDecimationMode = mDecimationMode;
     }
 
     /**
@@ -126,6 +132,24 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         mMode = mode;
     }
 
+    @Override
+    public LineDataSet.DecimationMode getDecimationMode() {
+        return mDecimationMode;
+    }
+
+    /**
+     * Sets the decimation mode for this LineDataSet. If enabled, the visible values are
+     * reduced to a few values per horizontal pixel before they are drawn. This only
+     * affects the lines, fills and circles drawn with LINEAR or STEPPED mode. Circles are
+     * only drawn for the kept values, and not at all if more values than pixels are kept.
+     * Default: NONE
+     *
+     * @param mode
+     */
+    public void setDecimationMode(LineDataSet.DecimationMode mode) {
+        mDecimationMode = mode == null ? DecimationMode.NONE : mode;
+    }
+
     /**
      * Sets the intensity for cubic lines (if enabled). Max = 1f = very cubic,
      * Min = 0.05f = low cubic effect, Default: 0.2f
@@ -408,10 +432,26 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mFillFormatter;
     }
 
+    @Override
+    protected boolean canCalcMinMaxInChunks() {
+        return true;
+    }
+
     public enum Mode {
         LINEAR,
         STEPPED,
         CUBIC_BEZIER,
         HORIZONTAL_BEZIER
     }
+
+    public enum DecimationMode {
+        /** all visible values are drawn */
+        NONE,
+        /** keeps the first, last, minimum and maximum value of every pixel column */
+        MIN_MAX_PER_PIXEL,
+        /** largest triangle three buckets, keeps about two values per pixel column */
+        LTTB,
+        /** Douglas Peucker with a budget of about two values per pixel column */
+        DOUGLAS_PEUCKER
+    }
 }
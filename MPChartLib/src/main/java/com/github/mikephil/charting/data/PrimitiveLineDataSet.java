@@ -0,0 +1,554 @@
+package com.github.mikephil.charting.data;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet that stores its x- and y-values in growable primitive float arrays
+ * instead of a List of Entry objects. This saves the object overhead of one Entry
+ * per value, which matters for DataSets with hundreds of thousands of values.
+ * Renderers access the values via getX(index) and getY(index). Entry objects are
+ * only created on demand, e.g. when getEntryForIndex(...) or getEntries() is used
+ * by legacy code. Entries handed out this way are copies, modifying them does not
+ * modify the DataSet.
+ *
+ * LineChartRenderer draws lines, fills, circles and highlights from getX/getY. These
+ * paths still create Entry objects: value labels and icons (one per visible value while
+ * values are drawn, see setDrawValues(...) and the chart's max visible value count),
+ * getEntryForXValue(...) and getEntriesForXValue(...) (one per returned Entry), and the
+ * getEntries() list view.
+ *
+ * IMPORTANT: The x-values need to be added in ascending order (or with
+ * addEntryOrdered(...)), as with any other DataSet.
+ */
+public class PrimitiveLineDataSet extends LineDataSet {
+
+    /**
+     * the x-values this DataSet holds, only the first mSize values are valid
+     */
+    protected float[] mXValues;
+
+    /**
+     * the y-values this DataSet holds, only the first mSize values are valid
+     */
+    protected float[] mYValues;
+
+    /**
+     * the number of values this DataSet holds
+     */
+    protected int mSize;
+
+    public PrimitiveLineDataSet(String label) {
+        this(16, label);
+    }
+
+    /**
+     * Creates an empty DataSet that can hold the given number of values without resizing.
+     *
+     * @param initialCapacity
+     * @param label
+     */
+    public PrimitiveLineDataSet(int initialCapacity, String label) {
+        super(null, label);
+        initColumns(new float[Math.max(initialCapacity, 1)], new float[Math.max(initialCapacity, 1)], 0);
+    }
+
+    /**
+     * Creates a DataSet that uses the provided arrays as storage (they are NOT copied).
+     * The first count values of both arrays are used.
+     *
+     * @param xValues
+     * @param yValues
+     * @param count
+     * @param label
+     */
+    public PrimitiveLineDataSet(float[] xValues, float[] yValues, int count, String label) {
+        super(null, label);
+
+        if (xValues.length < count || yValues.length < count)
+            throw new IllegalArgumentException("The value arrays are smaller than the given count.");
+
+        initColumns(xValues, yValues, count);
+    }
+
+    /**
+     * Creates a DataSet that holds the x- and y-values of the given entries.
+     *
+     * @param entries
+     * @param label
+     */
+    public PrimitiveLineDataSet(List<Entry> entries, String label) {
+        this(1, label);
+        setEntries(entries);
+    }
+
+    private void initColumns(float[] xValues, float[] yValues, int count) {
+        mXValues = xValues;
+        mYValues = yValues;
+        mSize = count;
+        mEntries = new EntryList();
+        calcMinMax();
+    }
+
+    /**
+     * Makes sure the value arrays can hold at least the given number of values.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXValues.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXValues.length + (mXValues.length >> 1));
+
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mYValues = Arrays.copyOf(mYValues, newCapacity);
+    }
+
+    /**
+     * Appends the given value to the end of this DataSet and updates the minimum and maximum values.
+     *
+     * @param x
+     * @param y
+     */
+    public void addValue(float x, float y) {
+
+        ensureCapacity(mSize + 1);
+
+        mXValues[mSize] = x;
+        mYValues[mSize] = y;
+        mSize++;
+        mDataVersion++;
+
+        if (mYRangeIndex != null)
+            mYRangeIndex.add(y, y);
+
+        calcMinMax(x, y);
+    }
+
+    /**
+     * Appends count values from the given arrays (starting at offset) to the end of this
+     * DataSet and updates the minimum and maximum values.
+     *
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param count
+     */
+    public void addValues(float[] xValues, float[] yValues, int offset, int count) {
+
+        ensureCapacity(mSize + count);
+
+        System.arraycopy(xValues, offset, mXValues, mSize, count);
+        System.arraycopy(yValues, offset, mYValues, mSize, count);
+
+        mDataVersion++;
+
+        for (int i = mSize; i < mSize + count; i++) {
+            calcMinMax(mXValues[i], mYValues[i]);
+
+            if (mYRangeIndex != null)
+                mYRangeIndex.add(mYValues[i], mYValues[i]);
+        }
+
+        mSize += count;
+    }
+
+    /**
+     * Returns the array holding the x-values. Only the first getEntryCount() values are valid.
+     * Do not modify.
+     *
+     * @return
+     */
+    public float[] getXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the array holding the y-values. Only the first getEntryCount() values are valid.
+     * Do not modify.
+     *
+     * @return
+     */
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mSize;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+
+        if (index < 0 || index >= mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        return new Entry(mXValues[index], mYValues[index]);
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        // called by the super constructor before the arrays exist
+        if (mXValues == null)
+            return;
+
+        for (int i = 0; i < mSize; i++) {
+            calcMinMax(mXValues[i], mYValues[i]);
+        }
+
+        if (mYRangeIndex != null)
+            buildYRangeIndex();
+    }
+
+    @Override
+    protected void calcMinMaxFromYRangeIndex() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        if (mSize == 0)
+            return;
+
+        mXMin = mXValues[0];
+        mXMax = mXValues[mSize - 1];
+        mYMin = mYRangeIndex.getMin(0, mSize - 1);
+        mYMax = mYRangeIndex.getMax(0, mSize - 1);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mSize == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        if (mYRangeIndex != null) {
+            mYMin = mYRangeIndex.getMin(indexFrom, indexTo);
+            mYMax = mYRangeIndex.getMax(indexFrom, indexTo);
+            return;
+        }
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            final float y = mYValues[i];
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected void buildYRangeIndex() {
+
+        mYRangeIndex.clear();
+        mYRangeIndex.ensureCapacity(mSize);
+
+        for (int i = 0; i < mSize; i++) {
+            mYRangeIndex.add(mYValues[i], mYValues[i]);
+        }
+    }
+
+    @Override
+    protected void calcMinMaxRange(int from, int to, float[] out, int offset) {
+
+        float xMin = Float.MAX_VALUE;
+        float xMax = -Float.MAX_VALUE;
+        float yMin = Float.MAX_VALUE;
+        float yMax = -Float.MAX_VALUE;
+
+        for (int i = from; i < to; i++) {
+
+            final float x = mXValues[i];
+            final float y = mYValues[i];
+
+            if (x < xMin)
+                xMin = x;
+
+            if (x > xMax)
+                xMax = x;
+
+            if (y < yMin)
+                yMin = y;
+
+            if (y > yMax)
+                yMax = y;
+        }
+
+        out[offset] = xMin;
+        out[offset + 1] = xMax;
+        out[offset + 2] = yMin;
+        out[offset + 3] = yMax;
+    }
+
+    private void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        final int count = entries == null ? 0 : entries.size();
+
+        float[] xValues = new float[Math.max(count, 1)];
+        float[] yValues = new float[Math.max(count, 1)];
+
+        for (int i = 0; i < count; i++) {
+            Entry e = entries.get(i);
+            xValues[i] = e.getX();
+            yValues[i] = e.getY();
+        }
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mSize = count;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addValue(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        if (mSize > 0 && mXValues[mSize - 1] > e.getX()) {
+            insertValue(getEntryIndex(e.getX(), e.getY(), Rounding.UP), e.getX(), e.getY());
+        } else {
+            addValue(e.getX(), e.getY());
+        }
+    }
+
+    private void insertValue(int index, float x, float y) {
+
+        ensureCapacity(mSize + 1);
+
+        System.arraycopy(mXValues, index, mXValues, index + 1, mSize - index);
+        System.arraycopy(mYValues, index, mYValues, index + 1, mSize - index);
+
+        mXValues[index] = x;
+        mYValues[index] = y;
+        mSize++;
+        mDataVersion++;
+
+        if (mYRangeIndex != null)
+            mYRangeIndex.insert(index, y, y);
+
+        calcMinMax(x, y);
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mSize)
+            return false;
+
+        final float x = mXValues[index];
+        final float y = mYValues[index];
+
+        removeValueAt(index);
+
+        // the bounds only change if the removed value was on them
+        if (x <= mXMin || x >= mXMax || y <= mYMin || y >= mYMax) {
+
+            if (mYRangeIndex != null)
+                calcMinMaxFromYRangeIndex();
+            else
+                calcMinMax();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mSize - 1);
+    }
+
+    private void removeValueAt(int index) {
+
+        System.arraycopy(mXValues, index + 1, mXValues, index, mSize - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mSize - index - 1);
+        mSize--;
+        mDataVersion++;
+
+        if (mYRangeIndex != null)
+            mYRangeIndex.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        mSize = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the index of a value that has the same x- and y-value as the given Entry,
+     * -1 if there is none. Entries can not be compared by identity because they are
+     * created on demand.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null || mSize == 0)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), e.getY(), Rounding.CLOSEST);
+
+        if (index < 0 || mXValues[index] != e.getX() || mYValues[index] != e.getY())
+            return -1;
+
+        return index;
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getEntryIndex(e) > -1;
+    }
+
+    @Override
+    public int getIndexInEntries(int xIndex) {
+
+        for (int i = 0; i < mSize; i++) {
+            if (xIndex == mXValues[i])
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        PrimitiveLineDataSet copied = new PrimitiveLineDataSet(
+                Arrays.copyOf(mXValues, mXValues.length),
+                Arrays.copyOf(mYValues, mYValues.length),
+                mSize, getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * List view of the values that creates Entry objects on demand. Used as mEntries so
+     * that code working with getEntries() keeps working.
+     */
+    private class EntryList extends AbstractList<Entry> {
+
+        @Override
+        public Entry get(int index) {
+            return getEntryForIndex(index);
+        }
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+
+        @Override
+        public Entry set(int index, Entry e) {
+            Entry previous = getEntryForIndex(index);
+            mXValues[index] = e.getX();
+            mYValues[index] = e.getY();
+            mDataVersion++;
+
+            if (mYRangeIndex != null)
+                mYRangeIndex.set(index, e.getY(), e.getY());
+
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Entry e) {
+
+            if (index < 0 || index > mSize)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+            modCount++;
+            insertValue(index, e.getX(), e.getY());
+        }
+
+        @Override
+        public Entry remove(int index) {
+            Entry previous = getEntryForIndex(index);
+            modCount++;
+            removeValueAt(index);
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            mSize = 0;
+            mDataVersion++;
+
+            if (mYRangeIndex != null)
+                mYRangeIndex.clear();
+        }
+    }
+}
@@ -99,6 +99,11 @@ public class RadarDataSet extends LineRadarDataSet<RadarEntry> implements IRadar
         mHighlightCircleStrokeWidth = strokeWidth;
     }
 
+    @Override
+    protected boolean canCalcMinMaxInChunks() {
+        return true;
+    }
+
     @Override
     public DataSet<RadarEntry> copy() {
         List<RadarEntry> entries = new ArrayList<RadarEntry>();
@@ -12,6 +12,7 @@ import com.github.mikephil.charting.renderer.scatter.SquareShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.TriangleShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.XShapeRenderer;
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.KdTree;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,10 +42,46 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
      */
     private int mScatterShapeHoleColor = ColorTemplate.COLOR_NONE;
 
+    /**
+     * index for finding the value closest to a touch position
+     */
+    protected final SpatialIndexSupport mSpatialIndex = new SpatialIndexSupport();
+
     public ScatterDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
     }
 
+    /**
+     * Enables / disables the spatial index of this DataSet. With the index enabled, the
+     * highlighter of the chart finds the value closest to a touch position in O(log n),
+     * in both directions, instead of only looking at the values with the closest x-value.
+     * The index is built on first use and rebuilt after the values changed. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpatialIndexEnabled(boolean enabled) {
+        mSpatialIndex.setEnabled(enabled);
+    }
+
+    /**
+     * Returns true if the spatial index is enabled.
+     *
+     * @return
+     */
+    public boolean isSpatialIndexEnabled() {
+        return mSpatialIndex.isEnabled();
+    }
+
+    @Override
+    public KdTree getSpatialIndex() {
+        return mSpatialIndex.get(this);
+    }
+
+    @Override
+    protected boolean canCalcMinMaxInChunks() {
+        return true;
+    }
+
     @Override
     public DataSet<Entry> copy() {
         List<Entry> entries = new ArrayList<Entry>();
@@ -62,6 +99,7 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         scatterDataSet.mShapeRenderer = mShapeRenderer;
         scatterDataSet.mScatterShapeHoleRadius = mScatterShapeHoleRadius;
         scatterDataSet.mScatterShapeHoleColor = mScatterShapeHoleColor;
+        scatterDataSet.setSpatialIndexEnabled(isSpatialIndexEnabled());
     }
 
     /**
@@ -0,0 +1,55 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.KdTree;
+
+/**
+ * The optional spatial index of a DataSet, used by the DataSets whose values are highlighted
+ * by their distance to the touch position in both directions (scatter and bubble). The index
+ * is built on first use and rebuilt whenever the data version of the DataSet changed, i.e.
+ * after notifyDataSetChanged() or adding / removing values.
+ */
+public class SpatialIndexSupport {
+
+    /**
+     * the index, null if disabled
+     */
+    private KdTree mIndex;
+
+    /**
+     * Enables / disables the index.
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+
+        if (enabled && mIndex == null)
+            mIndex = new KdTree();
+        else if (!enabled)
+            mIndex = null;
+    }
+
+    /**
+     * Returns true if the index is enabled.
+     *
+     * @return
+     */
+    public boolean isEnabled() {
+        return mIndex != null;
+    }
+
+    /**
+     * Returns the index, up to date with the values of the given DataSet, or null if the
+     * index is not enabled.
+     *
+     * @param set the DataSet this index belongs to
+     * @return
+     */
+    public KdTree get(IDataSet set) {
+
+        if (mIndex != null)
+            mIndex.update(set);
+
+        return mIndex;
+    }
+}
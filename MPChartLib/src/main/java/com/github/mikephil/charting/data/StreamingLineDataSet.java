@@ -0,0 +1,551 @@
+package com.github.mikephil.charting.data;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * LineDataSet with a fixed capacity for realtime charts. The values are stored in a
+ * circular buffer of primitive floats: appending a value to a full DataSet evicts the
+ * oldest value, both in O(1) and without allocations. The minimum and maximum y-values
+ * are tracked with monotonic queues, so they are also kept up to date in amortized O(1)
+ * instead of rescanning all values on every removal.
+ *
+ * As with PrimitiveLineDataSet, Entry objects are only created for value labels,
+ * getEntryForXValue(...), getEntriesForXValue(...) and the getEntries() list view.
+ *
+ * IMPORTANT: Values need to be appended in ascending x-order. Inserting or removing
+ * values anywhere else than at the ends is supported, but costs O(n).
+ */
+public class StreamingLineDataSet extends LineDataSet {
+
+    /**
+     * circular buffers holding the x- and y-values
+     */
+    protected float[] mXValues;
+    protected float[] mYValues;
+
+    /**
+     * the slot of the oldest value
+     */
+    protected int mHead;
+
+    /**
+     * the number of values this DataSet holds
+     */
+    protected int mSize;
+
+    /**
+     * slots of the candidates for the minimum y-value, ascending y-values from oldest to newest
+     */
+    private SlotQueue mMinQueue;
+
+    /**
+     * slots of the candidates for the maximum y-value, descending y-values from oldest to newest
+     */
+    private SlotQueue mMaxQueue;
+
+    /**
+     * Creates an empty DataSet that holds at most capacity values.
+     *
+     * @param capacity
+     * @param label
+     */
+    public StreamingLineDataSet(int capacity, String label) {
+        super(null, label);
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity needs to be at least 1.");
+
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+        mMinQueue = new SlotQueue(capacity);
+        mMaxQueue = new SlotQueue(capacity);
+        mEntries = new EntryList();
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet holds.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Returns true if the next appended value evicts the oldest one.
+     *
+     * @return
+     */
+    public boolean isFull() {
+        return mSize == mXValues.length;
+    }
+
+    /**
+     * Appends the given value, evicting the oldest value if the DataSet is full.
+     * Updates the minimum and maximum values in amortized O(1).
+     *
+     * @param x
+     * @param y
+     */
+    public void append(float x, float y) {
+
+        if (isFull())
+            evictOldest();
+
+        final int slot = slot(mSize);
+
+        mXValues[slot] = x;
+        mYValues[slot] = y;
+        mSize++;
+        mDataVersion++;
+
+        pushToQueues(slot);
+        updateBounds();
+    }
+
+    /**
+     * Removes the oldest value and updates the minimum and maximum values in O(1).
+     */
+    private void evictOldest() {
+
+        if (mMinQueue.peekFirst() == mHead)
+            mMinQueue.pollFirst();
+
+        if (mMaxQueue.peekFirst() == mHead)
+            mMaxQueue.pollFirst();
+
+        mHead = mHead + 1 == mXValues.length ? 0 : mHead + 1;
+        mSize--;
+        mDataVersion++;
+    }
+
+    private void pushToQueues(int slot) {
+
+        final float y = mYValues[slot];
+
+        if (Float.isNaN(y))
+            return;
+
+        while (!mMinQueue.isEmpty() && mYValues[mMinQueue.peekLast()] >= y)
+            mMinQueue.pollLast();
+
+        mMinQueue.addLast(slot);
+
+        while (!mMaxQueue.isEmpty() && mYValues[mMaxQueue.peekLast()] <= y)
+            mMaxQueue.pollLast();
+
+        mMaxQueue.addLast(slot);
+    }
+
+    /**
+     * Sets the bounds of this DataSet from the queues and the values at both ends.
+     */
+    private void updateBounds() {
+
+        if (mSize == 0) {
+            mXMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+        } else {
+            mXMin = mXValues[mHead];
+            mXMax = mXValues[slot(mSize - 1)];
+        }
+
+        mYMin = mMinQueue.isEmpty() ? Float.MAX_VALUE : mYValues[mMinQueue.peekFirst()];
+        mYMax = mMaxQueue.isEmpty() ? -Float.MAX_VALUE : mYValues[mMaxQueue.peekFirst()];
+    }
+
+    /**
+     * Returns the slot in the circular buffers of the value at the given index.
+     */
+    private int slot(int index) {
+        final int slot = mHead + index;
+        return slot >= mXValues.length ? slot - mXValues.length : slot;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXValues[slot(index)];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYValues[slot(index)];
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mSize;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+
+        if (index < 0 || index >= mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        final int slot = slot(index);
+        return new Entry(mXValues[slot], mYValues[slot]);
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        // called by the super constructor before the buffers exist
+        if (mXValues == null) {
+            mYMax = -Float.MAX_VALUE;
+            mYMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+            return;
+        }
+
+        mMinQueue.clear();
+        mMaxQueue.clear();
+
+        for (int i = 0; i < mSize; i++) {
+            pushToQueues(slot(i));
+        }
+
+        updateBounds();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mSize == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            final float y = getY(i);
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected boolean canCalcMinMaxInChunks() {
+        // the bounds are kept in monotonic queues, the capacity bounds the cost
+        return false;
+    }
+
+    /**
+     * Not supported, the capacity already bounds the cost of calcMinMaxY(...). Disabling
+     * is accepted, enabling throws an UnsupportedOperationException.
+     *
+     * @param enabled
+     */
+    @Override
+    public void setYRangeIndexEnabled(boolean enabled) {
+
+        if (enabled)
+            throw new UnsupportedOperationException("StreamingLineDataSet does not support a y-range index.");
+    }
+
+    /**
+     * Replaces the values of this DataSet with the given entries. If there are more
+     * entries than the capacity, only the newest ones are kept.
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        mHead = 0;
+        mSize = 0;
+
+        if (entries != null) {
+
+            final int start = Math.max(0, entries.size() - mXValues.length);
+
+            for (int i = start; i < entries.size(); i++) {
+                Entry e = entries.get(i);
+                mXValues[mSize] = e.getX();
+                mYValues[mSize] = e.getY();
+                mSize++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        append(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        if (mSize > 0 && getX(mSize - 1) > e.getX()) {
+            insertValue(getEntryIndex(e.getX(), e.getY(), Rounding.UP), e.getX(), e.getY());
+        } else {
+            append(e.getX(), e.getY());
+        }
+    }
+
+    /**
+     * Inserts a value in between, evicting the oldest value if the DataSet is full. O(n)
+     */
+    private void insertValue(int index, float x, float y) {
+
+        if (isFull()) {
+
+            // the value would be evicted right away
+            if (index == 0)
+                return;
+
+            evictOldest();
+            index--;
+        }
+
+        for (int i = mSize; i > index; i--) {
+            final int to = slot(i);
+            final int from = slot(i - 1);
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        final int slot = slot(index);
+        mXValues[slot] = x;
+        mYValues[slot] = y;
+        mSize++;
+        mDataVersion++;
+
+        calcMinMax();
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mSize)
+            return false;
+
+        if (index == 0) {
+            evictOldest();
+            updateBounds();
+            return true;
+        }
+
+        removeValueAt(index);
+        calcMinMax();
+        return true;
+    }
+
+    private void removeValueAt(int index) {
+
+        for (int i = index; i < mSize - 1; i++) {
+            final int to = slot(i);
+            final int from = slot(i + 1);
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        mSize--;
+        mDataVersion++;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mSize - 1);
+    }
+
+    @Override
+    public void clear() {
+        mHead = 0;
+        mSize = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the index of a value that has the same x- and y-value as the given Entry,
+     * -1 if there is none. Entries can not be compared by identity because they are
+     * created on demand.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null || mSize == 0)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), e.getY(), Rounding.CLOSEST);
+
+        if (index < 0 || getX(index) != e.getX() || getY(index) != e.getY())
+            return -1;
+
+        return index;
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getEntryIndex(e) > -1;
+    }
+
+    @Override
+    public int getIndexInEntries(int xIndex) {
+
+        for (int i = 0; i < mSize; i++) {
+            if (xIndex == getX(i))
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        StreamingLineDataSet copied = new StreamingLineDataSet(mXValues.length, getLabel());
+        for (int i = 0; i < mSize; i++) {
+            copied.append(getX(i), getY(i));
+        }
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Fixed capacity double ended queue of buffer slots.
+     */
+    private static class SlotQueue {
+
+        private final int[] mSlots;
+        private int mFirst;
+        private int mSize;
+
+        SlotQueue(int capacity) {
+            mSlots = new int[capacity];
+        }
+
+        boolean isEmpty() {
+            return mSize == 0;
+        }
+
+        void clear() {
+            mFirst = 0;
+            mSize = 0;
+        }
+
+        int peekFirst() {
+            return mSize == 0 ? -1 : mSlots[mFirst];
+        }
+
+        int peekLast() {
+            return mSlots[index(mSize - 1)];
+        }
+
+        void pollFirst() {
+            mFirst = index(1);
+            mSize--;
+        }
+
+        void pollLast() {
+            mSize--;
+        }
+
+        void addLast(int slot) {
+            mSlots[index(mSize)] = slot;
+            mSize++;
+        }
+
+        private int index(int i) {
+            final int index = mFirst + i;
+            return index >= mSlots.length ? index - mSlots.length : index;
+        }
+    }
+
+    /**
+     * List view of the values that creates Entry objects on demand. Used as mEntries so
+     * that code working with getEntries() keeps working.
+     */
+    private class EntryList extends AbstractList<Entry> {
+
+        @Override
+        public Entry get(int index) {
+            return getEntryForIndex(index);
+        }
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+
+        @Override
+        public Entry set(int index, Entry e) {
+            Entry previous = getEntryForIndex(index);
+            final int slot = slot(index);
+            mXValues[slot] = e.getX();
+            mYValues[slot] = e.getY();
+            mDataVersion++;
+            calcMinMax();
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Entry e) {
+
+            if (index < 0 || index > mSize)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+            modCount++;
+
+            if (index == mSize)
+                append(e.getX(), e.getY());
+            else
+                insertValue(index, e.getX(), e.getY());
+        }
+
+        @Override
+        public Entry remove(int index) {
+            Entry previous = getEntryForIndex(index);
+            modCount++;
+            removeEntry(index);
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            mHead = 0;
+            mSize = 0;
+            mDataVersion++;
+            calcMinMax();
+        }
+    }
+}
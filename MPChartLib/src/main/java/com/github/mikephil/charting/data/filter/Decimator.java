@@ -0,0 +1,227 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Reduces a range of values of a DataSet to the values that are relevant for drawing
+ * it as a line at the current zoom level. The decimation works on indices: the result
+ * is the sorted list of the indices of the values to keep, so that colors and other
+ * per-value properties can still be looked up.
+ */
+public class Decimator {
+
+    private DouglasPeuckerReducer mReducer = new DouglasPeuckerReducer();
+
+    /**
+     * buffer for the values handed to the reducer
+     */
+    private float[] mPointBuffer = new float[0];
+
+    /**
+     * Decimates the values in the index range [from, to] of the given DataSet.
+     *
+     * @param set         the DataSet to decimate
+     * @param mode        the decimation mode
+     * @param from        the first index of the range
+     * @param to          the last index of the range
+     * @param bucketWidth the width of one pixel column in x-values
+     * @param aspect      the factor that converts y-values into the unit of the x-values
+     *                    (pixels per y-value / pixels per x-value), used for distance calculations
+     * @param out         array the indices of the kept values are written to, needs to have
+     *                    space for at least (to - from + 1) indices
+     * @return the number of indices written to out
+     */
+    public int decimate(IDataSet set, LineDataSet.DecimationMode mode, int from, int to,
+                        float bucketWidth, float aspect, int[] out) {
+
+        if (to < from)
+            return 0;
+
+        if (bucketWidth <= 0f || Float.isNaN(bucketWidth) || Float.isInfinite(bucketWidth))
+            return copyRange(from, to, out);
+
+        switch (mode) {
+            case MIN_MAX_PER_PIXEL:
+                return decimateMinMax(set, from, to, bucketWidth, out);
+            case LTTB:
+                return decimateLargestTriangle(set, from, to, getPointBudget(set, from, to, bucketWidth), out);
+            case DOUGLAS_PEUCKER:
+                return decimateDouglasPeucker(set, from, to, getPointBudget(set, from, to, bucketWidth), aspect, out);
+            default:
+                return copyRange(from, to, out);
+        }
+    }
+
+    /**
+     * Returns the number of values to keep for the budget based modes, two values per pixel column.
+     */
+    private static int getPointBudget(IDataSet set, int from, int to, float bucketWidth) {
+        double columns = Math.ceil((set.getX(to) - set.getX(from)) / bucketWidth);
+        return (int) Math.min(Integer.MAX_VALUE, columns * 2 + 2);
+    }
+
+    private static int copyRange(int from, int to, int[] out) {
+
+        int count = 0;
+
+        for (int i = from; i <= to; i++) {
+            out[count++] = i;
+        }
+
+        return count;
+    }
+
+    /**
+     * Keeps the first, minimum, maximum and last value of every pixel column. The columns
+     * are aligned to multiples of the bucket width, so the result does not change while
+     * panning at the same zoom level.
+     */
+    private static int decimateMinMax(IDataSet set, int from, int to, float bucketWidth, int[] out) {
+
+        int count = 0;
+        int i = from;
+
+        while (i <= to) {
+
+            final double bucket = Math.floor(set.getX(i) / bucketWidth);
+
+            int first = i;
+            int last = i;
+            int minIndex = i;
+            int maxIndex = i;
+            float min = set.getY(i);
+            float max = min;
+
+            for (i++; i <= to && Math.floor(set.getX(i) / bucketWidth) == bucket; i++) {
+
+                final float y = set.getY(i);
+
+                if (y < min) {
+                    min = y;
+                    minIndex = i;
+                }
+
+                if (y > max) {
+                    max = y;
+                    maxIndex = i;
+                }
+
+                last = i;
+            }
+
+            final int lower = Math.min(minIndex, maxIndex);
+            final int upper = Math.max(minIndex, maxIndex);
+
+            out[count++] = first;
+
+            if (lower > first)
+                out[count++] = lower;
+
+            if (upper > lower && upper > first)
+                out[count++] = upper;
+
+            if (last > upper && last > first)
+                out[count++] = last;
+        }
+
+        return count;
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets downsampling by Sveinn Steinarsson. Keeps the first and
+     * last value and one value per bucket in between, the one that forms the largest triangle
+     * with the previously kept value and the average of the next bucket.
+     */
+    private static int decimateLargestTriangle(IDataSet set, int from, int to, int threshold, int[] out) {
+
+        final int size = to - from + 1;
+
+        if (threshold >= size || threshold < 3)
+            return copyRange(from, to, out);
+
+        final double every = (double) (size - 2) / (threshold - 2);
+
+        int count = 0;
+        int a = from;
+
+        out[count++] = a;
+
+        for (int i = 0; i < threshold - 2; i++) {
+
+            // average of the next bucket
+            int avgStart = from + (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = from + Math.min((int) Math.floor((i + 2) * every) + 1, size);
+
+            float avgX = 0f;
+            float avgY = 0f;
+
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += set.getX(j);
+                avgY += set.getY(j);
+            }
+
+            final int avgLength = avgEnd - avgStart;
+            avgX /= avgLength;
+            avgY /= avgLength;
+
+            // the current bucket
+            int rangeStart = from + (int) Math.floor(i * every) + 1;
+            int rangeEnd = from + (int) Math.floor((i + 1) * every) + 1;
+
+            final float ax = set.getX(a);
+            final float ay = set.getY(a);
+
+            float maxArea = -1f;
+            int next = rangeStart;
+
+            for (int j = rangeStart; j < rangeEnd; j++) {
+
+                final float area = Math.abs((ax - avgX) * (set.getY(j) - ay)
+                        - (ax - set.getX(j)) * (avgY - ay));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+
+            out[count++] = next;
+            a = next;
+        }
+
+        out[count++] = to;
+
+        return count;
+    }
+
+    /**
+     * Douglas Peucker with a point budget: the segment with the value farthest away from it is
+     * split until the budget is reached.
+     */
+    private int decimateDouglasPeucker(IDataSet set, int from, int to, int threshold,
+                                       float aspect, int[] out) {
+
+        final int size = to - from + 1;
+
+        if (threshold >= size || threshold < 3)
+            return copyRange(from, to, out);
+
+        if (mPointBuffer.length < size * 2)
+            mPointBuffer = new float[size * 2];
+
+        // y-values are scaled so that distances are measured like on screen
+        for (int i = from, i2 = 0; i <= to; i++, i2 += 2) {
+            mPointBuffer[i2] = set.getX(i);
+            mPointBuffer[i2 + 1] = set.getY(i) * aspect;
+        }
+
+        final int count = mReducer.reduce(mPointBuffer, size, threshold, 0f, out);
+
+        for (int i = 0; i < count; i++) {
+            out[i] += from;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,225 @@
+package com.github.mikephil.charting.data.filter;
+
+import java.util.Arrays;
+
+/**
+ * Douglas Peucker line simplification with a point budget and / or a distance tolerance.
+ * Instead of recursing, the segment with the point farthest away from it is split first,
+ * the segments are kept in a binary max-heap ordered by that distance. This way the
+ * reduction can stop as soon as the budget is reached and the result contains the most
+ * significant points. Runs in O(n log n) for typical data.
+ *
+ * The segments, the heap and the point marks are kept in primitive arrays that are reused
+ * between calls, so reducing does not allocate once the buffers are large enough.
+ * Instances are not thread-safe.
+ */
+public class DouglasPeuckerReducer {
+
+    /**
+     * the segments, stored as parallel arrays: first point, last point, the point farthest
+     * away from the segment and its distance
+     */
+    private int[] mSegmentStart = new int[16];
+    private int[] mSegmentEnd = new int[16];
+    private int[] mSegmentKey = new int[16];
+    private float[] mSegmentDistance = new float[16];
+    private int mSegmentCount;
+
+    /**
+     * binary max-heap of segment indices, ordered by mSegmentDistance
+     */
+    private int[] mHeap = new int[16];
+    private int mHeapSize;
+
+    /**
+     * marks the points that are kept
+     */
+    private boolean[] mKeep = new boolean[16];
+
+    /**
+     * Reduces the given points. The first and the last point are always kept. Points are
+     * added in the order of their distance to the current simplified line until either
+     * maxResultCount points are kept, or no remaining point is farther away than tolerance.
+     *
+     * @param points         the points, as x/y pairs
+     * @param pointCount     the number of points (pairs) to use from the array
+     * @param maxResultCount the maximum number of points to keep, Integer.MAX_VALUE for no limit
+     * @param tolerance      points closer to the simplified line than this are dropped, 0 to only
+     *                       use the budget
+     * @param out            the indices of the kept points are written to this array in ascending
+     *                       order, needs space for min(pointCount, maxResultCount) indices
+     * @return the number of kept points
+     */
+    public int reduce(float[] points, int pointCount, int maxResultCount, float tolerance, int[] out) {
+
+        if (pointCount <= 0)
+            return 0;
+
+        if (pointCount == 1) {
+            out[0] = 0;
+            return 1;
+        }
+
+        if (mKeep.length < pointCount)
+            mKeep = new boolean[pointCount];
+        else
+            Arrays.fill(mKeep, 0, pointCount, false);
+
+        mKeep[0] = true;
+        mKeep[pointCount - 1] = true;
+
+        int kept = 2;
+
+        mSegmentCount = 0;
+        mHeapSize = 0;
+
+        addSegment(points, 0, pointCount - 1, newSegment());
+
+        while (kept < maxResultCount && mHeapSize > 0) {
+
+            final int segment = pollSegment();
+
+            if (mSegmentDistance[segment] <= tolerance)
+                break;
+
+            final int start = mSegmentStart[segment];
+            final int key = mSegmentKey[segment];
+            final int end = mSegmentEnd[segment];
+
+            mKeep[key] = true;
+            kept++;
+
+            // split at the key, the polled segment's slot is reused
+            boolean slotUsed = addSegment(points, start, key, segment);
+            addSegment(points, key, end, slotUsed ? newSegment() : segment);
+        }
+
+        int count = 0;
+
+        for (int i = 0; i < pointCount; i++) {
+            if (mKeep[i])
+                out[count++] = i;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the index of a free segment slot, growing the segment buffers if needed.
+     */
+    private int newSegment() {
+
+        if (mSegmentCount == mSegmentStart.length) {
+
+            final int capacity = mSegmentCount * 2;
+
+            mSegmentStart = Arrays.copyOf(mSegmentStart, capacity);
+            mSegmentEnd = Arrays.copyOf(mSegmentEnd, capacity);
+            mSegmentKey = Arrays.copyOf(mSegmentKey, capacity);
+            mSegmentDistance = Arrays.copyOf(mSegmentDistance, capacity);
+        }
+
+        return mSegmentCount++;
+    }
+
+    /**
+     * Finds the point farthest away from the segment between start and end, stores the segment
+     * in the given slot and pushes it onto the heap. Segments without points in between are
+     * ignored. Returns true if the slot has been used.
+     */
+    private boolean addSegment(float[] points, int start, int end, int segment) {
+
+        if (end - start < 2)
+            return false;
+
+        final float x1 = points[start * 2];
+        final float y1 = points[start * 2 + 1];
+        final float dx = points[end * 2] - x1;
+        final float dy = points[end * 2 + 1] - y1;
+        final float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        int key = start + 1;
+        float greatest = -1f;
+
+        for (int i = start + 1, i2 = i * 2; i < end; i++, i2 += 2) {
+
+            final float px = points[i2] - x1;
+            final float py = points[i2 + 1] - y1;
+
+            final float distance = length > 0f
+                    ? Math.abs(dx * py - dy * px) / length
+                    : (float) Math.sqrt(px * px + py * py);
+
+            if (distance > greatest) {
+                greatest = distance;
+                key = i;
+            }
+        }
+
+        mSegmentStart[segment] = start;
+        mSegmentEnd[segment] = end;
+        mSegmentKey[segment] = key;
+        mSegmentDistance[segment] = greatest;
+
+        pushSegment(segment);
+        return true;
+    }
+
+    private void pushSegment(int segment) {
+
+        if (mHeapSize == mHeap.length)
+            mHeap = Arrays.copyOf(mHeap, mHeapSize * 2);
+
+        // sift up
+        int i = mHeapSize++;
+        final float distance = mSegmentDistance[segment];
+
+        while (i > 0) {
+
+            final int parent = (i - 1) >>> 1;
+
+            if (mSegmentDistance[mHeap[parent]] >= distance)
+                break;
+
+            mHeap[i] = mHeap[parent];
+            i = parent;
+        }
+
+        mHeap[i] = segment;
+    }
+
+    private int pollSegment() {
+
+        final int top = mHeap[0];
+        final int last = mHeap[--mHeapSize];
+
+        if (mHeapSize == 0)
+            return top;
+
+        // sift down
+        final float distance = mSegmentDistance[last];
+        int i = 0;
+
+        while (true) {
+
+            int child = i * 2 + 1;
+
+            if (child >= mHeapSize)
+                break;
+
+            if (child + 1 < mHeapSize
+                    && mSegmentDistance[mHeap[child + 1]] > mSegmentDistance[mHeap[child]])
+                child++;
+
+            if (distance >= mSegmentDistance[mHeap[child]])
+                break;
+
+            mHeap[i] = mHeap[child];
+            i = child;
+        }
+
+        mHeap[i] = last;
+
+        return top;
+    }
+}
@@ -13,6 +13,11 @@ public class DefaultAxisValueFormatter extends ValueFormatter
      */
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat, without allocating for recently formatted values
+     */
+    protected FastDecimalFormat mFastFormat;
+
     /**
      * the number of decimal digits this formatter uses
      */
@@ -35,12 +40,19 @@ public class DefaultAxisValueFormatter extends ValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mFastFormat = new FastDecimalFormat(digits, true);
     }
 
     @Override
     public String getFormattedValue(float value) {
         // avoid memory allocations here (for performance)
-        return mFormat.format(value);
+        return mFastFormat.format(value);
+    }
+
+    @Override
+    public boolean isCacheable() {
+        // the format can not change, the axis creates a new formatter instead
+        return true;
     }
 
     /**
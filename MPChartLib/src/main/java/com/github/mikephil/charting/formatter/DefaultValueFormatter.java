@@ -1,5 +1,7 @@
 package com.github.mikephil.charting.formatter;
 
+import com.github.mikephil.charting.data.Entry;
+
 import java.text.DecimalFormat;
 
 /**
@@ -16,6 +18,11 @@ public class DefaultValueFormatter extends ValueFormatter
      */
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat, without allocating for recently formatted values
+     */
+    protected FastDecimalFormat mFastFormat;
+
     protected int mDecimalDigits;
 
     /**
@@ -45,6 +52,7 @@ public class DefaultValueFormatter extends ValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mFastFormat = new FastDecimalFormat(digits, true);
     }
 
     @Override
@@ -53,7 +61,26 @@ public class DefaultValueFormatter extends ValueFormatter
         // put more logic here ...
         // avoid memory allocations here (for performance reasons)
 
-        return mFormat.format(value);
+        return mFastFormat.format(value);
+    }
+
+    @Override
+    public CharSequence getFormattedValueChars(float value) {
+
+        // subclasses may change the labels by overriding getFormattedValue(...)
+        if (getClass() != DefaultValueFormatter.class)
+            return getFormattedValue(value);
+
+        return mFastFormat.formatToCharSequence(value);
+    }
+
+    @Override
+    public CharSequence getPointLabelChars(Entry entry) {
+
+        if (getClass() != DefaultValueFormatter.class)
+            return getPointLabel(entry);
+
+        return mFastFormat.formatToCharSequence(entry.getY());
     }
 
     /**
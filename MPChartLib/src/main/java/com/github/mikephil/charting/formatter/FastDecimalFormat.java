@@ -0,0 +1,181 @@
+package com.github.mikephil.charting.formatter;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Formats numbers like a DecimalFormat with the pattern "###,###,##0.00" (with the given number
+ * of decimal digits, optionally without grouping) and the symbols of the default locale, but
+ * without its overhead. The digits are written into a reused char buffer, and the Strings of
+ * recently formatted values are cached, so formatting the same values again does not allocate.
+ *
+ * Values with more than 15 significant digits, NaN and infinite values are formatted with
+ * a DecimalFormat. Not thread safe.
+ */
+public class FastDecimalFormat {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9
+    };
+
+    /**
+     * values are formatted with the fallback format if they have more integer digits
+     */
+    private static final double MAX_SCALED_VALUE = 1e15;
+
+    private final int mDigits;
+
+    private final boolean mGroupingUsed;
+
+    private final String mSuffix;
+
+    private final char mZeroDigit;
+    private final char mDecimalSeparator;
+    private final char mGroupingSeparator;
+    private final char mMinusSign;
+
+    /**
+     * the digits are written backwards into this buffer
+     */
+    private final char[] mChars = new char[48];
+
+    private final StringBuilder mText = new StringBuilder(48);
+
+    private final RecentStringCache mCache = new RecentStringCache();
+
+    /**
+     * created when needed
+     */
+    private DecimalFormat mFallbackFormat;
+
+    /**
+     * @param digits       the number of decimal digits
+     * @param groupingUsed true to separate the thousands
+     */
+    public FastDecimalFormat(int digits, boolean groupingUsed) {
+        this(digits, groupingUsed, "");
+    }
+
+    /**
+     * @param digits       the number of decimal digits
+     * @param groupingUsed true to separate the thousands
+     * @param suffix       text that is appended to each formatted value
+     */
+    public FastDecimalFormat(int digits, boolean groupingUsed, String suffix) {
+
+        mDigits = Math.max(digits, 0);
+        mGroupingUsed = groupingUsed;
+        mSuffix = suffix == null ? "" : suffix;
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance();
+        mZeroDigit = symbols.getZeroDigit();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mMinusSign = symbols.getMinusSign();
+    }
+
+    public int getDecimalDigits() {
+        return mDigits;
+    }
+
+    /**
+     * Returns the formatted value, the String is reused if the same value is formatted again.
+     *
+     * @param value
+     * @return
+     */
+    public String format(float value) {
+
+        String text = mCache.get(value);
+
+        if (text == null) {
+            text = formatToCharSequence(value).toString();
+            mCache.put(value, text);
+        }
+
+        return text;
+    }
+
+    /**
+     * Returns the formatted value as a reused buffer, that is only valid until the next call.
+     * Allows drawing a value without creating a String.
+     *
+     * @param value
+     * @return
+     */
+    public CharSequence formatToCharSequence(float value) {
+
+        mText.setLength(0);
+        format(value, mText);
+        return mText;
+    }
+
+    /**
+     * Appends the formatted value to the given StringBuilder.
+     *
+     * @param value
+     * @param out
+     */
+    public void format(float value, StringBuilder out) {
+
+        // the value is exact as a double, and the product of a float and a power of ten
+        // up to 10^9 is never close enough to a tie for rint(...) to round differently than
+        // the HALF_EVEN rounding of DecimalFormat
+        final double scaled = mDigits < POWERS_OF_TEN.length
+                ? Math.abs((double) value) * POWERS_OF_TEN[mDigits]
+                : Double.NaN;
+
+        if (!(scaled < MAX_SCALED_VALUE)) {
+            out.append(getFallbackFormat().format(value)).append(mSuffix);
+            return;
+        }
+
+        long units = (long) Math.rint(scaled);
+
+        final char[] chars = mChars;
+        int pos = chars.length;
+
+        for (int i = 0; i < mDigits; i++) {
+            chars[--pos] = (char) (mZeroDigit + (int) (units % 10));
+            units /= 10;
+        }
+
+        if (mDigits > 0)
+            chars[--pos] = mDecimalSeparator;
+
+        int integerDigits = 0;
+
+        do {
+            if (mGroupingUsed && integerDigits > 0 && integerDigits % 3 == 0)
+                chars[--pos] = mGroupingSeparator;
+
+            chars[--pos] = (char) (mZeroDigit + (int) (units % 10));
+            units /= 10;
+            integerDigits++;
+        } while (units > 0);
+
+        // like DecimalFormat, negative values that round to zero (and -0) keep the sign
+        if (Float.floatToIntBits(value) < 0)
+            chars[--pos] = mMinusSign;
+
+        out.append(chars, pos, chars.length - pos).append(mSuffix);
+    }
+
+    private DecimalFormat getFallbackFormat() {
+
+        if (mFallbackFormat == null) {
+
+            StringBuilder pattern = new StringBuilder(mGroupingUsed ? "#,##0" : "0");
+
+            for (int i = 0; i < mDigits; i++) {
+                if (i == 0)
+                    pattern.append(".");
+                pattern.append("0");
+            }
+
+            mFallbackFormat = new DecimalFormat(pattern.toString());
+        }
+
+        return mFallbackFormat;
+    }
+}
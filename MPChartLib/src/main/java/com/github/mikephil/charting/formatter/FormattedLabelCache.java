@@ -0,0 +1,118 @@
+package com.github.mikephil.charting.formatter;
+
+/**
+ * Small least recently used cache for labels formatted by a ValueFormatter, keyed by the
+ * formatted value and the formatter. The cache is emptied when it is used with another
+ * formatter. Lookups do not allocate, the values are kept in primitive arrays and searched
+ * linearly, which is fast for the few dozen labels of an axis.
+ */
+public class FormattedLabelCache {
+
+    private ValueFormatter mFormatter;
+
+    private final float[] mValues;
+    private final String[] mLabels;
+
+    /**
+     * the time of the last use of each label, the smallest one is replaced first
+     */
+    private final long[] mLastUse;
+
+    private int mSize = 0;
+
+    private long mClock = 0;
+
+    /**
+     * @param maxSize the maximum number of cached labels
+     */
+    public FormattedLabelCache(int maxSize) {
+        mValues = new float[maxSize];
+        mLabels = new String[maxSize];
+        mLastUse = new long[maxSize];
+    }
+
+    /**
+     * Returns the cached label of the given value, null if it was not formatted by the given
+     * formatter before.
+     *
+     * @param formatter
+     * @param value
+     * @return
+     */
+    public String get(ValueFormatter formatter, float value) {
+
+        if (formatter != mFormatter) {
+            clear();
+            mFormatter = formatter;
+            return null;
+        }
+
+        final int bits = Float.floatToIntBits(value);
+
+        for (int i = 0; i < mSize; i++) {
+
+            if (Float.floatToIntBits(mValues[i]) == bits) {
+                mLastUse[i] = ++mClock;
+                return mLabels[i];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds the label of the given value formatted by the given formatter, replaces the least
+     * recently used label if the cache is full.
+     *
+     * @param formatter
+     * @param value
+     * @param label
+     */
+    public void put(ValueFormatter formatter, float value, String label) {
+
+        if (formatter != mFormatter) {
+            clear();
+            mFormatter = formatter;
+        }
+
+        if (mLabels.length == 0)
+            return;
+
+        int index = mSize;
+
+        if (mSize == mLabels.length) {
+
+            index = 0;
+
+            for (int i = 1; i < mSize; i++) {
+                if (mLastUse[i] < mLastUse[index])
+                    index = i;
+            }
+        } else {
+            mSize++;
+        }
+
+        mValues[index] = value;
+        mLabels[index] = label;
+        mLastUse[index] = ++mClock;
+    }
+
+    /**
+     * Returns the number of cached labels.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    public void clear() {
+
+        for (int i = 0; i < mSize; i++) {
+            mLabels[i] = null;
+        }
+
+        mSize = 0;
+        mFormatter = null;
+    }
+}
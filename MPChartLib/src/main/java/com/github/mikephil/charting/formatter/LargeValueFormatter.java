@@ -1,6 +1,7 @@
 package com.github.mikephil.charting.formatter;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 
 /**
  * Predefined value-formatter that formats large numbers in a pretty way.
@@ -22,8 +23,21 @@ public class LargeValueFormatter extends ValueFormatter
     private DecimalFormat mFormat;
     private String mText = "";
 
+    private final char mZeroDigit;
+    private final char mDecimalSeparator;
+    private final char mMinusSign;
+
+    private final StringBuilder mBuilder = new StringBuilder(16);
+
+    private final RecentStringCache mCache = new RecentStringCache();
+
     public LargeValueFormatter() {
         mFormat = new DecimalFormat("###E00");
+
+        DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+        mZeroDigit = symbols.getZeroDigit();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mMinusSign = symbols.getMinusSign();
     }
 
     /**
@@ -38,7 +52,22 @@ public class LargeValueFormatter extends ValueFormatter
 
     @Override
     public String getFormattedValue(float value) {
-        return makePretty(value) + mText;
+
+        String text = mCache.get(value);
+
+        if (text == null) {
+
+            // small values have negative exponents, which the old code does not handle
+            // specially, format them exactly like it
+            if (Float.isNaN(value) || Float.isInfinite(value) || (value != 0 && Math.abs(value) < 1))
+                text = makePretty(value) + mText;
+            else
+                text = makePrettyFast(value).append(mText).toString();
+
+            mCache.put(value, text);
+        }
+
+        return text;
     }
 
     /**
@@ -48,6 +77,7 @@ public class LargeValueFormatter extends ValueFormatter
      */
     public void setAppendix(String appendix) {
         this.mText = appendix;
+        mCache.clear();
     }
 
     /**
@@ -58,10 +88,12 @@ public class LargeValueFormatter extends ValueFormatter
      */
     public void setSuffix(String[] suffix) {
         this.mSuffix = suffix;
+        mCache.clear();
     }
 
     public void setMaxLength(int maxLength) {
         this.mMaxLength = maxLength;
+        mCache.clear();
     }
 
     /**
@@ -85,6 +117,124 @@ public class LargeValueFormatter extends ValueFormatter
         return r;
     }
 
+    /**
+     * Same as makePretty(...) for 0 and values of at least 1, without DecimalFormat and
+     * regular expressions.
+     * The value is rounded to three significant digits (HALF_EVEN, like the DecimalFormat) with
+     * an exponent that is a multiple of three, which selects the suffix.
+     */
+    private StringBuilder makePrettyFast(float value) {
+
+        StringBuilder r = mBuilder;
+        r.setLength(0);
+
+        if (Float.floatToIntBits(value) < 0)
+            r.append(mMinusSign);
+
+        final double number = Math.abs((double) value);
+
+        int digits = 0;
+        int exponent = 0;
+
+        if (number != 0) {
+
+            exponent = (int) Math.floor(Math.log10(number));
+
+            double scaled = scale(number, exponent);
+
+            // correct the logarithm if it was off by one
+            if (scaled >= 1000) {
+                exponent++;
+                scaled = scale(number, exponent);
+            } else if (scaled < 100) {
+                exponent--;
+                scaled = scale(number, exponent);
+            }
+
+            // the scaled value is not exact, let the DecimalFormat decide close to a tie
+            if (Math.abs(scaled - Math.floor(scaled) - 0.5) < 1e-7) {
+                r.setLength(0);
+                r.append(makePretty(value));
+                return r;
+            }
+
+            digits = (int) Math.rint(scaled);
+
+            if (digits == 1000) {
+                digits = 100;
+                exponent++;
+            }
+        }
+
+        // the engineering exponent, rounded down to a multiple of three
+        final int engineeringExponent = exponent / 3 * 3;
+        final int integerDigits = exponent - engineeringExponent + 1;
+
+        int decimals = 3 - integerDigits;
+
+        // drop the trailing zeros
+        while (decimals > 0 && digits % 10 == 0) {
+            digits /= 10;
+            decimals--;
+        }
+
+        final int start = r.length();
+        int remaining = digits;
+
+        for (int i = 0; i < decimals + integerDigits; i++) {
+
+            if (i == decimals && decimals > 0)
+                r.insert(start, mDecimalSeparator);
+
+            r.insert(start, (char) (mZeroDigit + remaining % 10));
+            remaining /= 10;
+        }
+
+        r.append(mSuffix[engineeringExponent / 3]);
+
+        while (r.length() > mMaxLength || isDigitsDotLetter(r)) {
+            r.deleteCharAt(r.length() - 2);
+        }
+
+        return r;
+    }
+
+    /**
+     * Returns the given number divided by 10^(exponent - 2), which is between 100 and 1000.
+     */
+    private static double scale(double number, int exponent) {
+
+        final int power = exponent - 2;
+
+        return power >= 0 ? number / Math.pow(10, power) : number * Math.pow(10, -power);
+    }
+
+    /**
+     * Returns true if the text matches "[0-9]+\.[a-z]".
+     */
+    private static boolean isDigitsDotLetter(CharSequence text) {
+
+        final int length = text.length();
+
+        if (length < 3 || text.charAt(length - 2) != '.')
+            return false;
+
+        final char last = text.charAt(length - 1);
+
+        if (last < 'a' || last > 'z')
+            return false;
+
+        for (int i = 0; i < length - 2; i++) {
+
+            final char c = text.charAt(i);
+
+            if (c < '0' || c > '9')
+                return false;
+        }
+
+        return true;
+    }
+
     public int getDecimalDigits() {
         return 0;
     }
@@ -18,8 +18,17 @@ public class PercentFormatter extends ValueFormatter
     private PieChart pieChart;
     private boolean percentSignSeparated;
 
+    /**
+     * the format mFormat is initialized with, the fast formats are only used while it is set
+     */
+    private DecimalFormat mDefaultFormat;
+    private FastDecimalFormat mNumberFormat;
+    private FastDecimalFormat mPercentFormat;
+
     public PercentFormatter() {
         mFormat = new DecimalFormat("###,###,##0.0");
+        mDefaultFormat = mFormat;
+        mNumberFormat = new FastDecimalFormat(1, true);
         percentSignSeparated = true;
     }
 
@@ -37,7 +46,14 @@ public class PercentFormatter extends ValueFormatter
 
     @Override
     public String getFormattedValue(float value) {
-        return mFormat.format(value) + (percentSignSeparated ? " %" : "%");
+
+        if (mFormat != mDefaultFormat)
+            return mFormat.format(value) + (percentSignSeparated ? " %" : "%");
+
+        if (mPercentFormat == null)
+            mPercentFormat = new FastDecimalFormat(1, true, percentSignSeparated ? " %" : "%");
+
+        return mPercentFormat.format(value);
     }
 
     @Override
@@ -47,7 +63,7 @@ public class PercentFormatter extends ValueFormatter
             return getFormattedValue(value);
         } else {
             // raw value, skip percent sign
-            return mFormat.format(value);
+            return mFormat != mDefaultFormat ? mFormat.format(value) : mNumberFormat.format(value);
         }
     }
 
@@ -0,0 +1,49 @@
+package com.github.mikephil.charting.formatter;
+
+/**
+ * Direct mapped cache of recently formatted strings, keyed by the bits of the formatted
+ * value. A hit returns the same String instance again, so charts that draw the same values
+ * every frame do not create new Strings.
+ */
+final class RecentStringCache {
+
+    private static final int SIZE = 256;
+
+    private final int[] mKeys = new int[SIZE];
+    private final String[] mStrings = new String[SIZE];
+
+    /**
+     * Returns the cached String of the given value, null if there is none.
+     *
+     * @param value
+     * @return
+     */
+    String get(float value) {
+
+        final int bits = Float.floatToIntBits(value);
+        final int slot = slot(bits);
+
+        return mKeys[slot] == bits ? mStrings[slot] : null;
+    }
+
+    void put(float value, String string) {
+
+        final int bits = Float.floatToIntBits(value);
+        final int slot = slot(bits);
+
+        mKeys[slot] = bits;
+        mStrings[slot] = string;
+    }
+
+    void clear() {
+
+        for (int i = 0; i < SIZE; i++) {
+            mStrings[i] = null;
+        }
+    }
+
+    private static int slot(int bits) {
+        // the low bits of similar values are often the same, so mix in the high bits
+        return ((bits ^ (bits >>> 16)) * 0x9E3779B1) >>> 24;
+    }
+}
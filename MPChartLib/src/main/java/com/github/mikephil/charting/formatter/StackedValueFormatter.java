@@ -25,6 +25,11 @@ public class StackedValueFormatter extends ValueFormatter
 
     private DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat and appends the suffix
+     */
+    private FastDecimalFormat mFastFormat;
+
     /**
      * Constructor.
      *
@@ -44,6 +49,7 @@ public class StackedValueFormatter extends ValueFormatter
         }
 
         this.mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        this.mFastFormat = new FastDecimalFormat(decimals, true, suffix);
     }
 
     @Override
@@ -58,7 +64,7 @@ public class StackedValueFormatter extends ValueFormatter
                 if (vals[vals.length - 1] == value) {
 
                     // return the "sum" across all stack values
-                    return mFormat.format(entry.getY()) + mSuffix;
+                    return mFastFormat.format(entry.getY());
                 } else {
                     return ""; // return empty
                 }
@@ -66,6 +72,6 @@ public class StackedValueFormatter extends ValueFormatter
         }
 
         // return the "proposed" value
-        return mFormat.format(value) + mSuffix;
+        return mFastFormat.format(value);
     }
 }
@@ -51,6 +51,30 @@ public abstract class ValueFormatter implements IAxisValueFormatter, IValueForma
         return String.valueOf(value);
     }
 
+    /**
+     * Same as {@link #getFormattedValue(float)}, but allows returning a reused buffer instead
+     * of a new String, e.g. from FastDecimalFormat.formatToCharSequence(...). The returned
+     * text is only valid until the next call. Returns the String of getFormattedValue(float)
+     * by default.
+     *
+     * @param value float to be formatted
+     * @return formatted label
+     */
+    public CharSequence getFormattedValueChars(float value) {
+        return getFormattedValue(value);
+    }
+
+    /**
+     * Returns true if the labels of this formatter only depend on the formatted value (and
+     * never change for the same value), which allows the axes to cache them. Override this
+     * to return true for formatters without changing state. Default: false
+     *
+     * @return
+     */
+    public boolean isCacheable() {
+        return false;
+    }
+
     /**
      * Used to draw axis labels, calls {@link #getFormattedValue(float)} by default.
      *
@@ -93,6 +117,18 @@ public abstract class ValueFormatter implements IAxisValueFormatter, IValueForma
         return getFormattedValue(entry.getY());
     }
 
+    /**
+     * Same as {@link #getPointLabel(Entry)}, but allows returning a reused buffer like
+     * {@link #getFormattedValueChars(float)}. Returns the String of getPointLabel(Entry) by
+     * default.
+     *
+     * @param entry point being labeled, contains X value
+     * @return formatted label
+     */
+    public CharSequence getPointLabelChars(Entry entry) {
+        return getPointLabel(entry);
+    }
+
     /**
      * Used to draw pie value labels, calls {@link #getFormattedValue(float)} by default.
      *
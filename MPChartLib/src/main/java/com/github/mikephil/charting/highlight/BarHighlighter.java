@@ -24,20 +24,22 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
             return null;
         }
 
-        MPPointD pos = getValsForTouch(x, y);
-
         BarData barData = mChart.getBarData();
 
         IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
         if (set.isStacked()) {
 
-            return getStackedHighlight(high,
+            MPPointD pos = getValsForTouch(x, y);
+
+            Highlight stackedHigh = getStackedHighlight(high,
                     set,
                     (float) pos.x,
                     (float) pos.y);
-        }
 
-        MPPointD.recycleInstance(pos);
+            MPPointD.recycleInstance(pos);
+
+            return stackedHigh;
+        }
 
         return high;
     }
@@ -3,7 +3,6 @@ package com.github.mikephil.charting.highlight;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
@@ -27,6 +26,24 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * Highlight objects that are reused for the candidates of a lookup, the first
+     * mHighlightPoolUsed ones are in use
+     */
+    private List<Highlight> mHighlightPool = new ArrayList<Highlight>();
+
+    private int mHighlightPoolUsed = 0;
+
+    /**
+     * buffer for transforming the candidates of a DataSet into pixels, x/y pairs
+     */
+    protected float[] mPixelBuffer = new float[16];
+
+    /**
+     * reused for the value at the touch position
+     */
+    private MPPointD mTouchValues = MPPointD.getInstance(0, 0);
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
@@ -34,9 +51,8 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
     @Override
     public Highlight getHighlight(float x, float y) {
 
-        MPPointD pos = getValsForTouch(x, y);
-        float xVal = (float) pos.x;
-        MPPointD.recycleInstance(pos);
+        mChart.getTransformer(YAxis.AxisDependency.LEFT).getValuesByTouchPoint(x, y, mTouchValues);
+        float xVal = (float) mTouchValues.x;
 
         Highlight high = getHighlightForX(xVal, x, y);
         return high;
@@ -80,7 +96,49 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 
         Highlight detail = getClosestHighlightByPixel(closestValues, x, y, axis, mChart.getMaxHighlightDistance());
 
-        return detail;
+        // the candidates are reused for the next lookup, hand out a copy
+        return detail == null ? null : copyOf(detail);
+    }
+
+    /**
+     * Returns a new Highlight with the values of the given one.
+     *
+     * @param h
+     * @return
+     */
+    protected Highlight copyOf(Highlight h) {
+
+        Highlight copy = new Highlight(h.getX(), h.getY(), h.getXPx(), h.getYPx(),
+                h.getDataSetIndex(), h.getStackIndex(), h.getAxis());
+        copy.setDataIndex(h.getDataIndex());
+
+        return copy;
+    }
+
+    /**
+     * Marks all pooled Highlight objects as unused, called at the start of every lookup.
+     * Highlights obtained before must not be used anymore afterwards.
+     */
+    protected void recycleHighlights() {
+        mHighlightPoolUsed = 0;
+    }
+
+    /**
+     * Returns a Highlight from the pool, set to the given values. It stays valid until the
+     * next call of recycleHighlights().
+     *
+     * @return
+     */
+    protected Highlight obtainHighlight(float x, float y, float xPx, float yPx, int dataSetIndex,
+                                        YAxis.AxisDependency axis) {
+
+        if (mHighlightPoolUsed == mHighlightPool.size())
+            mHighlightPool.add(new Highlight(0f, 0f, 0f, 0f, 0, null));
+
+        Highlight high = mHighlightPool.get(mHighlightPoolUsed++);
+        high.set(x, y, xPx, yPx, dataSetIndex, -1, axis);
+
+        return high;
     }
 
     /**
@@ -128,6 +186,7 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
         mHighlightBuffer.clear();
+        recycleHighlights();
 
         BarLineScatterCandleBubbleData data = getData();
 
@@ -142,50 +201,112 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
-            mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            addHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST, mHighlightBuffer);
         }
 
         return mHighlightBuffer;
     }
 
+    /**
+     * Adds the Highlight objects for all entries of the given DataSet that have the x-value
+     * closest to xVal (according to the rounding) to the given list. The Highlight objects are
+     * taken from the pool and all entries are transformed into pixels at once, so that looking
+     * up highlights does not allocate once the buffers are large enough.
+     *
+     * @param set
+     * @param dataSetIndex
+     * @param xVal
+     * @param rounding
+     * @param out          the list the Highlight objects are added to
+     */
+    protected void addHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding,
+                                 List<Highlight> out) {
+
+        final int entryCount = set.getEntryCount();
+
+        if (entryCount == 0)
+            return;
+
+        // exact matches are found with every rounding, otherwise the closest x-value is used
+        final int index = set.getEntryIndex(xVal, Float.NaN, rounding);
+
+        if (index < 0)
+            return;
+
+        // all entries with the same x-value
+        final float closestX = set.getX(index);
+
+        int from = index;
+        int to = index;
+
+        while (from > 0 && set.getX(from - 1) == closestX)
+            from--;
+
+        while (to < entryCount - 1 && set.getX(to + 1) == closestX)
+            to++;
+
+        final int count = to - from + 1;
+
+        if (mPixelBuffer.length < count * 2)
+            mPixelBuffer = new float[count * 4];
+
+        for (int i = 0; i < count; i++) {
+            setValuePoint(mPixelBuffer, i * 2, set.getX(from + i), set.getY(from + i));
+        }
+
+        mChart.getTransformer(set.getAxisDependency()).pointValuesToPixel(mPixelBuffer, count);
+
+        for (int i = 0; i < count; i++) {
+            out.add(obtainHighlight(
+                    set.getX(from + i), set.getY(from + i),
+                    mPixelBuffer[i * 2], mPixelBuffer[i * 2 + 1],
+                    dataSetIndex, set.getAxisDependency()));
+        }
+    }
+
+    /**
+     * Writes the point that represents the given value on the chart into the buffer at the
+     * given offset.
+     *
+     * @param pts
+     * @param offset
+     * @param x
+     * @param y
+     */
+    protected void setValuePoint(float[] pts, int offset, float x, float y) {
+        pts[offset] = x;
+        pts[offset + 1] = y;
+    }
+
     /**
      * An array of `Highlight` objects corresponding to the selected xValue and dataSetIndex.
+     * Creates new objects.
      *
      * @param set
      * @param dataSetIndex
      * @param xVal
      * @param rounding
      * @return
+     * @deprecated the highlighters do not call this method anymore, so overriding it has no
+     * effect on the highlights found by touch. Override addHighlights(...) instead, which adds
+     * pooled Highlight objects to a given list.
      */
+    @Deprecated
     protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
 
         ArrayList<Highlight> highlights = new ArrayList<>();
 
-        //noinspection unchecked
-        List<Entry> entries = set.getEntriesForXValue(xVal);
-        if (entries.size() == 0) {
-            // Try to find closest x-value and take all entries for that x-value
-            final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-            if (closest != null)
-            {
-                //noinspection unchecked
-                entries = set.getEntriesForXValue(closest.getX());
-            }
-        }
-
-        if (entries.size() == 0)
-            return highlights;
+        final int poolUsed = mHighlightPoolUsed;
 
-        for (Entry e : entries) {
-            MPPointD pixels = mChart.getTransformer(
-                    set.getAxisDependency()).getPixelForValues(e.getX(), e.getY());
+        addHighlights(set, dataSetIndex, xVal, rounding, highlights);
 
-            highlights.add(new Highlight(
-                    e.getX(), e.getY(),
-                    (float) pixels.x, (float) pixels.y,
-                    dataSetIndex, set.getAxisDependency()));
+        for (int i = 0; i < highlights.size(); i++) {
+            highlights.set(i, copyOf(highlights.get(i)));
         }
 
+        // the pooled objects are not referenced anymore
+        mHighlightPoolUsed = poolUsed;
+
         return highlights;
     }
 
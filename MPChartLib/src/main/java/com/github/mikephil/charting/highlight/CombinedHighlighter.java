@@ -32,6 +32,7 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
         mHighlightBuffer.clear();
+        recycleHighlights();
 
         List<BarLineScatterCandleBubbleData> dataObjects = mChart.getCombinedData().getAllData();
 
@@ -57,12 +58,12 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                     if (!dataSet.isHighlightEnabled())
                         continue;
 
-                    List<Highlight> highs = buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST);
-                    for (Highlight high : highs)
-                    {
-                        high.setDataIndex(i);
-                        mHighlightBuffer.add(high);
-                    }
+                    final int start = mHighlightBuffer.size();
+
+                    addHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST, mHighlightBuffer);
+
+                    for (int k = start; k < mHighlightBuffer.size(); k++)
+                        mHighlightBuffer.get(k).setDataIndex(i);
                 }
             }
         }
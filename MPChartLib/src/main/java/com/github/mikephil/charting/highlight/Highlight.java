@@ -109,6 +109,23 @@ public class Highlight {
         this.mStackIndex = stackIndex;
     }
 
+    /**
+     * Resets this Highlight to the given values, used by the highlighters to reuse instances
+     * while looking for the closest value.
+     */
+    void set(float x, float y, float xPx, float yPx, int dataSetIndex, int stackIndex, YAxis.AxisDependency axis) {
+        this.mX = x;
+        this.mY = y;
+        this.mXPx = xPx;
+        this.mYPx = yPx;
+        this.mDataSetIndex = dataSetIndex;
+        this.mDataIndex = -1;
+        this.mStackIndex = stackIndex;
+        this.axis = axis;
+        this.mDrawX = 0f;
+        this.mDrawY = 0f;
+    }
+
     /**
      * returns the x-value of the highlighted value
      *
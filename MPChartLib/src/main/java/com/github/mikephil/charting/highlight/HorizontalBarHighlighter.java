@@ -1,16 +1,10 @@
 package com.github.mikephil.charting.highlight;
 
 import com.github.mikephil.charting.data.BarData;
-import com.github.mikephil.charting.data.DataSet;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
-import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Created by Philipp Jahoda on 22/07/15.
  */
@@ -28,13 +22,15 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 		MPPointD pos = getValsForTouch(y, x);
 
 		Highlight high = getHighlightForX((float) pos.y, y, x);
-		if (high == null)
+		if (high == null) {
+			MPPointD.recycleInstance(pos);
 			return null;
+		}
 
 		IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
 		if (set.isStacked()) {
 
-			return getStackedHighlight(high,
+			high = getStackedHighlight(high,
 					set,
 					(float) pos.y,
 					(float) pos.x);
@@ -46,36 +42,10 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 	}
 
 	@Override
-	protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
-
-		ArrayList<Highlight> highlights = new ArrayList<>();
-
-		//noinspection unchecked
-		List<Entry> entries = set.getEntriesForXValue(xVal);
-		if (entries.size() == 0) {
-			// Try to find closest x-value and take all entries for that x-value
-			final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-			if (closest != null)
-			{
-				//noinspection unchecked
-				entries = set.getEntriesForXValue(closest.getX());
-			}
-		}
-
-		if (entries.size() == 0)
-			return highlights;
-
-		for (Entry e : entries) {
-			MPPointD pixels = mChart.getTransformer(
-					set.getAxisDependency()).getPixelForValues(e.getY(), e.getX());
-
-			highlights.add(new Highlight(
-					e.getX(), e.getY(),
-					(float) pixels.x, (float) pixels.y,
-					dataSetIndex, set.getAxisDependency()));
-		}
-
-		return highlights;
+	protected void setValuePoint(float[] pts, int offset, float x, float y) {
+		// the x-values are on the vertical axis
+		pts[offset] = y;
+		pts[offset + 1] = x;
 	}
 
 	@Override
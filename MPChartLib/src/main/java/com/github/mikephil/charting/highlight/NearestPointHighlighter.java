@@ -0,0 +1,133 @@
+package com.github.mikephil.charting.highlight;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.KdTree;
+import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
+
+/**
+ * Highlighter for ScatterChart and BubbleChart. For DataSets with the spatial index enabled,
+ * the value closest to the touch position in both directions is found in O(log n), instead
+ * of only comparing the values with the x-value closest to the touch position. DataSets
+ * without the index are searched like by the ChartHighlighter.
+ */
+public class NearestPointHighlighter extends ChartHighlighter<BarLineScatterCandleBubbleDataProvider> {
+
+    /**
+     * buffer for the values of the transformation matrix
+     */
+    private float[] mMatrixValues = new float[9];
+
+    /**
+     * reused for the value at the touch position
+     */
+    private MPPointD mTouchValues = MPPointD.getInstance(0, 0);
+
+    public NearestPointHighlighter(BarLineScatterCandleBubbleDataProvider chart) {
+        super(chart);
+    }
+
+    @Override
+    public Highlight getHighlight(float x, float y) {
+
+        BarLineScatterCandleBubbleData data = getData();
+
+        if (data == null || !hasSpatialIndex(data))
+            return super.getHighlight(x, y);
+
+        mHighlightBuffer.clear();
+        recycleHighlights();
+
+        for (int i = 0, dataSetCounts = data.getDataSetCount(); i < dataSetCounts; i++) {
+
+            IDataSet dataSet = data.getDataSetByIndex(i);
+
+            // don't include DataSets that cannot be highlighted
+            if (!dataSet.isHighlightEnabled())
+                continue;
+
+            Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+            trans.getValuesByTouchPoint(x, y, mTouchValues);
+
+            KdTree index = getSpatialIndex(dataSet);
+
+            if (index == null) {
+                addHighlights(dataSet, i, (float) mTouchValues.x, DataSet.Rounding.CLOSEST, mHighlightBuffer);
+                continue;
+            }
+
+            // pixels per value of both axes
+            Matrix valueToPixel = trans.getValueToPixelMatrix();
+            valueToPixel.getValues(mMatrixValues);
+
+            final int entryIndex = index.nearest((float) mTouchValues.x, (float) mTouchValues.y,
+                    Math.abs(mMatrixValues[Matrix.MSCALE_X]), Math.abs(mMatrixValues[Matrix.MSCALE_Y]),
+                    mChart.getMaxHighlightDistance());
+
+            if (entryIndex < 0)
+                continue;
+
+            final float entryX = dataSet.getX(entryIndex);
+            final float entryY = dataSet.getY(entryIndex);
+
+            mPixelBuffer[0] = entryX;
+            mPixelBuffer[1] = entryY;
+            trans.pointValuesToPixel(mPixelBuffer, 1);
+
+            mHighlightBuffer.add(obtainHighlight(entryX, entryY, mPixelBuffer[0], mPixelBuffer[1],
+                    i, dataSet.getAxisDependency()));
+        }
+
+        Highlight detail = getClosestHighlightByPixel(mHighlightBuffer, x, y, null,
+                mChart.getMaxHighlightDistance());
+
+        // the candidates are reused for the next lookup, hand out a copy
+        return detail == null ? null : copyOf(detail);
+    }
+
+    /**
+     * Returns true if any DataSet of the given data has the spatial index enabled.
+     *
+     * @param data
+     * @return
+     */
+    protected boolean hasSpatialIndex(BarLineScatterCandleBubbleData data) {
+
+        for (int i = 0, dataSetCounts = data.getDataSetCount(); i < dataSetCounts; i++) {
+
+            IDataSet dataSet = data.getDataSetByIndex(i);
+
+            if (dataSet instanceof IScatterDataSet && ((IScatterDataSet) dataSet).getSpatialIndex() != null)
+                return true;
+
+            if (dataSet instanceof IBubbleDataSet && ((IBubbleDataSet) dataSet).getSpatialIndex() != null)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the up to date spatial index of the given DataSet, null if it has none.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected KdTree getSpatialIndex(IDataSet dataSet) {
+
+        if (dataSet instanceof IScatterDataSet)
+            return ((IScatterDataSet) dataSet).getSpatialIndex();
+
+        if (dataSet instanceof IBubbleDataSet)
+            return ((IBubbleDataSet) dataSet).getSpatialIndex();
+
+        return null;
+    }
+}
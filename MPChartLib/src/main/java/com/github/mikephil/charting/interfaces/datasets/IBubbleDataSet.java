@@ -1,6 +1,7 @@
 package com.github.mikephil.charting.interfaces.datasets;
 
 import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.utils.KdTree;
 
 /**
  * Created by philipp on 21/10/15.
@@ -24,4 +25,12 @@ public interface IBubbleDataSet extends IBarLineScatterCandleBubbleDataSet<Bubbl
       * @return
      */
     float getHighlightCircleWidth();
+
+    /**
+     * Returns the index used to find the value closest to a touch position, up to date with
+     * the values of this DataSet. Null if the index is not enabled.
+     *
+     * @return
+     */
+    KdTree getSpatialIndex();
 }
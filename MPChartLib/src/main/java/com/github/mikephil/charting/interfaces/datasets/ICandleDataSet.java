@@ -2,6 +2,7 @@ package com.github.mikephil.charting.interfaces.datasets;
 
 import android.graphics.Paint;
 
+import com.github.mikephil.charting.data.CandleAggregationPyramid;
 import com.github.mikephil.charting.data.CandleEntry;
 
 /**
@@ -82,4 +83,12 @@ public interface ICandleDataSet extends ILineScatterCandleRadarDataSet<CandleEnt
      * @return
      */
     boolean getShadowColorSameAsCandle();
+
+    /**
+     * Returns the up to date aggregation of the candles of this DataSet, null if the
+     * aggregation is disabled.
+     *
+     * @return
+     */
+    CandleAggregationPyramid getAggregationPyramid();
 }
@@ -121,6 +121,41 @@ public interface IDataSet<T extends Entry> {
      */
     T getEntryForIndex(int index);
 
+    /**
+     * Returns the x-value of the Entry at the given index (NOT xIndex) in the values array.
+     * Use this instead of getEntryForIndex(index).getX() in performance critical situations,
+     * DataSets with primitive storage do not need to create an Entry object for it.
+     * BaseDataSet implements this through getEntryForIndex(index), classes that implement
+     * IDataSet directly need to add it.
+     *
+     * @param index
+     * @return
+     */
+    float getX(int index);
+
+    /**
+     * Returns the y-value of the Entry at the given index (NOT xIndex) in the values array.
+     * Use this instead of getEntryForIndex(index).getY() in performance critical situations,
+     * DataSets with primitive storage do not need to create an Entry object for it.
+     * BaseDataSet implements this through getEntryForIndex(index), classes that implement
+     * IDataSet directly need to add it.
+     *
+     * @param index
+     * @return
+     */
+    float getY(int index);
+
+    /**
+     * Returns a counter that changes whenever the values of this DataSet are changed through
+     * its methods or notifyDataSetChanged() is called. Renderers compare it to tell if
+     * geometry they cached for this DataSet is still valid. After modifying entries
+     * directly, call notifyDataSetChanged(). BaseDataSet implements this, classes that
+     * implement IDataSet directly need to add it.
+     *
+     * @return
+     */
+    int getDataVersion();
+
     /**
      * Returns the first Entry index found at the given x-value with binary
      * search.
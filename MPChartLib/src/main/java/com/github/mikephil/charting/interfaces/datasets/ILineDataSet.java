@@ -18,6 +18,14 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      */
     LineDataSet.Mode getMode();
 
+    /**
+     * Returns the decimation mode that is used to reduce the number of visible values
+     * before drawing them with LINEAR or STEPPED mode.
+     *
+     * @return
+     */
+    LineDataSet.DecimationMode getDecimationMode();
+
     /**
      * Returns the intensity of the cubic lines (the effect intensity).
      * Max = 1f = very cubic, Min = 0.05f = low cubic effect, Default: 0.2f
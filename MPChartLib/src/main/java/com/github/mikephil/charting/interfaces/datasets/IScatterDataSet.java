@@ -2,6 +2,7 @@ package com.github.mikephil.charting.interfaces.datasets;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.utils.KdTree;
 
 /**
  * Created by philipp on 21/10/15.
@@ -35,4 +36,12 @@ public interface IScatterDataSet extends ILineScatterCandleRadarDataSet<Entry> {
      * @return
      */
     IShapeRenderer getShapeRenderer();
+
+    /**
+     * Returns the index used to find the value closest to a touch position, up to date with
+     * the values of this DataSet. Null if the index is not enabled.
+     *
+     * @return
+     */
+    KdTree getSpatialIndex();
 }
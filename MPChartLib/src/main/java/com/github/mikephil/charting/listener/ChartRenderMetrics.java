@@ -0,0 +1,20 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.utils.RenderMetrics;
+
+/**
+ * Listener that receives the timings and draw counts of every frame a chart renders,
+ * e.g. to export them to telemetry. Called on the UI thread at the end of onDraw(...).
+ */
+public interface ChartRenderMetrics {
+
+    /**
+     * Called after the chart has drawn a frame. The metrics object is reused for the next
+     * frame, copy the values that need to be kept.
+     *
+     * @param chart   the chart that has been drawn
+     * @param metrics the timings and counts of the frame
+     */
+    void onFrameRendered(Chart<?> chart, RenderMetrics metrics);
+}
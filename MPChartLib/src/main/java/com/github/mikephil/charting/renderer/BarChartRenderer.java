@@ -85,6 +85,30 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     private RectF mBarShadowRectBuffer = new RectF();
 
+    /**
+     * Returns the index of the first bar of the given DataSet that can be visible, bars that
+     * start left of the viewport but reach into it are included.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected int getFirstVisibleBarIndex(IBarDataSet dataSet) {
+        return BarBuffer.getFirstVisibleIndex(dataSet, mChart.getLowestVisibleX(),
+                mChart.getBarData().getBarWidth());
+    }
+
+    /**
+     * Returns the index of the last bar of the given DataSet that can be visible, -1 if the
+     * DataSet is empty.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected int getLastVisibleBarIndex(IBarDataSet dataSet) {
+        return BarBuffer.getLastVisibleIndex(dataSet, mChart.getHighestVisibleX(),
+                mChart.getBarData().getBarWidth());
+    }
+
     protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -97,6 +121,10 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        // only the bars within the viewport are processed
+        final int first = getFirstVisibleBarIndex(dataSet);
+        final int last = getLastVisibleBarIndex(dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -107,7 +135,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = first, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), last + 1);
                 i < count;
                 i++) {
 
@@ -140,9 +168,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
         buffer.setBarWidth(mChart.getBarData().getBarWidth());
 
-        buffer.feed(dataSet);
+        buffer.feed(dataSet, first, last);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        trans.pointValuesToPixel(buffer.buffer, buffer.getFeedLength() / 2);
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -152,7 +180,13 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        // the number of drawn bars, stacks count as one bar per value
+        int barCount = 0;
+
+        // the color position of the first fed bar, assumes equally sized stacks
+        final int firstPos = buffer.getFeedStart() * (dataSet.isStacked() ? dataSet.getStackSize() : 1);
+
+        for (int j = 0, pos = firstPos; j < buffer.getFeedLength(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
                 continue;
@@ -160,6 +194,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (!mViewPortHandler.isInBoundsRight(buffer.buffer[j]))
                 break;
 
+            barCount++;
+
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
@@ -186,6 +222,12 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                         buffer.buffer[j + 3], mBarBorderPaint);
             }
         }
+
+        if (mRenderMetrics != null) {
+            mRenderMetrics.addVisibleEntries(dataSet,
+                    dataSet.isStacked() ? barCount / dataSet.getStackSize() : barCount);
+            mRenderMetrics.addRects(dataSet, drawBorder ? barCount * 2 : barCount);
+        }
     }
 
     protected void prepareBarHighlight(float x, float y1, float y2, float barWidthHalf, Transformer trans) {
@@ -206,6 +248,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         // if values are drawn
         if (isDrawingValuesAllowed(mChart)) {
 
+            resetValueLabels();
+
             List<IBarDataSet> dataSets = mChart.getBarData().getDataSets();
 
             final float valueOffsetPlus = Utils.convertDpToPixel(4.5f);
@@ -250,46 +294,62 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    // with culling, the labels of the local extrema are placed in a first pass
+                    final boolean extremaFirst = mValueLabelCullingEnabled && dataSet.isDrawValuesEnabled();
 
-                        float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
+                    for (int pass = extremaFirst ? 0 : 1; pass < 2; pass++) {
 
-                        if (!mViewPortHandler.isInBoundsRight(x))
-                            break;
+                        for (int j = 0; j < buffer.getFeedLength(); j += 4) {
 
-                        if (!mViewPortHandler.isInBoundsY(buffer.buffer[j + 1])
-                                || !mViewPortHandler.isInBoundsLeft(x))
-                            continue;
+                            float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
-                        float val = entry.getY();
+                            if (!mViewPortHandler.isInBoundsRight(x))
+                                break;
 
-                        if (dataSet.isDrawValuesEnabled()) {
-                            drawValue(c, formatter.getBarLabel(entry), x, val >= 0 ?
-                                            (buffer.buffer[j + 1] + posOffset) :
-                                            (buffer.buffer[j + 3] + negOffset),
-                                    dataSet.getValueTextColor(j / 4));
-                        }
+                            if (!mViewPortHandler.isInBoundsY(buffer.buffer[j + 1])
+                                    || !mViewPortHandler.isInBoundsLeft(x))
+                                continue;
 
-                        if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
+                            final int index = buffer.getFeedStart() + j / 4;
+                            final boolean extremum = extremaFirst && isLocalExtremum(dataSet, index);
 
-                            Drawable icon = entry.getIcon();
+                            if (pass == 0 && !extremum)
+                                continue;
 
-                            float px = x;
-                            float py = val >= 0 ?
-                                    (buffer.buffer[j + 1] + posOffset) :
-                                    (buffer.buffer[j + 3] + negOffset);
+                            BarEntry entry = dataSet.getEntryForIndex(index);
+                            float val = entry.getY();
 
-                            px += iconsOffset.x;
-                            py += iconsOffset.y;
+                            if (dataSet.isDrawValuesEnabled() && (pass == 0 || !extremum)) {
 
-                            Utils.drawImage(
-                                    c,
-                                    icon,
-                                    (int)px,
-                                    (int)py,
-                                    icon.getIntrinsicWidth(),
-                                    icon.getIntrinsicHeight());
+                                String label = formatter.getBarLabel(entry);
+                                float y = val >= 0 ?
+                                        (buffer.buffer[j + 1] + posOffset) :
+                                        (buffer.buffer[j + 3] + negOffset);
+
+                                if (placeValueLabel(label, x, y))
+                                    drawValue(c, label, x, y, dataSet.getValueTextColor(index));
+                            }
+
+                            if (pass == 1 && entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
+
+                                Drawable icon = entry.getIcon();
+
+                                float px = x;
+                                float py = val >= 0 ?
+                                        (buffer.buffer[j + 1] + posOffset) :
+                                        (buffer.buffer[j + 3] + negOffset);
+
+                                px += iconsOffset.x;
+                                py += iconsOffset.y;
+
+                                Utils.drawImage(
+                                        c,
+                                        icon,
+                                        (int)px,
+                                        (int)py,
+                                        icon.getIntrinsicWidth(),
+                                        icon.getIntrinsicHeight());
+                            }
                         }
                     }
 
@@ -299,9 +359,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFeedStart();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (bufferIndex < buffer.getFeedLength()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -323,9 +383,13 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 continue;
 
                             if (dataSet.isDrawValuesEnabled()) {
-                                drawValue(c, formatter.getBarLabel(entry), x, buffer.buffer[bufferIndex + 1] +
-                                                (entry.getY() >= 0 ? posOffset : negOffset),
-                                        color);
+
+                                String label = formatter.getBarLabel(entry);
+                                float y = buffer.buffer[bufferIndex + 1] +
+                                        (entry.getY() >= 0 ? posOffset : negOffset);
+
+                                if (placeValueLabel(label, x, y))
+                                    drawValue(c, label, x, y, color);
                             }
 
                             if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -394,7 +458,11 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                     continue;
 
                                 if (dataSet.isDrawValuesEnabled()) {
-                                    drawValue(c, formatter.getBarStackedLabel(val, entry), x, y, color);
+
+                                    String label = formatter.getBarStackedLabel(val, entry);
+
+                                    if (placeValueLabel(label, x, y))
+                                        drawValue(c, label, x, y, color);
                                 }
 
                                 if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
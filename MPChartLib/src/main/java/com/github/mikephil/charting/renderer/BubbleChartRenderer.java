@@ -76,6 +76,9 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        if (mRenderMetrics != null)
+            mRenderMetrics.addVisibleEntries(dataSet, mXBounds.range + 1);
+
         sizeBuffer[0] = 0f;
         sizeBuffer[2] = 1f;
 
@@ -126,6 +129,8 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         // if values are drawn
         if (isDrawingValuesAllowed(mChart)) {
 
+            resetValueLabels();
+
             final List<IBubbleDataSet> dataSets = bubbleData.getDataSets();
 
             float lineHeight = Utils.calcTextHeight(mValuePaint, "1");
@@ -174,7 +179,11 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     BubbleEntry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getBubbleLabel(entry), x, y + (0.5f * lineHeight), valueTextColor);
+
+                        String label = formatter.getBubbleLabel(entry);
+
+                        if (placeValueLabel(label, x, y + (0.5f * lineHeight)))
+                            drawValue(c, label, x, y + (0.5f * lineHeight), valueTextColor);
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
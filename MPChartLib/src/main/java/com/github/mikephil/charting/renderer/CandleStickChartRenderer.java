@@ -5,12 +5,15 @@ import android.graphics.Paint;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.buffer.CandleBuffer;
+import com.github.mikephil.charting.data.CandleAggregationPyramid;
 import com.github.mikephil.charting.data.CandleData;
 import com.github.mikephil.charting.data.CandleEntry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -18,17 +21,33 @@ import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.HashMap;
 import java.util.List;
 
 public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
+    /**
+     * the parts of the candles in a CandleBuffer
+     */
+    protected static final int PART_SHADOWS = 0;
+    protected static final int PART_BODIES = 1;
+    protected static final int PART_BODY_LINES = 2;
+    protected static final int PART_BARS = 3;
+
     protected CandleDataProvider mChart;
 
-    private float[] mShadowBuffers = new float[8];
-    private float[] mBodyBuffers = new float[4];
-    private float[] mRangeBuffers = new float[4];
-    private float[] mOpenBuffers = new float[4];
-    private float[] mCloseBuffers = new float[4];
+    /**
+     * the geometry buffers of the DataSets, created when needed
+     */
+    protected HashMap<IDataSet, CandleBuffer> mCandleBuffers = new HashMap<>();
+
+    /**
+     * the minimum distance between two drawn candles in pixels, closer candles are merged if
+     * the DataSet has aggregation enabled
+     */
+    protected static final float MIN_CANDLE_SPACING = 1f;
+
+    private float[] mSpacingBuffer = new float[4];
 
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
@@ -39,6 +58,13 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
     @Override
     public void initBuffers() {
 
+        // keep the buffers of the current DataSets, they grow with their DataSet
+        CandleData candleData = mChart.getCandleData();
+
+        if (candleData == null)
+            mCandleBuffers.clear();
+        else
+            mCandleBuffers.keySet().retainAll(candleData.getDataSets());
     }
 
     @Override
@@ -58,198 +84,249 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-        float phaseY = mAnimator.getPhaseY();
-        float barSpace = dataSet.getBarSpace();
-        boolean showCandleBar = dataSet.getShowCandleBar();
+        CandleBuffer buffer = getCandleBuffer(dataSet);
+
+        final int level = getAggregationLevel(dataSet, trans);
+        final int from, to;
+
+        if (level > 0) {
+
+            CandleAggregationPyramid pyramid = dataSet.getAggregationPyramid();
+
+            float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
 
-        mXBounds.set(mChart, dataSet);
+            from = pyramid.getIndex(level, mChart.getLowestVisibleX(), false);
+            to = from + (int) ((pyramid.getIndex(level, mChart.getHighestVisibleX(), true) - from) * phaseX);
+        } else {
+
+            mXBounds.set(mChart, dataSet);
+
+            from = mXBounds.min;
+            to = mXBounds.min + mXBounds.range;
+        }
+
+        buffer.setPhases(mAnimator.getPhaseX(), mAnimator.getPhaseY());
+        buffer.feed(dataSet, level, from, to);
+
+        trans.pointValuesToPixel(buffer.buffer, buffer.getFeedLength() / 2);
 
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
-        // draw the body
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        // the number of drawn lines and rects
+        int lineCount = 0;
+        int rectCount = 0;
 
-            // get the entry
-            CandleEntry e = dataSet.getEntryForIndex(j);
+        if (buffer.isShowCandleBar()) {
 
-            if (e == null)
-                continue;
+            // draw the shadows
+            mRenderPaint.setStyle(Paint.Style.STROKE);
 
-            final float xPos = e.getX();
-
-            final float open = e.getOpen();
-            final float close = e.getClose();
-            final float high = e.getHigh();
-            final float low = e.getLow();
-
-            if (showCandleBar) {
-                // calculate the shadow
-
-                mShadowBuffers[0] = xPos;
-                mShadowBuffers[2] = xPos;
-                mShadowBuffers[4] = xPos;
-                mShadowBuffers[6] = xPos;
-
-                if (open > close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = close * phaseY;
-                } else if (open < close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = close * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = open * phaseY;
-                } else {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = mShadowBuffers[3];
-                }
+            for (int type = CandleBuffer.DECREASING; type <= CandleBuffer.NEUTRAL; type++) {
 
-                trans.pointValuesToPixel(mShadowBuffers);
-
-                // draw the shadows
-
-                if (dataSet.getShadowColorSameAsCandle()) {
-
-                    if (open > close)
-                        mRenderPaint.setColor(
-                                dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getDecreasingColor()
-                        );
-
-                    else if (open < close)
-                        mRenderPaint.setColor(
-                                dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getIncreasingColor()
-                        );
-
-                    else
-                        mRenderPaint.setColor(
-                                dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getNeutralColor()
-                        );
-
-                } else {
-                    mRenderPaint.setColor(
-                            dataSet.getShadowColor() == ColorTemplate.COLOR_NONE ?
-                                    dataSet.getColor(j) :
-                                    dataSet.getShadowColor()
-                    );
-                }
+                int color = dataSet.getShadowColorSameAsCandle()
+                        ? getCandleColor(dataSet, type)
+                        : dataSet.getShadowColor();
 
-                mRenderPaint.setStyle(Paint.Style.STROKE);
+                drawCandles(c, dataSet, buffer, type, PART_SHADOWS, color);
+            }
 
-                c.drawLines(mShadowBuffers, mRenderPaint);
+            lineCount += buffer.getCandleCount() * 2;
 
-                // calculate the body
+            // draw the bodies differently for increasing and decreasing entries
+            mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
+            drawCandles(c, dataSet, buffer, CandleBuffer.DECREASING, PART_BODIES,
+                    dataSet.getDecreasingColor());
 
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
+            mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
+            drawCandles(c, dataSet, buffer, CandleBuffer.INCREASING, PART_BODIES,
+                    dataSet.getIncreasingColor());
 
-                trans.pointValuesToPixel(mBodyBuffers);
+            // the bodies of neutral entries are lines
+            mRenderPaint.setStyle(Paint.Style.STROKE);
+            drawCandles(c, dataSet, buffer, CandleBuffer.NEUTRAL, PART_BODY_LINES,
+                    dataSet.getNeutralColor());
 
-                // draw body differently for increasing and decreasing entry
-                if (open > close) { // decreasing
+            rectCount += buffer.getCandleCount(CandleBuffer.DECREASING)
+                    + buffer.getCandleCount(CandleBuffer.INCREASING);
+            lineCount += buffer.getCandleCount(CandleBuffer.NEUTRAL);
 
-                    if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getDecreasingColor());
-                    }
+        } else {
 
-                    mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
+            // draw the ranges and open / close ticks
+            for (int type = CandleBuffer.DECREASING; type <= CandleBuffer.NEUTRAL; type++) {
+                drawCandles(c, dataSet, buffer, type, PART_BARS, getCandleColor(dataSet, type));
+            }
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[3],
-                            mBodyBuffers[2], mBodyBuffers[1],
-                            mRenderPaint);
+            lineCount += buffer.getCandleCount() * 3;
+        }
 
-                } else if (open < close) {
+        if (mRenderMetrics != null) {
+            mRenderMetrics.addVisibleEntries(dataSet, to - from + 1);
+            mRenderMetrics.addLines(dataSet, lineCount);
+            mRenderMetrics.addRects(dataSet, rectCount);
+        }
+    }
 
-                    if (dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getIncreasingColor());
-                    }
+    /**
+     * Returns the level of the aggregation pyramid of the DataSet to draw, the first level in
+     * which neighbouring candles are at least MIN_CANDLE_SPACING pixels apart. 0 if the
+     * aggregation is disabled or the entries are far enough apart.
+     *
+     * @param dataSet
+     * @param trans
+     * @return
+     */
+    protected int getAggregationLevel(ICandleDataSet dataSet, Transformer trans) {
 
-                    mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
+        CandleAggregationPyramid pyramid = dataSet.getAggregationPyramid();
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                } else { // equal values
+        if (pyramid == null || dataSet.getEntryCount() < 2)
+            return 0;
 
-                    if (dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getNeutralColor());
-                    }
+        mSpacingBuffer[0] = dataSet.getXMin();
+        mSpacingBuffer[2] = dataSet.getXMax();
 
-                    c.drawLine(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                }
-            } else {
-
-                mRangeBuffers[0] = xPos;
-                mRangeBuffers[1] = high * phaseY;
-                mRangeBuffers[2] = xPos;
-                mRangeBuffers[3] = low * phaseY;
-
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
-                mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
-
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
-                mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
-
-                trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
-
-                // draw the ranges
-                int barColor;
-
-                if (open > close)
-                    barColor = dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getDecreasingColor();
-                else if (open < close)
-                    barColor = dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getIncreasingColor();
-                else
-                    barColor = dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getNeutralColor();
-
-                mRenderPaint.setColor(barColor);
-                c.drawLine(
-                        mRangeBuffers[0], mRangeBuffers[1],
-                        mRangeBuffers[2], mRangeBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mOpenBuffers[0], mOpenBuffers[1],
-                        mOpenBuffers[2], mOpenBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mCloseBuffers[0], mCloseBuffers[1],
-                        mCloseBuffers[2], mCloseBuffers[3],
-                        mRenderPaint);
+        trans.pointValuesToPixel(mSpacingBuffer);
+
+        // the average distance between neighbouring entries in pixels
+        float spacing = Math.abs(mSpacingBuffer[2] - mSpacingBuffer[0]) / (dataSet.getEntryCount() - 1);
+
+        int level = 0;
+
+        while (spacing < MIN_CANDLE_SPACING && level + 1 < pyramid.getLevelCount()) {
+            spacing *= 2f;
+            level++;
+        }
+
+        return level;
+    }
+
+    /**
+     * Returns the buffer for the given DataSet, large enough for all of its entries.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected CandleBuffer getCandleBuffer(ICandleDataSet dataSet) {
+
+        CandleBuffer buffer = mCandleBuffers.get(dataSet);
+
+        final int size = dataSet.getEntryCount() * CandleBuffer.FLOATS_PER_CANDLE;
+
+        if (buffer == null || buffer.size() < size) {
+
+            // leave room for appended entries, e.g. of a live chart
+            buffer = new CandleBuffer(size + size / 4 + 64 * CandleBuffer.FLOATS_PER_CANDLE);
+            mCandleBuffers.put(dataSet, buffer);
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Returns the color of the candles of the given type, COLOR_NONE if the color of the
+     * DataSet is used.
+     *
+     * @param dataSet
+     * @param type
+     * @return
+     */
+    protected int getCandleColor(ICandleDataSet dataSet, int type) {
+
+        if (type == CandleBuffer.DECREASING)
+            return dataSet.getDecreasingColor();
+        else if (type == CandleBuffer.INCREASING)
+            return dataSet.getIncreasingColor();
+        else
+            return dataSet.getNeutralColor();
+    }
+
+    /**
+     * Draws a part of all fed candles of the given type. If the color is COLOR_NONE, the
+     * colors of the entries are used and the candles are drawn in runs of the same color.
+     *
+     * @param c
+     * @param dataSet
+     * @param buffer
+     * @param type
+     * @param part
+     * @param color
+     */
+    protected void drawCandles(Canvas c, ICandleDataSet dataSet, CandleBuffer buffer,
+                               int type, int part, int color) {
+
+        final int first = buffer.getFirstCandle(type);
+        final int end = first + buffer.getCandleCount(type);
+
+        if (first == end)
+            return;
+
+        if (color != ColorTemplate.COLOR_NONE || dataSet.getColors().size() == 1) {
+
+            mRenderPaint.setColor(color != ColorTemplate.COLOR_NONE ? color : dataSet.getColor());
+            drawCandleRun(c, buffer, part, first, end - first);
+            return;
+        }
+
+        int runStart = first;
+        int runColor = dataSet.getColor(buffer.getEntryIndex(first));
+
+        for (int candle = first + 1; candle < end; candle++) {
+
+            final int candleColor = dataSet.getColor(buffer.getEntryIndex(candle));
+
+            if (candleColor != runColor) {
+
+                mRenderPaint.setColor(runColor);
+                drawCandleRun(c, buffer, part, runStart, candle - runStart);
+
+                runStart = candle;
+                runColor = candleColor;
             }
         }
+
+        mRenderPaint.setColor(runColor);
+        drawCandleRun(c, buffer, part, runStart, end - runStart);
+    }
+
+    /**
+     * Draws a part of consecutive candles of the same type with the current paint.
+     *
+     * @param c
+     * @param buffer
+     * @param part
+     * @param first
+     * @param count
+     */
+    protected void drawCandleRun(Canvas c, CandleBuffer buffer, int part, int first, int count) {
+
+        final float[] pts = buffer.buffer;
+
+        switch (part) {
+
+            case PART_SHADOWS:
+                c.drawLines(pts, buffer.getShadowOffset(first), count * 8, mRenderPaint);
+                break;
+
+            case PART_BODY_LINES:
+                c.drawLines(pts, buffer.getBodyOffset(first), count * 4, mRenderPaint);
+                break;
+
+            case PART_BARS:
+                c.drawLines(pts, buffer.getBarOffset(first), count * 12, mRenderPaint);
+                break;
+
+            default:
+
+                final int offset = buffer.getBodyOffset(first);
+
+                // there is no bulk call for rects, but the same paint for all rects lets
+                // the canvas draw them together
+                for (int i = offset; i < offset + count * 4; i += 4) {
+                    c.drawRect(pts[i], pts[i + 1], pts[i + 2], pts[i + 3], mRenderPaint);
+                }
+                break;
+        }
     }
 
     @Override
@@ -258,6 +335,8 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         // if values are drawn
         if (isDrawingValuesAllowed(mChart)) {
 
+            resetValueLabels();
+
             List<ICandleDataSet> dataSets = mChart.getCandleData().getDataSets();
 
             for (int i = 0; i < dataSets.size(); i++) {
@@ -299,7 +378,11 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     CandleEntry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getCandleLabel(entry), x, y - yOffset, dataSet.getValueTextColor(j / 2));
+
+                        String label = formatter.getCandleLabel(entry);
+
+                        if (placeValueLabel(label, x, y - yOffset))
+                            drawValue(c, label, x, y - yOffset, dataSet.getValueTextColor(j / 2));
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
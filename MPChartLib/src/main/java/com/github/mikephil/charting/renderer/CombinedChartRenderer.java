@@ -10,6 +10,7 @@ import com.github.mikephil.charting.charts.CombinedChart.DrawOrder;
 import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.CombinedData;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.utils.RenderMetrics;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
@@ -75,6 +76,22 @@ public class CombinedChartRenderer extends DataRenderer {
         }
     }
 
+    @Override
+    public void setRenderMetrics(RenderMetrics metrics) {
+        super.setRenderMetrics(metrics);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setRenderMetrics(metrics);
+    }
+
+    @Override
+    public void setValueLabelCullingEnabled(boolean enabled) {
+        super.setValueLabelCullingEnabled(enabled);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setValueLabelCullingEnabled(enabled);
+    }
+
     @Override
     public void initBuffers() {
 
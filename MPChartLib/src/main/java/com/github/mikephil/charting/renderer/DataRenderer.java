@@ -10,6 +10,8 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.LabelOccupancyGrid;
+import com.github.mikephil.charting.utils.RenderMetrics;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -43,6 +45,26 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * collects the draw counts of the current frame, null if they are not needed
+     */
+    protected RenderMetrics mRenderMetrics;
+
+    /**
+     * if true, value labels that would overlap an already drawn label are skipped
+     */
+    protected boolean mValueLabelCullingEnabled = false;
+
+    /**
+     * the area covered by the value labels drawn in the current frame
+     */
+    protected LabelOccupancyGrid mLabelGrid = new LabelOccupancyGrid();
+
+    /**
+     * the edge length of the cells of the label grid in dp
+     */
+    private static final float LABEL_GRID_CELL_SIZE = 8f;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -63,11 +85,106 @@ public abstract class DataRenderer extends Renderer {
         mHighlightPaint.setColor(Color.rgb(255, 187, 115));
     }
 
+    /**
+     * Sets the object the visible entries and the drawn lines and rectangles are counted in,
+     * null to stop counting.
+     *
+     * @param metrics
+     */
+    public void setRenderMetrics(RenderMetrics metrics) {
+        mRenderMetrics = metrics;
+    }
+
     protected boolean isDrawingValuesAllowed(ChartInterface chart) {
+
+        // the labels are thinned out instead
+        if (mValueLabelCullingEnabled)
+            return true;
+
         return chart.getData().getEntryCount() < chart.getMaxVisibleCount()
                 * mViewPortHandler.getScaleX();
     }
 
+    /**
+     * If enabled, value labels that would overlap an already drawn label are skipped, and the
+     * labels are drawn regardless of the max visible value count of the chart. Labels of local
+     * minima and maxima are placed first by the line, bar and scatter renderers.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setValueLabelCullingEnabled(boolean enabled) {
+        mValueLabelCullingEnabled = enabled;
+    }
+
+    public boolean isValueLabelCullingEnabled() {
+        return mValueLabelCullingEnabled;
+    }
+
+    /**
+     * Removes the labels of the last frame from the label grid, call this before the value
+     * labels are placed.
+     */
+    protected void resetValueLabels() {
+
+        if (!mValueLabelCullingEnabled)
+            return;
+
+        mLabelGrid.reset(0f, 0f, mViewPortHandler.getChartWidth(), mViewPortHandler.getChartHeight(),
+                Utils.convertDpToPixel(LABEL_GRID_CELL_SIZE));
+    }
+
+    /**
+     * Returns true if the given label, drawn with the value paint at the given position,
+     * does not overlap an already placed label and marks its area as occupied. Always true
+     * if the culling is disabled.
+     *
+     * @param valueText
+     * @param x
+     * @param y the baseline of the label
+     * @return
+     */
+    protected boolean placeValueLabel(CharSequence valueText, float x, float y) {
+
+        if (!mValueLabelCullingEnabled || valueText == null || valueText.length() == 0)
+            return true;
+
+        final String text = valueText.toString();
+
+        final float width = Utils.calcTextWidth(mValuePaint, text);
+        final float height = Utils.calcTextHeight(mValuePaint, text);
+
+        float left = x;
+
+        if (mValuePaint.getTextAlign() == Align.CENTER)
+            left -= width / 2f;
+        else if (mValuePaint.getTextAlign() == Align.RIGHT)
+            left -= width;
+
+        return mLabelGrid.place(left, y - height, left + width, y);
+    }
+
+    /**
+     * Returns true if the y-value at the given index is a local minimum or maximum of the
+     * DataSet, or the first or last value. These labels are placed first if the culling is
+     * enabled.
+     *
+     * @param dataSet
+     * @param index
+     * @return
+     */
+    protected boolean isLocalExtremum(IDataSet dataSet, int index) {
+
+        if (index <= 0 || index >= dataSet.getEntryCount() - 1)
+            return true;
+
+        final float y = dataSet.getY(index);
+        final float previous = dataSet.getY(index - 1);
+        final float next = dataSet.getY(index + 1);
+
+        return (y >= previous && y >= next) || (y <= previous && y <= next);
+    }
+
     /**
      * Returns the Paint object this renderer uses for drawing the values
      * (value-text).
@@ -141,6 +258,27 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void drawValue(Canvas c, String valueText, float x, float y, int color);
 
+    /**
+     * Draws the given value label, e.g. a reused buffer of the ValueFormatter, without
+     * creating a String. Labels that are Strings are drawn by drawValue(Canvas, String, ...).
+     *
+     * @param c         canvas
+     * @param valueText label to draw
+     * @param x         position
+     * @param y         position
+     * @param color
+     */
+    public void drawValue(Canvas c, CharSequence valueText, float x, float y, int color) {
+
+        if (valueText instanceof String) {
+            drawValue(c, (String) valueText, x, y, color);
+            return;
+        }
+
+        mValuePaint.setColor(color);
+        c.drawText(valueText, 0, valueText.length(), x, y, mValuePaint);
+    }
+
     /**
      * Draws any kind of additional information (e.g. line-circles).
      *
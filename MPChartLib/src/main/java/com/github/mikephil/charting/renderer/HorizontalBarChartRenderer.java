@@ -65,6 +65,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        // only the bars within the viewport are processed
+        final int first = getFirstVisibleBarIndex(dataSet);
+        final int last = getLastVisibleBarIndex(dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -75,7 +79,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = first, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), last + 1);
                  i < count;
                  i++) {
 
@@ -108,9 +112,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
         buffer.setBarWidth(mChart.getBarData().getBarWidth());
 
-        buffer.feed(dataSet);
+        buffer.feed(dataSet, first, last);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        trans.pointValuesToPixel(buffer.buffer, buffer.getFeedLength() / 2);
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -120,7 +124,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        // the number of drawn bars, stacks count as one bar per value
+        int barCount = 0;
+
+        for (int j = 0, pos = 0; j < buffer.getFeedLength(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 3]))
                 break;
@@ -128,10 +135,12 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                 continue;
 
+            barCount++;
+
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(buffer.getFeedStart() + j / 4));
             }
 
             if (isCustomFill) {
@@ -154,6 +163,12 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         buffer.buffer[j + 3], mBarBorderPaint);
             }
         }
+
+        if (mRenderMetrics != null) {
+            mRenderMetrics.addVisibleEntries(dataSet,
+                    dataSet.isStacked() ? barCount / dataSet.getStackSize() : barCount);
+            mRenderMetrics.addRects(dataSet, drawBorder ? barCount * 2 : barCount);
+        }
     }
 
     @Override
@@ -161,6 +176,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         // if values are drawn
         if (isDrawingValuesAllowed(mChart)) {
 
+            resetValueLabels();
+
             List<IBarDataSet> dataSets = mChart.getBarData().getDataSets();
 
             final float valueOffsetPlus = Utils.convertDpToPixel(5f);
@@ -195,7 +212,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.getFeedLength(); j += 4) {
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -208,7 +225,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(buffer.getFeedStart() + j / 4);
                         float val = entry.getY();
                         String formattedValue = formatter.getBarLabel(entry);
 
@@ -224,11 +241,15 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         }
 
                         if (dataSet.isDrawValuesEnabled()) {
-                            drawValue(c,
-                                    formattedValue,
-                                    buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset),
-                                    y + halfTextHeight,
-                                    dataSet.getValueTextColor(j / 2));
+
+                            float labelX = buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset);
+
+                            if (placeValueLabel(formattedValue, labelX, y + halfTextHeight))
+                                drawValue(c,
+                                        formattedValue,
+                                        labelX,
+                                        y + halfTextHeight,
+                                        dataSet.getValueTextColor(buffer.getFeedStart() * 2 + j / 2));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -257,9 +278,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFeedStart();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (bufferIndex < buffer.getFeedLength()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -293,10 +314,13 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             }
 
                             if (dataSet.isDrawValuesEnabled()) {
-                                drawValue(c, formattedValue,
-                                        buffer.buffer[bufferIndex + 2]
-                                                + (entry.getY() >= 0 ? posOffset : negOffset),
-                                        buffer.buffer[bufferIndex + 1] + halfTextHeight, color);
+
+                                float labelX = buffer.buffer[bufferIndex + 2]
+                                        + (entry.getY() >= 0 ? posOffset : negOffset);
+                                float labelY = buffer.buffer[bufferIndex + 1] + halfTextHeight;
+
+                                if (placeValueLabel(formattedValue, labelX, labelY))
+                                    drawValue(c, formattedValue, labelX, labelY, color);
                             }
 
                             if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -379,7 +403,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 if (!mViewPortHandler.isInBoundsBottom(y))
                                     continue;
 
-                                if (dataSet.isDrawValuesEnabled()) {
+                                if (dataSet.isDrawValuesEnabled()
+                                        && placeValueLabel(formattedValue, x, y + halfTextHeight)) {
                                     drawValue(c, formattedValue, x, y + halfTextHeight, color);
                                 }
 
@@ -434,6 +459,11 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
     @Override
     protected boolean isDrawingValuesAllowed(ChartInterface chart) {
+
+        // the labels are thinned out instead
+        if (mValueLabelCullingEnabled)
+            return true;
+
         return chart.getData().getEntryCount() < chart.getMaxVisibleCount()
                 * mViewPortHandler.getScaleY();
     }
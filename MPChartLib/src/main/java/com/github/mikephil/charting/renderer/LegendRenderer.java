@@ -81,153 +81,179 @@ public class LegendRenderer extends Renderer {
      * @param data
      */
     public void computeLegend(ChartData<?> data) {
+        computeLegend(data, null);
+    }
+
+    /**
+     * Prepares the legend and calculates all needed forms, labels and colors.
+     *
+     * @param data
+     * @param preparedEntries the entries computeLegendEntries(...) returned for the data, or
+     *                        null to compute them
+     */
+    public void computeLegend(ChartData<?> data, List<LegendEntry> preparedEntries) {
 
         if (!mLegend.isLegendCustom()) {
 
             computedEntries.clear();
 
-            // loop for building up the colors and labels used in the legend
-            for (int i = 0; i < data.getDataSetCount(); i++) {
-
-                IDataSet dataSet = data.getDataSetByIndex(i);
-                if (dataSet == null) continue;
+            if (preparedEntries != null)
+                computedEntries.addAll(preparedEntries);
+            else
+                computeLegendEntries(data, computedEntries);
 
-                List<Integer> clrs = dataSet.getColors();
-                int entryCount = dataSet.getEntryCount();
+            if (mLegend.getExtraEntries() != null) {
+                Collections.addAll(computedEntries, mLegend.getExtraEntries());
+            }
 
-                // if we have a barchart with stacked bars
-                if (dataSet instanceof IBarDataSet && ((IBarDataSet) dataSet).isStacked()) {
+            mLegend.setEntries(computedEntries);
+        }
 
-                    IBarDataSet bds = (IBarDataSet) dataSet;
-                    String[] sLabels = bds.getStackLabels();
+        Typeface tf = mLegend.getTypeface();
 
-                    int minEntries = Math.min(clrs.size(), bds.getStackSize());
+        if (tf != null)
+            mLegendLabelPaint.setTypeface(tf);
 
-                    for (int j = 0; j < minEntries; j++) {
-                        String label;
-                        if (sLabels.length > 0) {
-                            int labelIndex = j % minEntries;
-                            label = labelIndex < sLabels.length ? sLabels[labelIndex] : null;
-                        } else {
-                            label = null;
-                        }
+        mLegendLabelPaint.setTextSize(mLegend.getTextSize());
+        mLegendLabelPaint.setColor(mLegend.getTextColor());
 
-                        computedEntries.add(new LegendEntry(
-                                label,
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
-                    }
+        // calculate all dimensions of the mLegend
+        mLegend.calculateDimensions(mLegendLabelPaint, mViewPortHandler);
+    }
 
-                    if (bds.getLabel() != null) {
-                        // add the legend description label
-                        computedEntries.add(new LegendEntry(
-                                dataSet.getLabel(),
-                                Legend.LegendForm.NONE,
-                                Float.NaN,
-                                Float.NaN,
-                                null,
-                                ColorTemplate.COLOR_NONE
-                        ));
-                    }
+    /**
+     * Adds the legend entries of the DataSets of the given data to the given list, without
+     * the extra entries of the legend. Only reads the data, so it can be called on any thread.
+     *
+     * @param data
+     * @param computedEntries
+     */
+    public static void computeLegendEntries(ChartData<?> data, List<LegendEntry> computedEntries) {
 
-                } else if (dataSet instanceof IPieDataSet) {
+        // loop for building up the colors and labels used in the legend
+        for (int i = 0; i < data.getDataSetCount(); i++) {
 
-                    IPieDataSet pds = (IPieDataSet) dataSet;
+            IDataSet dataSet = data.getDataSetByIndex(i);
+            if (dataSet == null) continue;
 
-                    for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+            List<Integer> clrs = dataSet.getColors();
+            int entryCount = dataSet.getEntryCount();
 
-                        computedEntries.add(new LegendEntry(
-                                pds.getEntryForIndex(j).getLabel(),
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
-                    }
+            // if we have a barchart with stacked bars
+            if (dataSet instanceof IBarDataSet && ((IBarDataSet) dataSet).isStacked()) {
 
-                    if (pds.getLabel() != null) {
-                        // add the legend description label
-                        computedEntries.add(new LegendEntry(
-                                dataSet.getLabel(),
-                                Legend.LegendForm.NONE,
-                                Float.NaN,
-                                Float.NaN,
-                                null,
-                                ColorTemplate.COLOR_NONE
-                        ));
-                    }
+                IBarDataSet bds = (IBarDataSet) dataSet;
+                String[] sLabels = bds.getStackLabels();
 
-                } else if (dataSet instanceof ICandleDataSet && ((ICandleDataSet) dataSet).getDecreasingColor() !=
-                        ColorTemplate.COLOR_NONE) {
+                int minEntries = Math.min(clrs.size(), bds.getStackSize());
 
-                    int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
-                    int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
+                for (int j = 0; j < minEntries; j++) {
+                    String label;
+                    if (sLabels.length > 0) {
+                        int labelIndex = j % minEntries;
+                        label = labelIndex < sLabels.length ? sLabels[labelIndex] : null;
+                    } else {
+                        label = null;
+                    }
 
                     computedEntries.add(new LegendEntry(
-                            null,
+                            label,
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
-                            decreasingColor
+                            clrs.get(j)
                     ));
+                }
 
+                if (bds.getLabel() != null) {
+                    // add the legend description label
                     computedEntries.add(new LegendEntry(
                             dataSet.getLabel(),
+                            Legend.LegendForm.NONE,
+                            Float.NaN,
+                            Float.NaN,
+                            null,
+                            ColorTemplate.COLOR_NONE
+                    ));
+                }
+
+            } else if (dataSet instanceof IPieDataSet) {
+
+                IPieDataSet pds = (IPieDataSet) dataSet;
+
+                for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+
+                    computedEntries.add(new LegendEntry(
+                            pds.getEntryForIndex(j).getLabel(),
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
-                            increasingColor
+                            clrs.get(j)
                     ));
+                }
 
-                } else { // all others
-
-                    for (int j = 0; j < clrs.size() && j < entryCount; j++) {
-
-                        String label;
-
-                        // if multiple colors are set for a DataSet, group them
-                        if (j < clrs.size() - 1 && j < entryCount - 1) {
-                            label = null;
-                        } else { // add label to the last entry
-                            label = data.getDataSetByIndex(i).getLabel();
-                        }
+                if (pds.getLabel() != null) {
+                    // add the legend description label
+                    computedEntries.add(new LegendEntry(
+                            dataSet.getLabel(),
+                            Legend.LegendForm.NONE,
+                            Float.NaN,
+                            Float.NaN,
+                            null,
+                            ColorTemplate.COLOR_NONE
+                    ));
+                }
 
-                        computedEntries.add(new LegendEntry(
-                                label,
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
+            } else if (dataSet instanceof ICandleDataSet && ((ICandleDataSet) dataSet).getDecreasingColor() !=
+                    ColorTemplate.COLOR_NONE) {
+
+                int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
+                int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
+
+                computedEntries.add(new LegendEntry(
+                        null,
+                        dataSet.getForm(),
+                        dataSet.getFormSize(),
+                        dataSet.getFormLineWidth(),
+                        dataSet.getFormLineDashEffect(),
+                        decreasingColor
+                ));
+
+                computedEntries.add(new LegendEntry(
+                        dataSet.getLabel(),
+                        dataSet.getForm(),
+                        dataSet.getFormSize(),
+                        dataSet.getFormLineWidth(),
+                        dataSet.getFormLineDashEffect(),
+                        increasingColor
+                ));
+
+            } else { // all others
+
+                for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+
+                    String label;
+
+                    // if multiple colors are set for a DataSet, group them
+                    if (j < clrs.size() - 1 && j < entryCount - 1) {
+                        label = null;
+                    } else { // add label to the last entry
+                        label = data.getDataSetByIndex(i).getLabel();
                     }
-                }
-            }
 
-            if (mLegend.getExtraEntries() != null) {
-                Collections.addAll(computedEntries, mLegend.getExtraEntries());
+                    computedEntries.add(new LegendEntry(
+                            label,
+                            dataSet.getForm(),
+                            dataSet.getFormSize(),
+                            dataSet.getFormLineWidth(),
+                            dataSet.getFormLineDashEffect(),
+                            clrs.get(j)
+                    ));
+                }
             }
-
-            mLegend.setEntries(computedEntries);
         }
-
-        Typeface tf = mLegend.getTypeface();
-
-        if (tf != null)
-            mLegendLabelPaint.setTypeface(tf);
-
-        mLegendLabelPaint.setTextSize(mLegend.getTextSize());
-        mLegendLabelPaint.setColor(mLegend.getTextColor());
-
-        // calculate all dimensions of the mLegend
-        mLegend.calculateDimensions(mLegendLabelPaint, mViewPortHandler);
     }
 
     protected Paint.FontMetrics legendFontMetrics = new Paint.FontMetrics();
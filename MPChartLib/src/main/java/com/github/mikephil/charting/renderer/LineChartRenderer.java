@@ -3,15 +3,20 @@ package com.github.mikephil.charting.renderer;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Path;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.buffer.LineBuffer;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.Decimator;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
@@ -25,6 +30,7 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
@@ -54,6 +60,27 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     protected Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
 
+    /**
+     * if true, the rendered data is kept in the drawing bitmap and reused as long as
+     * neither the data nor the viewport or animation changed
+     */
+    protected boolean mDataLayerCacheEnabled = false;
+
+    /**
+     * true if the drawing bitmap contains the data as described by mDataLayerKey
+     */
+    private boolean mDataLayerValid = false;
+
+    /**
+     * the state the data layer was rendered with
+     */
+    private final DataLayerKey mDataLayerKey = new DataLayerKey();
+
+    /**
+     * buffer for the size, animation phases and matrices of the current frame
+     */
+    private final float[] mDataLayerViewState = new float[22];
+
     protected Path cubicPath = new Path();
     protected Path cubicFillPath = new Path();
 
@@ -69,6 +96,17 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     @Override
     public void initBuffers() {
+        // the data has changed, the decimated values and the data layer are outdated
+        mDecimationCaches.clear();
+        mDataLayerValid = false;
+
+        // the splines are keyed on the data version, only drop the ones of removed DataSets
+        LineData lineData = mChart.getLineData();
+
+        if (lineData == null)
+            mSplineCaches.clear();
+        else
+            mSplineCaches.keySet().retainAll(lineData.getDataSets());
     }
 
     @Override
@@ -87,14 +125,36 @@ public class LineChartRenderer extends LineRadarRenderer {
                 drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
                 mDrawBitmap = new WeakReference<>(drawBitmap);
                 mBitmapCanvas = new Canvas(drawBitmap);
+                mDataLayerValid = false;
             } else
                 return;
         }
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
-
         LineData lineData = mChart.getLineData();
 
+        if (mDataLayerCacheEnabled) {
+
+            // only composite the retained layer if nothing changed, e.g. on highlighting
+            if (!isDataLayerUpToDate(lineData)) {
+
+                drawBitmap.eraseColor(Color.TRANSPARENT);
+
+                // everything goes into the layer, also what is usually drawn directly
+                for (ILineDataSet set : lineData.getDataSets()) {
+
+                    if (set.isVisible())
+                        drawDataSet(mBitmapCanvas, set);
+                }
+
+                mDataLayerValid = true;
+            }
+
+            c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+            return;
+        }
+
+        drawBitmap.eraseColor(Color.TRANSPARENT);
+
         for (ILineDataSet set : lineData.getDataSets()) {
 
             if (set.isVisible())
@@ -132,6 +192,31 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     protected void drawHorizontalBezier(ILineDataSet dataSet) {
+        drawSpline(dataSet);
+    }
+
+    protected void drawCubicBezier(ILineDataSet dataSet) {
+        drawSpline(dataSet);
+    }
+
+    /**
+     * buffer for the visible part of a spline, transformed into pixels
+     */
+    private float[] mSplineBuffer = new float[0];
+
+    /**
+     * buffer for the corners of the fill below a spline
+     */
+    private float[] mSplineFillBuffer = new float[4];
+
+    /**
+     * Draws the visible part of a cubic or horizontal bezier DataSet. The control points
+     * come from the spline cache of the DataSet, so that panning and zooming only copy and
+     * transform them instead of computing the spline again.
+     *
+     * @param dataSet
+     */
+    protected void drawSpline(ILineDataSet dataSet) {
 
         float phaseY = mAnimator.getPhaseY();
 
@@ -139,151 +224,320 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
-        cubicPath.reset();
+        if (mRenderMetrics != null) {
+            mRenderMetrics.addVisibleEntries(dataSet, mXBounds.range + 1);
+            mRenderMetrics.addLines(dataSet, mXBounds.range);
+        }
 
-        if (mXBounds.range >= 1) {
+        if (mXBounds.range < 1)
+            return;
 
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
+        float[] points = getSpline(dataSet, mXBounds.min, mXBounds.min + mXBounds.range).points;
 
-            // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+        // the start point, followed by both control points and the end point of each segment
+        final int pointCount = 1 + mXBounds.range * 3;
 
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
+        if (mSplineBuffer.length < pointCount * 2)
+            mSplineBuffer = new float[pointCount * 2];
 
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
+        final float[] buffer = mSplineBuffer;
 
-                final float cpx = (prev.getX())
-                        + (cur.getX() - prev.getX()) / 2.0f;
+        buffer[0] = points[mXBounds.min * 6 + 4];
+        buffer[1] = points[mXBounds.min * 6 + 5];
 
-                cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
+        System.arraycopy(points, (mXBounds.min + 1) * 6, buffer, 2, mXBounds.range * 6);
+
+        if (phaseY != 1f) {
+            for (int i = 1; i < pointCount * 2; i += 2) {
+                buffer[i] *= phaseY;
             }
         }
 
+        trans.pointValuesToPixel(buffer, pointCount);
+
+        cubicPath.reset();
+        cubicPath.moveTo(buffer[0], buffer[1]);
+
+        for (int i = 2; i < pointCount * 2; i += 6) {
+            cubicPath.cubicTo(buffer[i], buffer[i + 1],
+                    buffer[i + 2], buffer[i + 3],
+                    buffer[i + 4], buffer[i + 5]);
+        }
+
         // if filled is enabled, close the path
         if (dataSet.isDrawFilledEnabled()) {
 
-            cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
-            // create a new path, this is bad for performance
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
+            cubicFillPath.set(cubicPath);
+
+            drawCubicFillInPixels(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
         }
 
         mRenderPaint.setColor(dataSet.getColor());
 
         mRenderPaint.setStyle(Paint.Style.STROKE);
 
-        trans.pathValueToPixel(cubicPath);
-
         mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
 
         mRenderPaint.setPathEffect(null);
     }
 
-    protected void drawCubicBezier(ILineDataSet dataSet) {
+    /**
+     * Closes the given spline, which is in value space, down to the fill line position,
+     * transforms it into pixels and draws the fill.
+     *
+     * @param c
+     * @param dataSet
+     * @param spline
+     * @param trans
+     * @param bounds
+     * @deprecated the splines are drawn from points that are already transformed into
+     * pixels, use drawCubicFillInPixels(...)
+     */
+    @Deprecated
+    protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
 
-        float phaseY = mAnimator.getPhaseY();
+        float fillMin = dataSet.getFillFormatter()
+                .getFillLinePosition(dataSet, mChart);
 
-        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+        spline.lineTo(dataSet.getX(bounds.min + bounds.range), fillMin);
+        spline.lineTo(dataSet.getX(bounds.min), fillMin);
+        spline.close();
 
-        mXBounds.set(mChart, dataSet);
+        trans.pathValueToPixel(spline);
 
-        float intensity = dataSet.getCubicIntensity();
+        final Drawable drawable = dataSet.getFillDrawable();
+        if (drawable != null) {
 
-        cubicPath.reset();
+            drawFilledPath(c, spline, drawable);
+        } else {
+
+            drawFilledPath(c, spline, dataSet.getFillColor(), dataSet.getFillAlpha());
+        }
+    }
+
+    /**
+     * Closes the given spline, which is already transformed into pixels, down to the fill
+     * line position and draws the fill.
+     *
+     * @param c
+     * @param dataSet
+     * @param spline
+     * @param trans
+     * @param bounds
+     */
+    protected void drawCubicFillInPixels(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
+
+        float fillMin = dataSet.getFillFormatter()
+                .getFillLinePosition(dataSet, mChart);
+
+        mSplineFillBuffer[0] = dataSet.getX(bounds.min + bounds.range);
+        mSplineFillBuffer[1] = fillMin;
+        mSplineFillBuffer[2] = dataSet.getX(bounds.min);
+        mSplineFillBuffer[3] = fillMin;
+
+        trans.pointValuesToPixel(mSplineFillBuffer, 2);
+
+        spline.lineTo(mSplineFillBuffer[0], mSplineFillBuffer[1]);
+        spline.lineTo(mSplineFillBuffer[2], mSplineFillBuffer[3]);
+        spline.close();
+
+        final Drawable drawable = dataSet.getFillDrawable();
+        if (drawable != null) {
+
+            drawFilledPath(c, spline, drawable);
+        } else {
+
+            drawFilledPath(c, spline, dataSet.getFillColor(), dataSet.getFillAlpha());
+        }
+    }
+
+    /**
+     * cache for the spline control points of all bezier datasets
+     */
+    private HashMap<IDataSet, DataSetSplineCache> mSplineCaches = new HashMap<>();
+
+    /**
+     * Returns the spline cache of the given DataSet, updated to its current values. The
+     * cache is keyed on the data version of the DataSet: if the version only advanced by
+     * the values appended to the end and evicted from the start (e.g. by a
+     * StreamingLineDataSet), the evicted control points are dropped and only the segments
+     * of the appended values are computed, otherwise everything is computed again. The
+     * values around the given bounds are compared with the cache on every call, so values
+     * modified in place are picked up by the next draw even without notifyDataSetChanged().
+     *
+     * @param dataSet
+     * @param min     the first visible index
+     * @param max     the last visible index
+     * @return
+     */
+    private DataSetSplineCache getSpline(ILineDataSet dataSet, int min, int max) {
+
+        DataSetSplineCache cache = mSplineCaches.get(dataSet);
 
-        if (mXBounds.range >= 1) {
+        if (cache == null) {
+            cache = new DataSetSplineCache();
+            mSplineCaches.put(dataSet, cache);
+        }
 
-            float prevDx = 0f;
-            float prevDy = 0f;
-            float curDx = 0f;
-            float curDy = 0f;
+        final LineDataSet.Mode mode = dataSet.getMode();
+        final float intensity = dataSet.getCubicIntensity();
+        final int entryCount = dataSet.getEntryCount();
+        final int dataVersion = dataSet.getDataVersion();
 
-            // Take an extra point from the left, and an extra from the right.
-            // That's because we need 4 points for a cubic bezier (cubic=4), otherwise we get lines moving and doing weird stuff on the edges of the chart.
-            // So in the starting `prev` and `cur`, go -2, -1
-            // And in the `lastIndex`, add +1
+        int from = 0;
 
-            final int firstIndex = mXBounds.min + 1;
-            final int lastIndex = mXBounds.min + mXBounds.range;
+        if (cache.mode == mode && cache.intensity == intensity && cache.entryCount > 0) {
 
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
-            int nextIndex = -1;
+            if (cache.dataVersion == dataVersion && cache.entryCount == entryCount) {
+                from = entryCount;
+            } else {
+                from = getAppendedFrom(cache, dataSet);
+            }
+        }
 
-            if (cur == null) return;
+        if (cache.points.length < entryCount * 6)
+            cache.points = Arrays.copyOf(cache.points, Math.max(entryCount * 6, cache.points.length * 3 / 2));
 
-            // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+        if (from < entryCount)
+            computeSpline(dataSet, cache.points, from, entryCount - 1);
 
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
+        cache.mode = mode;
+        cache.intensity = intensity;
+        cache.entryCount = entryCount;
+        cache.dataVersion = dataVersion;
 
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+        // values changed in place affect the segments from the one before to the two after
+        // them, so check the values the visible segments depend on
+        final int checkFrom = Math.max(min - 1, 0);
+        final int checkTo = Math.min(max + 1, entryCount - 1);
 
-                nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
+        final float[] points = cache.points;
 
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
+        for (int j = checkFrom; j <= checkTo; j++) {
 
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
+            if (points[j * 6 + 4] != dataSet.getX(j) || points[j * 6 + 5] != dataSet.getY(j)) {
+                computeSpline(dataSet, points, Math.max(j - 1, 0), Math.min(j + 2, entryCount - 1));
             }
         }
 
-        // if filled is enabled, close the path
-        if (dataSet.isDrawFilledEnabled()) {
+        return cache;
+    }
+
+    /**
+     * Returns the index from which the spline of the given cache needs to be computed if
+     * the DataSet only changed by values appended to its end and evicted from its start.
+     * Drops the control points of the evicted values. Returns 0 if the DataSet changed in
+     * any other way.
+     */
+    private int getAppendedFrom(DataSetSplineCache cache, ILineDataSet dataSet) {
+
+        final int entryCount = dataSet.getEntryCount();
+        final int versionDelta = dataSet.getDataVersion() - cache.dataVersion;
+
+        if (entryCount == 0 || versionDelta < 0)
+            return 0;
 
-            cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
+        final float[] points = cache.points;
+        final float firstX = dataSet.getX(0);
+        final float firstY = dataSet.getY(0);
 
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
+        // the number of evicted values, every eviction advanced the version by one
+        int evicted = -1;
+
+        for (int k = 0; k < cache.entryCount && k <= versionDelta; k++) {
+            if (points[k * 6 + 4] == firstX && points[k * 6 + 5] == firstY) {
+                evicted = k;
+                break;
+            }
         }
 
-        mRenderPaint.setColor(dataSet.getColor());
+        if (evicted < 0)
+            return 0;
 
-        mRenderPaint.setStyle(Paint.Style.STROKE);
+        final int kept = cache.entryCount - evicted;
+        final int appended = entryCount - kept;
 
-        trans.pathValueToPixel(cubicPath);
+        // every appended value advanced the version by one as well
+        if (appended < 0 || evicted + appended != versionDelta)
+            return 0;
 
-        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
+        final int last = kept - 1;
 
-        mRenderPaint.setPathEffect(null);
+        if (points[(evicted + last) * 6 + 4] != dataSet.getX(last)
+                || points[(evicted + last) * 6 + 5] != dataSet.getY(last))
+            return 0;
+
+        if (evicted > 0) {
+            System.arraycopy(points, evicted * 6, points, 0, kept * 6);
+
+            // the first segment of a cubic spline depends on the value before it
+            if (dataSet.getMode() == LineDataSet.Mode.CUBIC_BEZIER && kept > 1)
+                computeSpline(dataSet, points, 1, 1);
+        }
+
+        // the last segment of a cubic spline depends on the next value
+        if (dataSet.getMode() == LineDataSet.Mode.CUBIC_BEZIER)
+            return appended > 0 ? Math.max(kept - 1, 0) : entryCount;
+
+        return kept;
     }
 
-    protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
+    /**
+     * Computes the control points and end points of the values in the index range
+     * [from, to] of the given DataSet into the given points.
+     */
+    private void computeSpline(ILineDataSet dataSet, float[] points, int from, int to) {
 
-        float fillMin = dataSet.getFillFormatter()
-                .getFillLinePosition(dataSet, mChart);
+        final LineDataSet.Mode mode = dataSet.getMode();
+        final float intensity = dataSet.getCubicIntensity();
+        final int entryCount = dataSet.getEntryCount();
 
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min + bounds.range).getX(), fillMin);
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min).getX(), fillMin);
-        spline.close();
+        // the value at index 0 only provides the start point
+        if (from == 0) {
+            points[4] = dataSet.getX(0);
+            points[5] = dataSet.getY(0);
+            from = 1;
+        }
 
-        trans.pathValueToPixel(spline);
+        for (int j = from; j <= to; j++) {
 
-        final Drawable drawable = dataSet.getFillDrawable();
-        if (drawable != null) {
+            final int offset = j * 6;
 
-            drawFilledPath(c, spline, drawable);
-        } else {
+            final float prevX = dataSet.getX(j - 1);
+            final float prevY = dataSet.getY(j - 1);
+            final float curX = dataSet.getX(j);
+            final float curY = dataSet.getY(j);
 
-            drawFilledPath(c, spline, dataSet.getFillColor(), dataSet.getFillAlpha());
+            if (mode == LineDataSet.Mode.CUBIC_BEZIER) {
+
+                final int prevPrev = Math.max(j - 2, 0);
+                final int next = j + 1 < entryCount ? j + 1 : j;
+
+                final float prevDx = (curX - dataSet.getX(prevPrev)) * intensity;
+                final float prevDy = (curY - dataSet.getY(prevPrev)) * intensity;
+                final float curDx = (dataSet.getX(next) - prevX) * intensity;
+                final float curDy = (dataSet.getY(next) - prevY) * intensity;
+
+                points[offset] = prevX + prevDx;
+                points[offset + 1] = prevY + prevDy;
+                points[offset + 2] = curX - curDx;
+                points[offset + 3] = curY - curDy;
+            } else {
+
+                final float cpx = prevX + (curX - prevX) / 2.0f;
+
+                points[offset] = cpx;
+                points[offset + 1] = prevY;
+                points[offset + 2] = cpx;
+                points[offset + 3] = curY;
+            }
+
+            points[offset + 4] = curX;
+            points[offset + 5] = curY;
         }
     }
 
-    private float[] mLineBuffer = new float[4];
+    private LineBuffer mLineBuffer = new LineBuffer(4);
 
     /**
      * Draws a normal line.
@@ -315,126 +569,189 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        if (mRenderMetrics != null)
+            mRenderMetrics.addVisibleEntries(dataSet, mXBounds.range + 1);
+
+        // the indices of the values to draw, null if all values within the bounds are drawn
+        int[] indices = null;
+        int indicesOffset = 0;
+        int indexCount = mXBounds.range + 1;
+
+        if (dataSet.getDecimationMode() != LineDataSet.DecimationMode.NONE) {
+
+            DataSetDecimationCache decimation = getDecimation(dataSet, trans);
+
+            indices = decimation.indices;
+            indicesOffset = decimation.visibleOffset;
+            indexCount = decimation.visibleCount;
+        }
+
         // if drawing filled is enabled
         if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
-            drawLinearFill(c, dataSet, trans, mXBounds);
+
+            // the fill follows the same (possibly decimated) values as the line
+            if (indices == null)
+                drawLinearFill(c, dataSet, trans, mXBounds);
+            else
+                drawLinearFill(c, dataSet, trans, indices, indicesOffset, indexCount);
         }
 
         // more than 1 color
         if (dataSet.getColors().size() > 1) {
 
-            int numberOfFloats = pointsPerEntryPair * 2;
-
-            if (mLineBuffer.length <= numberOfFloats)
-                mLineBuffer = new float[numberOfFloats * 2];
-
-            int max = mXBounds.min + mXBounds.range;
+            // all segments are transformed at once, then drawn in runs of the same color
+            final int floatsPerSegment = pointsPerEntryPair * 2;
+            final int required = Math.max(indexCount - 1, 0) * floatsPerSegment;
 
-            for (int j = mXBounds.min; j < max; j++) {
+            if (mLineBuffer.size() < required)
+                mLineBuffer = new LineBuffer(required * 2);
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+            final float[] buffer = mLineBuffer.buffer;
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+            mLineBuffer.setStepped(isDrawSteppedEnabled);
+            mLineBuffer.setPhases(1f, phaseY);
 
-                if (j < mXBounds.max) {
+            if (indices == null)
+                mLineBuffer.feedSegments(dataSet, mXBounds.min, mXBounds.min + indexCount - 1);
+            else
+                mLineBuffer.feedSegments(dataSet, indices, indicesOffset, indexCount);
 
-                    e = dataSet.getEntryForIndex(j + 1);
+            final int segmentCount = mLineBuffer.getSegmentCount();
 
-                    if (e == null) break;
+            trans.pointValuesToPixel(buffer, segmentCount * floatsPerSegment / 2);
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = mLineBuffer[1];
-                        mLineBuffer[4] = mLineBuffer[2];
-                        mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
-                    } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
-                    }
-
-                } else {
-                    mLineBuffer[2] = mLineBuffer[0];
-                    mLineBuffer[3] = mLineBuffer[1];
-                }
+            int drawCount = segmentCount;
 
-                // Determine the start and end coordinates of the line, and make sure they differ.
-                float firstCoordinateX = mLineBuffer[0];
-                float firstCoordinateY = mLineBuffer[1];
-                float lastCoordinateX = mLineBuffer[numberOfFloats - 2];
-                float lastCoordinateY = mLineBuffer[numberOfFloats - 1];
+            for (int segment = 0; segment < segmentCount; segment++) {
 
-                if (firstCoordinateX == lastCoordinateX &&
-                        firstCoordinateY == lastCoordinateY)
-                    continue;
+                final int o = segment * floatsPerSegment;
 
-                trans.pointValuesToPixel(mLineBuffer);
+                final float firstCoordinateX = buffer[o];
+                final float firstCoordinateY = buffer[o + 1];
+                final float lastCoordinateX = buffer[o + floatsPerSegment - 2];
+                final float lastCoordinateY = buffer[o + floatsPerSegment - 1];
 
-                if (!mViewPortHandler.isInBoundsRight(firstCoordinateX))
+                if (!mViewPortHandler.isInBoundsRight(firstCoordinateX)) {
+                    drawCount = segment;
                     break;
+                }
 
-                // make sure the lines don't do shitty things outside
-                // bounds
-                if (!mViewPortHandler.isInBoundsLeft(lastCoordinateX) ||
+                // make sure the lines don't do shitty things outside bounds
+                mLineBuffer.setSegmentCulled(segment, !mViewPortHandler.isInBoundsLeft(lastCoordinateX) ||
                         !mViewPortHandler.isInBoundsTop(Math.max(firstCoordinateY, lastCoordinateY)) ||
-                        !mViewPortHandler.isInBoundsBottom(Math.min(firstCoordinateY, lastCoordinateY)))
-                    continue;
+                        !mViewPortHandler.isInBoundsBottom(Math.min(firstCoordinateY, lastCoordinateY)));
+            }
 
-                // get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j));
+            for (int segment = 0; segment < drawCount; ) {
 
-                canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
+                if (mLineBuffer.isSegmentCulled(segment)) {
+                    segment++;
+                    continue;
+                }
+
+                final int runEnd = mLineBuffer.getRunEnd(segment, drawCount);
+                drawLineRun(canvas, dataSet, segment, runEnd, floatsPerSegment);
+                segment = runEnd;
             }
 
         } else { // only one color per dataset
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+            // sized by the drawn (possibly decimated) values, not by the size of the DataSet
+            final int required = LineBuffer.getRequiredSize(indexCount, isDrawSteppedEnabled);
 
-            Entry e1, e2;
+            if (mLineBuffer.size() < required)
+                mLineBuffer = new LineBuffer(required * 2);
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+            if (mXBounds.min < entryCount) {
 
-            if (e1 != null) {
+                mLineBuffer.setStepped(isDrawSteppedEnabled);
+                mLineBuffer.setPhases(1f, phaseY);
 
-                int j = 0;
-                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
+                if (indices == null)
+                    mLineBuffer.feed(dataSet, mXBounds.min, mXBounds.min + indexCount - 1);
+                else
+                    mLineBuffer.feed(dataSet, indices, indicesOffset, indexCount);
 
-                    e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    e2 = dataSet.getEntryForIndex(x);
+                final int j = mLineBuffer.getFeedLength();
 
-                    if (e1 == null || e2 == null) continue;
+                if (j > 0) {
+                    trans.pointValuesToPixel(mLineBuffer.buffer, j / 2);
 
-                    mLineBuffer[j++] = e1.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
+                    mRenderPaint.setColor(dataSet.getColor());
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                    }
+                    canvas.drawLines(mLineBuffer.buffer, 0, j, mRenderPaint);
 
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e2.getY() * phaseY;
+                    if (mRenderMetrics != null)
+                        mRenderMetrics.addLines(dataSet, j / 4);
                 }
+            }
+        }
 
-                if (j > 0) {
-                    trans.pointValuesToPixel(mLineBuffer);
+        mRenderPaint.setPathEffect(null);
+    }
+
+    /**
+     * cache for the decimated values of all datasets
+     */
+    private HashMap<IDataSet, DataSetDecimationCache> mDecimationCaches = new HashMap<>();
 
-                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+    private Decimator mDecimator = new Decimator();
 
-                    mRenderPaint.setColor(dataSet.getColor());
+    /**
+     * buffer for reading the scale of the value-to-pixel matrix
+     */
+    private float[] mMatrixValuesBuffer = new float[9];
 
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
-                }
-            }
+    /**
+     * Returns the decimated values of the given DataSet for the current bounds (mXBounds).
+     * The decimation is only recalculated if the zoom level or the data has changed or if
+     * the bounds have been moved outside of the previously decimated range.
+     *
+     * @param dataSet
+     * @param trans
+     * @return
+     */
+    private DataSetDecimationCache getDecimation(ILineDataSet dataSet, Transformer trans) {
+
+        DataSetDecimationCache cache = mDecimationCaches.get(dataSet);
+
+        if (cache == null) {
+            cache = new DataSetDecimationCache();
+            mDecimationCaches.put(dataSet, cache);
         }
 
-        mRenderPaint.setPathEffect(null);
+        trans.getValueToPixelMatrix().getValues(mMatrixValuesBuffer);
+
+        final float pixelsPerX = Math.abs(mMatrixValuesBuffer[Matrix.MSCALE_X]);
+        final float pixelsPerY = Math.abs(mMatrixValuesBuffer[Matrix.MSCALE_Y]);
+
+        final float bucketWidth = 1f / pixelsPerX;
+        final float aspect = pixelsPerX > 0f ? pixelsPerY / pixelsPerX : 1f;
+
+        final int min = mXBounds.min;
+        final int max = mXBounds.min + mXBounds.range;
+
+        if (!cache.isValid(dataSet, bucketWidth, aspect, min, max)) {
+            cache.decimate(dataSet, bucketWidth, aspect, min, max);
+        }
+
+        cache.setVisibleRange(min, max);
+
+        return cache;
+    }
+
+    /**
+     * Draws the segments [from, to) of mLineBuffer, which need to have the same color,
+     * with a single draw call.
+     */
+    private void drawLineRun(Canvas canvas, ILineDataSet dataSet, int from, int to, int floatsPerSegment) {
+
+        mRenderPaint.setColor(mLineBuffer.getSegmentColor(from));
+
+        canvas.drawLines(mLineBuffer.buffer, from * floatsPerSegment, (to - from) * floatsPerSegment, mRenderPaint);
+
+        if (mRenderMetrics != null)
+            mRenderMetrics.addLines(dataSet, (to - from) * floatsPerSegment / 4);
     }
 
     protected Path mGenerateFilledPathBuffer = new Path();
@@ -466,36 +783,74 @@ public class LineChartRenderer extends LineRadarRenderer {
             currentEndIndex = currentEndIndex > endingIndex ? endingIndex : currentEndIndex;
 
             if (currentStartIndex <= currentEndIndex) {
-                generateFilledPath(dataSet, currentStartIndex, currentEndIndex, filled);
+                generateFilledPath(dataSet, null, currentStartIndex, currentEndIndex, filled);
+                drawFilledPath(c, dataSet, trans, filled);
+            }
 
-                trans.pathValueToPixel(filled);
+            iterations++;
 
-                final Drawable drawable = dataSet.getFillDrawable();
-                if (drawable != null) {
+        } while (currentStartIndex <= currentEndIndex);
 
-                    drawFilledPath(c, filled, drawable);
-                } else {
+    }
 
-                    drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
-                }
-            }
+    /**
+     * Draws a filled linear path through the values at the given indices on the canvas,
+     * e.g. the values kept by the decimation.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param indices the sorted indices of the values to draw
+     * @param offset  the position of the first index to draw in the indices array
+     * @param count   the number of indices to draw
+     */
+    protected void drawLinearFill(Canvas c, ILineDataSet dataSet, Transformer trans, int[] indices, int offset, int count) {
 
-            iterations++;
+        final Path filled = mGenerateFilledPathBuffer;
 
-        } while (currentStartIndex <= currentEndIndex);
+        final int end = offset + count - 1;
+        final int indexInterval = 128;
+
+        // chunked like the bounds based fill, consecutive chunks share their edge value
+        for (int start = offset; start <= end; start += indexInterval) {
 
+            generateFilledPath(dataSet, indices, start, Math.min(start + indexInterval, end), filled);
+            drawFilledPath(c, dataSet, trans, filled);
+
+            if (start + indexInterval >= end)
+                break;
+        }
+    }
+
+    /**
+     * Transforms the given value-space fill path and draws it with the fill of the DataSet.
+     */
+    private void drawFilledPath(Canvas c, ILineDataSet dataSet, Transformer trans, Path filled) {
+
+        trans.pathValueToPixel(filled);
+
+        final Drawable drawable = dataSet.getFillDrawable();
+        if (drawable != null) {
+
+            drawFilledPath(c, filled, drawable);
+        } else {
+
+            drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
+        }
     }
 
     /**
      * Generates a path that is used for filled drawing.
      *
      * @param dataSet    The dataset from which to read the entries.
-     * @param startIndex The index from which to start reading the dataset
-     * @param endIndex   The index from which to stop reading the dataset
+     * @param indices    The indices of the entries to read, null to read all entries from
+     *                   startIndex to endIndex.
+     * @param startIndex The index (or position in indices) from which to start reading the dataset
+     * @param endIndex   The index (or position in indices) at which to stop reading the dataset
      * @param outputPath The path object that will be assigned the chart data.
      * @return
      */
-    private void generateFilledPath(final ILineDataSet dataSet, final int startIndex, final int endIndex, final Path outputPath) {
+    private void generateFilledPath(final ILineDataSet dataSet, final int[] indices, final int startIndex, final int endIndex, final Path outputPath) {
 
         final float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
         final float phaseY = mAnimator.getPhaseY();
@@ -504,30 +859,34 @@ public class LineChartRenderer extends LineRadarRenderer {
         final Path filled = outputPath;
         filled.reset();
 
-        final Entry entry = dataSet.getEntryForIndex(startIndex);
+        final int first = indices == null ? startIndex : indices[startIndex];
+        final float startX = dataSet.getX(first);
 
-        filled.moveTo(entry.getX(), fillMin);
-        filled.lineTo(entry.getX(), entry.getY() * phaseY);
+        filled.moveTo(startX, fillMin);
+        filled.lineTo(startX, dataSet.getY(first) * phaseY);
 
         // create a new path
-        Entry currentEntry = null;
-        Entry previousEntry = entry;
+        float previousY = dataSet.getY(first);
+        float currentX = startX;
         for (int x = startIndex + 1; x <= endIndex; x++) {
 
-            currentEntry = dataSet.getEntryForIndex(x);
+            final int index = indices == null ? x : indices[x];
+
+            currentX = dataSet.getX(index);
+            final float currentY = dataSet.getY(index);
 
             if (isDrawSteppedEnabled) {
-                filled.lineTo(currentEntry.getX(), previousEntry.getY() * phaseY);
+                filled.lineTo(currentX, previousY * phaseY);
             }
 
-            filled.lineTo(currentEntry.getX(), currentEntry.getY() * phaseY);
+            filled.lineTo(currentX, currentY * phaseY);
 
-            previousEntry = currentEntry;
+            previousY = currentY;
         }
 
         // close up
-        if (currentEntry != null) {
-            filled.lineTo(currentEntry.getX(), fillMin);
+        if (endIndex > startIndex) {
+            filled.lineTo(currentX, fillMin);
         }
 
         filled.close();
@@ -538,6 +897,8 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         if (isDrawingValuesAllowed(mChart)) {
 
+            resetValueLabels();
+
             List<ILineDataSet> dataSets = mChart.getLineData().getDataSets();
 
             for (int i = 0; i < dataSets.size(); i++) {
@@ -568,34 +929,50 @@ public class LineChartRenderer extends LineRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                // with culling, the labels of the local extrema are placed in a first pass
+                final boolean extremaFirst = mValueLabelCullingEnabled && dataSet.isDrawValuesEnabled();
 
-                    float x = positions[j];
-                    float y = positions[j + 1];
+                for (int pass = extremaFirst ? 0 : 1; pass < 2; pass++) {
 
-                    if (!mViewPortHandler.isInBoundsRight(x))
-                        break;
+                    for (int j = 0; j < positions.length; j += 2) {
 
-                    if (!mViewPortHandler.isInBoundsLeft(x) || !mViewPortHandler.isInBoundsY(y))
-                        continue;
+                        float x = positions[j];
+                        float y = positions[j + 1];
 
-                    Entry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
+                        if (!mViewPortHandler.isInBoundsRight(x))
+                            break;
 
-                    if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getPointLabel(entry), x, y - valOffset, dataSet.getValueTextColor(j / 2));
-                    }
+                        if (!mViewPortHandler.isInBoundsLeft(x) || !mViewPortHandler.isInBoundsY(y))
+                            continue;
+
+                        final int index = j / 2 + mXBounds.min;
+                        final boolean extremum = extremaFirst && isLocalExtremum(dataSet, index);
+
+                        if (pass == 0 && !extremum)
+                            continue;
+
+                        Entry entry = dataSet.getEntryForIndex(index);
+
+                        if (dataSet.isDrawValuesEnabled() && (pass == 0 || !extremum)) {
+
+                            CharSequence label = formatter.getPointLabelChars(entry);
+
+                            if (placeValueLabel(label, x, y - valOffset))
+                                drawValue(c, label, x, y - valOffset, dataSet.getValueTextColor(j / 2));
+                        }
 
-                    if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
+                        if (pass == 1 && entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
 
-                        Drawable icon = entry.getIcon();
+                            Drawable icon = entry.getIcon();
 
-                        Utils.drawImage(
-                                c,
-                                icon,
-                                (int)(x + iconsOffset.x),
-                                (int)(y + iconsOffset.y),
-                                icon.getIntrinsicWidth(),
-                                icon.getIntrinsicHeight());
+                            Utils.drawImage(
+                                    c,
+                                    icon,
+                                    (int)(x + iconsOffset.x),
+                                    (int)(y + iconsOffset.y),
+                                    icon.getIntrinsicWidth(),
+                                    icon.getIntrinsicHeight());
+                        }
                     }
                 }
 
@@ -625,6 +1002,12 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     private float[] mCirclesBuffer = new float[2];
 
+    /**
+     * the maximum number of circles per pixel of the content width drawn for a decimated
+     * DataSet, above it its circles are skipped
+     */
+    private static final float MAX_CIRCLES_PER_PIXEL = 1f;
+
     protected void drawCircles(Canvas c) {
 
         mRenderPaint.setStyle(Paint.Style.FILL);
@@ -674,16 +1057,32 @@ public class LineChartRenderer extends LineRadarRenderer {
                 imageCache.fill(dataSet, drawCircleHole, drawTransparentCircleHole);
             }
 
-            int boundsRangeCount = mXBounds.range + mXBounds.min;
+            // the indices of the circles to draw, null if all values within the bounds are drawn
+            int[] indices = null;
+            int from = mXBounds.min;
+            int to = mXBounds.range + mXBounds.min;
+
+            if (dataSet.getDecimationMode() != LineDataSet.DecimationMode.NONE
+                    && (dataSet.getMode() == LineDataSet.Mode.LINEAR
+                    || dataSet.getMode() == LineDataSet.Mode.STEPPED)) {
+
+                DataSetDecimationCache decimation = getDecimation(dataSet, trans);
+
+                // more kept values than pixels, the circles would only cover the line
+                if (decimation.visibleCount > mViewPortHandler.contentWidth() * MAX_CIRCLES_PER_PIXEL)
+                    continue;
 
-            for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
+                indices = decimation.indices;
+                from = decimation.visibleOffset;
+                to = decimation.visibleOffset + decimation.visibleCount - 1;
+            }
 
-                Entry e = dataSet.getEntryForIndex(j);
+            for (int k = from; k <= to; k++) {
 
-                if (e == null) break;
+                final int j = indices == null ? k : indices[k];
 
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                mCirclesBuffer[0] = dataSet.getX(j);
+                mCirclesBuffer[1] = dataSet.getY(j) * phaseY;
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
@@ -715,13 +1114,15 @@ public class LineChartRenderer extends LineRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            Entry e = set.getEntryForXValue(high.getX(), high.getY());
+            // look up the index instead of the Entry, DataSets with primitive storage would
+            // have to create one
+            final int index = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (index < 0 || index >= set.getEntryCount() * mAnimator.getPhaseX())
                 continue;
 
-            MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(e.getX(), e.getY() * mAnimator
-                    .getPhaseY());
+            MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(set.getX(index),
+                    set.getY(index) * mAnimator.getPhaseY());
 
             high.setDraw((float) pix.x, (float) pix.y);
 
@@ -730,6 +1131,71 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    /**
+     * Enables / disables retaining the rendered data between frames. If enabled, all
+     * DataSets are rendered into a bitmap that is reused as long as the viewport (zoom,
+     * pan, size), the animation phases, the data object and the bounds, entry count,
+     * visibility and data version of all DataSets are unchanged. Frames that only change
+     * highlights or markers then draw a single bitmap instead of all lines. The layer is
+     * also invalidated by notifyDataSetChanged() on the chart or a DataSet. Call
+     * invalidateDataLayer() after changing the appearance of a DataSet (e.g. colors)
+     * without notifying the chart.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setDataLayerCacheEnabled(boolean enabled) {
+        mDataLayerCacheEnabled = enabled;
+        mDataLayerValid = false;
+    }
+
+    /**
+     * Returns true if the rendered data is retained between frames.
+     *
+     * @return
+     */
+    public boolean isDataLayerCacheEnabled() {
+        return mDataLayerCacheEnabled;
+    }
+
+    /**
+     * Makes sure the data is rendered again with the next frame, when the data layer
+     * cache is enabled.
+     */
+    public void invalidateDataLayer() {
+        mDataLayerValid = false;
+    }
+
+    /**
+     * Returns true if the data layer was rendered with the current state and can be reused.
+     * Remembers the current state for the next frame.
+     *
+     * @param lineData
+     * @return
+     */
+    private boolean isDataLayerUpToDate(LineData lineData) {
+
+        float[] viewState = mDataLayerViewState;
+        int k = 0;
+
+        viewState[k++] = mViewPortHandler.getChartWidth();
+        viewState[k++] = mViewPortHandler.getChartHeight();
+        viewState[k++] = mAnimator.getPhaseX();
+        viewState[k++] = mAnimator.getPhaseY();
+
+        mChart.getTransformer(YAxis.AxisDependency.LEFT).getValueToPixelMatrix().getValues(mMatrixValuesBuffer);
+        System.arraycopy(mMatrixValuesBuffer, 0, viewState, k, 9);
+        k += 9;
+
+        mChart.getTransformer(YAxis.AxisDependency.RIGHT).getValueToPixelMatrix().getValues(mMatrixValuesBuffer);
+        System.arraycopy(mMatrixValuesBuffer, 0, viewState, k, 9);
+
+        // remember the state even if the layer is invalid, it is rendered with it now
+        final boolean unchanged = mDataLayerKey.update(viewState, lineData);
+
+        return mDataLayerValid && unchanged;
+    }
+
     /**
      * Sets the Bitmap.Config to be used by this renderer.
      * Default: Bitmap.Config.ARGB_8888
@@ -755,6 +1221,8 @@ public class LineChartRenderer extends LineRadarRenderer {
      * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
+        mDataLayerValid = false;
+
         if (mBitmapCanvas != null) {
             mBitmapCanvas.setBitmap(null);
             mBitmapCanvas = null;
@@ -769,6 +1237,209 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    /**
+     * Describes the state a retained layer of rendered data was drawn with: the state of the
+     * view given by the renderer (e.g. size, animation phases, matrices), the data object, and
+     * the visibility, entry count, bounds and data version of each of its DataSets. The data
+     * version makes values that were changed in place, e.g. followed by notifyDataSetChanged()
+     * on the DataSet, invalidate the layer even if the bounds and the entry count are unchanged.
+     */
+    private class DataLayerKey {
+
+        private static final int FLOATS_PER_DATA_SET = 6;
+
+        /**
+         * the state of the previous update and a buffer for the current state
+         */
+        private float[] mKey = new float[0];
+        private float[] mKeyBuffer = new float[0];
+
+        /**
+         * the data versions of the DataSets of the previous update and a buffer for the current
+         * ones, kept apart from the floats so that large versions are compared exactly
+         */
+        private int[] mVersions = new int[0];
+        private int[] mVersionsBuffer = new int[0];
+
+        private LineData mData;
+
+        /**
+         * Remembers the given state and returns true if it is the same as with the previous call.
+         *
+         * @param viewState the state of the view, same length with every call
+         * @param data
+         * @return
+         */
+        protected boolean update(float[] viewState, LineData data) {
+
+            List<ILineDataSet> dataSets = data.getDataSets();
+
+            final int size = viewState.length + dataSets.size() * FLOATS_PER_DATA_SET;
+
+            if (mKeyBuffer.length != size)
+                mKeyBuffer = new float[size];
+
+            if (mVersionsBuffer.length != dataSets.size())
+                mVersionsBuffer = new int[dataSets.size()];
+
+            float[] key = mKeyBuffer;
+            int[] versions = mVersionsBuffer;
+
+            System.arraycopy(viewState, 0, key, 0, viewState.length);
+            int k = viewState.length;
+
+            for (int i = 0; i < dataSets.size(); i++) {
+
+                ILineDataSet set = dataSets.get(i);
+
+                key[k++] = set.isVisible() ? 1f : 0f;
+                key[k++] = set.getEntryCount();
+                key[k++] = set.getXMin();
+                key[k++] = set.getXMax();
+                key[k++] = set.getYMin();
+                key[k++] = set.getYMax();
+
+                versions[i] = set.getDataVersion();
+            }
+
+            final boolean unchanged = mData == data
+                    && Arrays.equals(key, mKey)
+                    && Arrays.equals(versions, mVersions);
+
+            mKeyBuffer = mKey;
+            mKey = key;
+            mVersionsBuffer = mVersions;
+            mVersions = versions;
+            mData = data;
+
+            return unchanged;
+        }
+    }
+
+    private class DataSetSplineCache {
+
+        /**
+         * 6 floats per value, in value space: the control points and the end point of the
+         * segment that ends at the value. For the first value only the end point is set.
+         */
+        private float[] points = new float[0];
+
+        /**
+         * the state the points were computed for
+         */
+        private LineDataSet.Mode mode;
+        private float intensity;
+        private int entryCount;
+        private int dataVersion;
+    }
+
+    private class DataSetDecimationCache {
+
+        /**
+         * the sorted indices of the values kept by the decimation
+         */
+        private int[] indices = new int[0];
+
+        /**
+         * the number of valid indices
+         */
+        private int count;
+
+        /**
+         * the range of indices in the indices array that covers the current bounds
+         */
+        private int visibleOffset;
+        private int visibleCount;
+
+        /**
+         * the parameters the decimation has been calculated with
+         */
+        private LineDataSet.DecimationMode mode;
+        private int entryCount;
+        private int dataVersion;
+        private int from = -1;
+        private int to = -1;
+        private float bucketWidth;
+        private float aspect;
+
+        /**
+         * Returns true if the decimated values can be reused for the given parameters.
+         */
+        protected boolean isValid(ILineDataSet set, float bucketWidth, float aspect, int min, int max) {
+
+            if (mode != set.getDecimationMode() || entryCount != set.getEntryCount()
+                    || dataVersion != set.getDataVersion())
+                return false;
+
+            if (this.bucketWidth != bucketWidth || min < from || max > to)
+                return false;
+
+            // only the distance calculation of Douglas Peucker depends on the y-scale
+            return mode != LineDataSet.DecimationMode.DOUGLAS_PEUCKER || this.aspect == aspect;
+        }
+
+        /**
+         * Decimates the given bounds and one width of the bounds to both sides of it,
+         * so that panning does not require a recalculation right away.
+         */
+        protected void decimate(ILineDataSet set, float bucketWidth, float aspect, int min, int max) {
+
+            final int span = max - min;
+
+            this.mode = set.getDecimationMode();
+            this.entryCount = set.getEntryCount();
+            this.dataVersion = set.getDataVersion();
+            this.bucketWidth = bucketWidth;
+            this.aspect = aspect;
+            this.from = Math.max(0, min - span);
+            this.to = Math.min(entryCount - 1, max + span);
+
+            if (indices.length < to - from + 1)
+                indices = new int[to - from + 1];
+
+            count = mDecimator.decimate(set, mode, from, to, bucketWidth, aspect, indices);
+        }
+
+        /**
+         * Determines the indices to draw for the given bounds, including the closest
+         * kept values outside of them so that the line reaches the edges.
+         */
+        protected void setVisibleRange(int min, int max) {
+
+            int start = 0;
+            int end = count - 1;
+
+            // last kept index <= min
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int m = (low + high) >>> 1;
+                if (indices[m] <= min) {
+                    start = m;
+                    low = m + 1;
+                } else {
+                    high = m - 1;
+                }
+            }
+
+            // first kept index >= max
+            low = start;
+            high = count - 1;
+            while (low <= high) {
+                int m = (low + high) >>> 1;
+                if (indices[m] >= max) {
+                    end = m;
+                    high = m - 1;
+                } else {
+                    low = m + 1;
+                }
+            }
+
+            visibleOffset = start;
+            visibleCount = Math.max(0, end - start + 1);
+        }
+    }
+
     private class DataSetImageCache {
 
         private Path mCirclePathBuffer = new Path();
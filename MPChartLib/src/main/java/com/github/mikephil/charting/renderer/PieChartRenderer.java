@@ -23,6 +23,7 @@ import com.github.mikephil.charting.data.PieDataSet;
 import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -30,6 +31,8 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 
 public class PieChartRenderer extends DataRenderer {
@@ -116,7 +119,7 @@ public class PieChartRenderer extends DataRenderer {
 
     @Override
     public void initBuffers() {
-        // TODO Auto-generated method stub
+        mSliceGeometryCaches.clear();
     }
 
     @Override
@@ -143,6 +146,10 @@ public class PieChartRenderer extends DataRenderer {
 
         PieData pieData = mChart.getData();
 
+        // drop the geometry of DataSets that were replaced
+        if (mSliceGeometryCaches.size() > pieData.getDataSetCount())
+            mSliceGeometryCaches.keySet().retainAll(pieData.getDataSets());
+
         for (IPieDataSet set : pieData.getDataSets()) {
 
             if (set.isVisible() && set.getEntryCount() > 0)
@@ -214,8 +221,102 @@ public class PieChartRenderer extends DataRenderer {
 
     protected void drawDataSet(Canvas c, IPieDataSet dataSet) {
 
+        final MPPointF center = mChart.getCenterCircleBox();
+
+        SliceGeometryCache geometry = getSliceGeometry(dataSet, center);
+
+        // the geometry is built without rotation, the rotation is applied to the canvas
+        mBitmapCanvas.save();
+        mBitmapCanvas.rotate(mChart.getRotationAngle(), center.x, center.y);
+
+        for (int j = 0; j < geometry.key.getEntryCount(); j++) {
+
+            Path path = geometry.paths[j];
+
+            // draw only if the value is greater than zero
+            if (path == null)
+                continue;
+
+            // Don't draw if it's highlighted, unless the chart uses rounded slices
+            if (dataSet.isHighlightEnabled() && mChart.needsHighlight(j) && !geometry.key.isRoundedSlices())
+                continue;
+
+            mRenderPaint.setColor(dataSet.getColor(j));
+
+            mBitmapCanvas.drawPath(path, mRenderPaint);
+        }
+
+        mBitmapCanvas.restore();
+
+        MPPointF.recycleInstance(center);
+    }
+
+    /**
+     * cache for the slice paths of the DataSets
+     */
+    private HashMap<IDataSet, SliceGeometryCache> mSliceGeometryCaches = new HashMap<>();
+
+    private RectF mRoundedCircleBox = new RectF();
+
+    /**
+     * Returns the slice paths of the given DataSet at a rotation angle of 0. They are only
+     * computed again if the angles (i.e. the data), the size of the chart, the hole, the
+     * slice space or the animation phases changed.
+     *
+     * @param dataSet
+     * @param center
+     * @return
+     */
+    protected SliceGeometryCache getSliceGeometry(IPieDataSet dataSet, MPPointF center) {
+
+        SliceGeometryCache cache = mSliceGeometryCaches.get(dataSet);
+
+        if (cache == null) {
+            cache = new SliceGeometryCache();
+            mSliceGeometryCaches.put(dataSet, cache);
+        }
+
+        final RectF circleBox = mChart.getCircleBox();
+        final float radius = mChart.getRadius();
+        final float holeRadius = mChart.getHoleRadius();
+        final boolean drawInnerArc = mChart.isDrawHoleEnabled() && !mChart.isDrawSlicesUnderHoleEnabled();
+        final boolean drawRoundedSlices = drawInnerArc && mChart.isDrawRoundedSlicesEnabled();
+        final float sliceSpace = getSliceSpace(dataSet);
+        final float phaseX = mAnimator.getPhaseX();
+        final float phaseY = mAnimator.getPhaseY();
+
+        final int entryCount = dataSet.getEntryCount();
+
+        if (cache.key.update(mChart.getAnglesVersion(), entryCount,
+                circleBox.left, circleBox.top, circleBox.right, circleBox.bottom,
+                center.x, center.y, radius, holeRadius,
+                drawInnerArc, drawRoundedSlices, sliceSpace, phaseX, phaseY))
+            return cache;
+
+        if (cache.paths.length < entryCount)
+            cache.paths = Arrays.copyOf(cache.paths, entryCount);
+
+        buildSlicePaths(dataSet, cache.paths, center, sliceSpace);
+
+        return cache;
+    }
+
+    /**
+     * Computes the paths of the slices of the given DataSet at a rotation angle of 0, slices
+     * of zero values get a null path.
+     *
+     * @param dataSet
+     * @param paths
+     * @param center
+     * @param dataSetSliceSpace
+     */
+    protected void buildSlicePaths(IPieDataSet dataSet, Path[] paths, MPPointF center,
+                                   float dataSetSliceSpace) {
+
         float angle = 0;
-        float rotationAngle = mChart.getRotationAngle();
+
+        // the rotation is applied to the canvas when drawing
+        float rotationAngle = 0f;
 
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
@@ -224,14 +325,13 @@ public class PieChartRenderer extends DataRenderer {
 
         final int entryCount = dataSet.getEntryCount();
         final float[] drawAngles = mChart.getDrawAngles();
-        final MPPointF center = mChart.getCenterCircleBox();
         final float radius = mChart.getRadius();
         final boolean drawInnerArc = mChart.isDrawHoleEnabled() && !mChart.isDrawSlicesUnderHoleEnabled();
         final float userInnerRadius = drawInnerArc
                 ? radius * (mChart.getHoleRadius() / 100.f)
                 : 0.f;
         final float roundedRadius = (radius - (radius * mChart.getHoleRadius() / 100f)) / 2f;
-        final RectF roundedCircleBox = new RectF();
+        final RectF roundedCircleBox = mRoundedCircleBox;
         final boolean drawRoundedSlices = drawInnerArc && mChart.isDrawRoundedSlicesEnabled();
 
         int visibleAngleCount = 0;
@@ -242,7 +342,7 @@ public class PieChartRenderer extends DataRenderer {
             }
         }
 
-        final float sliceSpace = visibleAngleCount <= 1 ? 0.f : getSliceSpace(dataSet);
+        final float sliceSpace = visibleAngleCount <= 1 ? 0.f : dataSetSliceSpace;
 
         for (int j = 0; j < entryCount; j++) {
 
@@ -253,20 +353,13 @@ public class PieChartRenderer extends DataRenderer {
 
             // draw only if the value is greater than zero
             if (!(Math.abs(e.getY()) > Utils.FLOAT_EPSILON)) {
-                angle += sliceAngle * phaseX;
-                continue;
-            }
-
-            // Don't draw if it's highlighted, unless the chart uses rounded slices
-            if (dataSet.isHighlightEnabled() && mChart.needsHighlight(j) && !drawRoundedSlices) {
+                paths[j] = null;
                 angle += sliceAngle * phaseX;
                 continue;
             }
 
             final boolean accountForSliceSpacing = sliceSpace > 0.f && sliceAngle <= 180.f;
 
-            mRenderPaint.setColor(dataSet.getColor(j));
-
             final float sliceSpaceAngleOuter = visibleAngleCount == 1 ?
                     0.f :
                     sliceSpace / (Utils.FDEG2RAD * radius);
@@ -276,7 +369,11 @@ public class PieChartRenderer extends DataRenderer {
                 sweepAngleOuter = 0.f;
             }
 
-            mPathBuffer.reset();
+            if (paths[j] == null)
+                paths[j] = new Path();
+
+            final Path path = paths[j];
+            path.reset();
 
             if (drawRoundedSlices) {
                 float x = center.x + (radius - roundedRadius) * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
@@ -289,14 +386,14 @@ public class PieChartRenderer extends DataRenderer {
 
             if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
                 // Android is doing "mod 360"
-                mPathBuffer.addCircle(center.x, center.y, radius, Path.Direction.CW);
+                path.addCircle(center.x, center.y, radius, Path.Direction.CW);
             } else {
 
                 if (drawRoundedSlices) {
-                    mPathBuffer.arcTo(roundedCircleBox, startAngleOuter + 180, -180);
+                    path.arcTo(roundedCircleBox, startAngleOuter + 180, -180);
                 }
 
-                mPathBuffer.arcTo(
+                path.arcTo(
                         circleBox,
                         startAngleOuter,
                         sweepAngleOuter
@@ -339,20 +436,20 @@ public class PieChartRenderer extends DataRenderer {
 
                 if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
                     // Android is doing "mod 360"
-                    mPathBuffer.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
+                    path.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
                 } else {
 
                     if (drawRoundedSlices) {
                         float x = center.x + (radius - roundedRadius) * (float) Math.cos(endAngleInner * Utils.FDEG2RAD);
                         float y = center.y + (radius - roundedRadius) * (float) Math.sin(endAngleInner * Utils.FDEG2RAD);
                         roundedCircleBox.set(x - roundedRadius, y - roundedRadius, x + roundedRadius, y + roundedRadius);
-                        mPathBuffer.arcTo(roundedCircleBox, endAngleInner, 180);
+                        path.arcTo(roundedCircleBox, endAngleInner, 180);
                     } else
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 center.x + innerRadius * (float) Math.cos(endAngleInner * Utils.FDEG2RAD),
                                 center.y + innerRadius * (float) Math.sin(endAngleInner * Utils.FDEG2RAD));
 
-                    mPathBuffer.arcTo(
+                    path.arcTo(
                             mInnerRectBuffer,
                             endAngleInner,
                             -sweepAngleInner
@@ -380,12 +477,12 @@ public class PieChartRenderer extends DataRenderer {
                         float arcEndPointY = center.y +
                                 sliceSpaceOffset * (float) Math.sin(angleMiddle * Utils.FDEG2RAD);
 
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 arcEndPointX,
                                 arcEndPointY);
 
                     } else {
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 center.x,
                                 center.y);
                     }
@@ -393,14 +490,132 @@ public class PieChartRenderer extends DataRenderer {
 
             }
 
-            mPathBuffer.close();
-
-            mBitmapCanvas.drawPath(mPathBuffer, mRenderPaint);
+            path.close();
 
             angle += sliceAngle * phaseX;
         }
+    }
 
-        MPPointF.recycleInstance(center);
+    /**
+     * The slice paths of a DataSet and the state they were computed for.
+     */
+    protected static class SliceGeometryCache {
+
+        private Path[] paths = new Path[0];
+
+        private final SliceGeometryKey key = new SliceGeometryKey();
+    }
+
+    /**
+     * Describes the state the slice paths of a pie DataSet were built with: the angles version
+     * of the chart (i.e. the data), the entry count, the circle box and center, the radii, the
+     * hole and slice settings and the animation phases. The rotation angle is not part of it,
+     * the paths are built at an angle of 0 and rotated with the canvas, so rotating the chart
+     * reuses them.
+     */
+    private static class SliceGeometryKey {
+
+        private int mAnglesVersion = -1;
+        private int mEntryCount = -1;
+
+        private float mLeft;
+        private float mTop;
+        private float mRight;
+        private float mBottom;
+
+        private float mCenterX;
+        private float mCenterY;
+
+        private float mRadius;
+        private float mHoleRadius;
+
+        private boolean mInnerArc;
+        private boolean mRoundedSlices;
+
+        private float mSliceSpace;
+
+        private float mPhaseX;
+        private float mPhaseY;
+
+        /**
+         * Remembers the given state and returns true if it is the same as with the previous call.
+         *
+         * @param anglesVersion the angles version of the chart
+         * @param entryCount
+         * @param left          the circle box
+         * @param top
+         * @param right
+         * @param bottom
+         * @param centerX
+         * @param centerY
+         * @param radius
+         * @param holeRadius
+         * @param innerArc      true if the slices end at the hole
+         * @param roundedSlices
+         * @param sliceSpace
+         * @param phaseX
+         * @param phaseY
+         * @return
+         */
+        protected boolean update(int anglesVersion, int entryCount,
+                                 float left, float top, float right, float bottom,
+                                 float centerX, float centerY, float radius, float holeRadius,
+                                 boolean innerArc, boolean roundedSlices, float sliceSpace,
+                                 float phaseX, float phaseY) {
+
+            if (mAnglesVersion == anglesVersion
+                    && mEntryCount == entryCount
+                    && mLeft == left
+                    && mTop == top
+                    && mRight == right
+                    && mBottom == bottom
+                    && mCenterX == centerX
+                    && mCenterY == centerY
+                    && mRadius == radius
+                    && mHoleRadius == holeRadius
+                    && mInnerArc == innerArc
+                    && mRoundedSlices == roundedSlices
+                    && mSliceSpace == sliceSpace
+                    && mPhaseX == phaseX
+                    && mPhaseY == phaseY)
+                return true;
+
+            mAnglesVersion = anglesVersion;
+            mEntryCount = entryCount;
+            mLeft = left;
+            mTop = top;
+            mRight = right;
+            mBottom = bottom;
+            mCenterX = centerX;
+            mCenterY = centerY;
+            mRadius = radius;
+            mHoleRadius = holeRadius;
+            mInnerArc = innerArc;
+            mRoundedSlices = roundedSlices;
+            mSliceSpace = sliceSpace;
+            mPhaseX = phaseX;
+            mPhaseY = phaseY;
+
+            return false;
+        }
+
+        /**
+         * Returns the entry count of the last update.
+         *
+         * @return
+         */
+        protected int getEntryCount() {
+            return mEntryCount;
+        }
+
+        /**
+         * Returns true if the last update was for rounded slices.
+         *
+         * @return
+         */
+        protected boolean isRoundedSlices() {
+            return mRoundedSlices;
+        }
     }
 
     @Override
@@ -5,12 +5,14 @@ import android.graphics.drawable.Drawable;
 import android.util.Log;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.buffer.AbstractBuffer;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.IShapeBatchRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -45,7 +47,10 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
-    float[] mPixelBuffer = new float[2];
+    /**
+     * buffer for the pixel positions of the visible points of a DataSet
+     */
+    protected ScatterBuffer mScatterBuffer = new ScatterBuffer(2);
 
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
@@ -64,30 +69,70 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             return;
         }
 
-        int max = (int)(Math.min(
-                Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
-                (float)dataSet.getEntryCount()));
+        mXBounds.set(mChart, dataSet);
 
-        for (int i = 0; i < max; i++) {
+        final int pointCount = mXBounds.range + 1;
 
-            Entry e = dataSet.getEntryForIndex(i);
+        if (mScatterBuffer.size() < pointCount * 2)
+            mScatterBuffer = new ScatterBuffer(pointCount * 2);
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        final ScatterBuffer buffer = mScatterBuffer;
+        buffer.setPhases(1f, phaseY);
+        buffer.feed(dataSet, mXBounds.min, mXBounds.min + mXBounds.range);
 
-            trans.pointValuesToPixel(mPixelBuffer);
+        trans.pointValuesToPixel(buffer.buffer, buffer.getPointCount());
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
-                break;
+        // the visible points are moved to the front of the buffer, runs of points with the
+        // same color are drawn together
+        final int shapeCount = buffer.cull(dataSet,
+                viewPortHandler.contentLeft(), viewPortHandler.contentTop(),
+                viewPortHandler.contentRight(), viewPortHandler.contentBottom());
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
-                continue;
+        for (int runStart = 0; runStart < shapeCount; ) {
+
+            final int runEnd = buffer.getRunEnd(runStart);
+            drawShapes(c, dataSet, renderer, runStart, runEnd - runStart, buffer.getShapeColor(runStart));
+            runStart = runEnd;
+        }
+
+        if (mRenderMetrics != null)
+            mRenderMetrics.addVisibleEntries(dataSet, shapeCount);
+    }
+
+    /**
+     * Draws the shapes of count points of the point buffer in the given color, with a single
+     * call if the IShapeRenderer supports it.
+     *
+     * @param c
+     * @param dataSet
+     * @param renderer
+     * @param from     the index of the first point in the point buffer
+     * @param count
+     * @param color
+     */
+    protected void drawShapes(Canvas c, IScatterDataSet dataSet, IShapeRenderer renderer,
+                              int from, int count, int color) {
+
+        if (count < 1)
+            return;
+
+        if (renderer instanceof IShapeBatchRenderer) {
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
+            mRenderPaint.setColor(color);
+            ((IShapeBatchRenderer) renderer).renderShapes(
+                    c, dataSet, mViewPortHandler,
+                    mScatterBuffer.buffer, from * 2, count,
+                    mRenderPaint);
+            return;
+        }
+
+        for (int j = from; j < from + count; j++) {
+
+            // the paint color may have been changed by the shape renderer
+            mRenderPaint.setColor(color);
             renderer.renderShape(
                     c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
+                    mScatterBuffer.buffer[j * 2], mScatterBuffer.buffer[j * 2 + 1],
                     mRenderPaint);
         }
     }
@@ -98,6 +143,8 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         // if values are drawn
         if (isDrawingValuesAllowed(mChart)) {
 
+            resetValueLabels();
+
             List<IScatterDataSet> dataSets = mChart.getScatterData().getDataSets();
 
             for (int i = 0; i < mChart.getScatterData().getDataSetCount(); i++) {
@@ -124,33 +171,50 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                // with culling, the labels of the local extrema are placed in a first pass
+                final boolean extremaFirst = mValueLabelCullingEnabled && dataSet.isDrawValuesEnabled();
 
-                    if (!mViewPortHandler.isInBoundsRight(positions[j]))
-                        break;
+                for (int pass = extremaFirst ? 0 : 1; pass < 2; pass++) {
 
-                    // make sure the lines don't do shitty things outside bounds
-                    if ((!mViewPortHandler.isInBoundsLeft(positions[j])
-                            || !mViewPortHandler.isInBoundsY(positions[j + 1])))
-                        continue;
+                    for (int j = 0; j < positions.length; j += 2) {
 
-                    Entry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
+                        if (!mViewPortHandler.isInBoundsRight(positions[j]))
+                            break;
 
-                    if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getPointLabel(entry), positions[j], positions[j + 1] - shapeSize, dataSet.getValueTextColor(j / 2 + mXBounds.min));
-                    }
+                        // make sure the lines don't do shitty things outside bounds
+                        if ((!mViewPortHandler.isInBoundsLeft(positions[j])
+                                || !mViewPortHandler.isInBoundsY(positions[j + 1])))
+                            continue;
 
-                    if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
+                        final int index = j / 2 + mXBounds.min;
+                        final boolean extremum = extremaFirst && isLocalExtremum(dataSet, index);
 
-                        Drawable icon = entry.getIcon();
+                        if (pass == 0 && !extremum)
+                            continue;
 
-                        Utils.drawImage(
-                                c,
-                                icon,
-                                (int)(positions[j] + iconsOffset.x),
-                                (int)(positions[j + 1] + iconsOffset.y),
-                                icon.getIntrinsicWidth(),
-                                icon.getIntrinsicHeight());
+                        Entry entry = dataSet.getEntryForIndex(index);
+
+                        if (dataSet.isDrawValuesEnabled() && (pass == 0 || !extremum)) {
+
+                            CharSequence label = formatter.getPointLabelChars(entry);
+                            float y = positions[j + 1] - shapeSize;
+
+                            if (placeValueLabel(label, positions[j], y))
+                                drawValue(c, label, positions[j], y, dataSet.getValueTextColor(index));
+                        }
+
+                        if (pass == 1 && entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
+
+                            Drawable icon = entry.getIcon();
+
+                            Utils.drawImage(
+                                    c,
+                                    icon,
+                                    (int)(positions[j] + iconsOffset.x),
+                                    (int)(positions[j + 1] + iconsOffset.y),
+                                    icon.getIntrinsicWidth(),
+                                    icon.getIntrinsicHeight());
+                        }
                     }
                 }
 
@@ -195,4 +259,156 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             drawHighlightLines(c, (float) pix.x, (float) pix.y, set);
         }
     }
+
+    /**
+     * Buffer that holds the positions of the points of a ScatterDataSet as x/y pairs. After the
+     * positions are transformed into pixels, cull(...) moves the points within the content
+     * bounds to the front of the buffer together with their colors, so that runs of points with
+     * the same color can be drawn with one call.
+     */
+    protected static class ScatterBuffer extends AbstractBuffer<IScatterDataSet> {
+
+        /** the index of the first entry fed into the buffer by the last feed */
+        protected int mFeedStart = 0;
+
+        /** the number of points fed by the last feed */
+        protected int mPointCount = 0;
+
+        /** the number of points kept by the last cull */
+        protected int mShapeCount = 0;
+
+        /** the color of each point kept by the last cull */
+        protected final int[] mShapeColors;
+
+        public ScatterBuffer(int size) {
+            super(size);
+            mShapeColors = new int[size / 2];
+        }
+
+        @Override
+        public void feed(IScatterDataSet data) {
+            feed(data, 0, data.getEntryCount() - 1);
+        }
+
+        /**
+         * Feeds the points of the entries in the index range [from, to] into the start of the
+         * buffer, e.g. only the visible ones.
+         *
+         * @param data
+         * @param from
+         * @param to
+         */
+        public void feed(IScatterDataSet data, int from, int to) {
+
+            mFeedStart = from;
+
+            for (int i = from; i <= to; i++) {
+                buffer[index++] = data.getX(i);
+                buffer[index++] = data.getY(i) * phaseY;
+            }
+
+            mPointCount = index / 2;
+            mShapeCount = 0;
+            reset();
+        }
+
+        /**
+         * Moves the fed points that are within the given pixel bounds to the front of the
+         * buffer, in their order, and keeps the color of the entry of each. The bounds are
+         * checked with the tolerances of ViewPortHandler.isInBoundsLeft/Right/Top/Bottom(...).
+         * As the points are sorted by x, the first point right of the bounds ends the culling.
+         * Call after the positions are transformed into pixels.
+         *
+         * @param data   the DataSet that was fed
+         * @param left
+         * @param top
+         * @param right
+         * @param bottom
+         * @return the number of kept points
+         */
+        public int cull(IScatterDataSet data, float left, float top, float right, float bottom) {
+
+            final boolean singleColor = data.getColors().size() == 1;
+            final int color = data.getColor();
+
+            int shapeCount = 0;
+
+            for (int j = 0; j < mPointCount; j++) {
+
+                final float x = buffer[j * 2];
+                final float y = buffer[j * 2 + 1];
+
+                if (right < (float) ((int) (x * 100.f)) / 100.f - 1)
+                    break;
+
+                if (left > x + 1 || top > y || bottom < (float) ((int) (y * 100.f)) / 100.f)
+                    continue;
+
+                buffer[shapeCount * 2] = x;
+                buffer[shapeCount * 2 + 1] = y;
+                mShapeColors[shapeCount] = singleColor ? color : data.getColor(mFeedStart + j);
+                shapeCount++;
+            }
+
+            mShapeCount = shapeCount;
+
+            return shapeCount;
+        }
+
+        /**
+         * Returns the index of the first entry fed into the buffer by the last feed.
+         *
+         * @return
+         */
+        public int getFeedStart() {
+            return mFeedStart;
+        }
+
+        /**
+         * Returns the number of points fed by the last feed.
+         *
+         * @return
+         */
+        public int getPointCount() {
+            return mPointCount;
+        }
+
+        /**
+         * Returns the number of points kept by the last cull.
+         *
+         * @return
+         */
+        public int getShapeCount() {
+            return mShapeCount;
+        }
+
+        /**
+         * Returns the color of the kept point at the given position.
+         *
+         * @param shape
+         * @return
+         */
+        public int getShapeColor(int shape) {
+            return mShapeColors[shape];
+        }
+
+        /**
+         * Returns the end (exclusive) of the run of kept points with the same color that starts
+         * at the given point.
+         *
+         * @param from
+         * @return
+         */
+        public int getRunEnd(int from) {
+
+            final int color = mShapeColors[from];
+
+            int end = from + 1;
+
+            while (end < mShapeCount && mShapeColors[end] == color)
+                end++;
+
+            return end;
+        }
+    }
 }
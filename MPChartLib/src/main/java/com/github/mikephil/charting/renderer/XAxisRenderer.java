@@ -201,7 +201,7 @@ public class XAxisRenderer extends AxisRenderer {
 
             if (mViewPortHandler.isInBoundsX(x)) {
 
-                String label = mXAxis.getValueFormatter().getAxisLabel(mXAxis.mEntries[i / 2], mXAxis);
+                String label = mXAxis.getLabelForValue(mXAxis.mEntries[i / 2]);
 
                 if (mXAxis.isAvoidFirstLastClippingEnabled()) {
 
@@ -11,9 +11,10 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class CrossShapeRenderer implements IShapeRenderer
+public class CrossShapeRenderer implements IShapeBatchRenderer
 {
 
+    private final ShapeBatch mBatch = new ShapeBatch();
 
     @Override
     public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
@@ -38,4 +39,27 @@ public class CrossShapeRenderer implements IShapeRenderer
                 renderPaint);
 
     }
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int offset, int count, Paint renderPaint) {
+
+        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        final int end = offset + count * 2;
+
+        for (int i = offset; i < end; i += 2) {
+
+            final float posX = positions[i];
+            final float posY = positions[i + 1];
+
+            mBatch.addLine(c, renderPaint, posX - shapeHalf, posY, posX + shapeHalf, posY);
+            mBatch.addLine(c, renderPaint, posX, posY - shapeHalf, posX, posY + shapeHalf);
+        }
+
+        mBatch.flush(c, renderPaint);
+    }
 }
@@ -0,0 +1,30 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * IShapeRenderer that can also draw the shapes of many points at once, which the
+ * ScatterChartRenderer prefers over drawing them one by one.
+ */
+public interface IShapeBatchRenderer extends IShapeRenderer
+{
+
+    /**
+     * Renders the shapes of multiple points with the current color of the Paint. The
+     * color of the Paint may be changed afterwards.
+     *
+     * @param c               Canvas object for drawing the shapes
+     * @param dataSet         The DataSet to be drawn
+     * @param viewPortHandler Contains information about the current state of the view
+     * @param positions       Pixel positions of the points as x/y pairs
+     * @param offset          Index of the x value of the first point in positions
+     * @param count           Number of points to draw
+     * @param renderPaint     Paint object used for styling and drawing
+     */
+    void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                      float[] positions, int offset, int count, Paint renderPaint);
+}
@@ -0,0 +1,67 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+/**
+ * Collects line segments and draws them with a few drawLines(...) calls instead of one
+ * drawLine(...) per segment.
+ */
+final class ShapeBatch {
+
+    /**
+     * the number of paths or lines drawn with a single call
+     */
+    static final int BATCH_SIZE = 512;
+
+    private final float[] mLines = new float[BATCH_SIZE * 4];
+
+    private int mSize = 0;
+
+    void addLine(Canvas c, Paint paint, float startX, float startY, float stopX, float stopY) {
+
+        final float[] lines = mLines;
+
+        lines[mSize++] = startX;
+        lines[mSize++] = startY;
+        lines[mSize++] = stopX;
+        lines[mSize++] = stopY;
+
+        if (mSize == lines.length)
+            flush(c, paint);
+    }
+
+    void flush(Canvas c, Paint paint) {
+
+        if (mSize > 0)
+            c.drawLines(mLines, 0, mSize, paint);
+
+        mSize = 0;
+    }
+
+    /**
+     * Draws a filled square or circle of the given size at each of the points with a single
+     * drawPoints(...) call.
+     *
+     * @param c
+     * @param positions
+     * @param offset
+     * @param count
+     * @param size
+     * @param cap       SQUARE for squares, ROUND for circles
+     * @param paint
+     */
+    static void drawPoints(Canvas c, float[] positions, int offset, int count,
+                           float size, Paint.Cap cap, Paint paint) {
+
+        final Paint.Cap previousCap = paint.getStrokeCap();
+
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(size);
+        paint.setStrokeCap(cap);
+
+        c.drawPoints(positions, offset, count * 2, paint);
+
+        paint.setStrokeCap(previousCap);
+    }
+}
@@ -2,6 +2,7 @@ package com.github.mikephil.charting.renderer.scatter;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.Path;
 
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
@@ -12,9 +13,13 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class SquareShapeRenderer implements IShapeRenderer
+public class SquareShapeRenderer implements IShapeBatchRenderer
 {
 
+    /**
+     * created when needed, only shapes with holes are drawn as a path
+     */
+    protected Path mBatchPath;
 
     @Override
     public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
@@ -60,4 +65,57 @@ public class SquareShapeRenderer implements IShapeRenderer
                     renderPaint);
         }
     }
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int offset, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeHoleSize = shapeHoleSizeHalf * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+        final float shapeStrokeSizeHalf = shapeStrokeSize / 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        if (shapeSize <= 0.0 || count < 1)
+            return;
+
+        if (shapeHoleSize <= 0.0) {
+            // without a hole, the square is filled and can be drawn as a point
+            ShapeBatch.drawPoints(c, positions, offset, count, shapeSize, Paint.Cap.SQUARE, renderPaint);
+            return;
+        }
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(shapeStrokeSize);
+
+        final float rectHalf = shapeHoleSizeHalf + shapeStrokeSizeHalf;
+        final int end = offset + count * 2;
+
+        if (mBatchPath == null)
+            mBatchPath = new Path();
+
+        Path path = mBatchPath;
+        path.reset();
+
+        for (int i = offset, n = 1; i < end; i += 2, n++) {
+
+            path.addRect(positions[i] - rectHalf, positions[i + 1] - rectHalf,
+                    positions[i] + rectHalf, positions[i + 1] + rectHalf, Path.Direction.CW);
+
+            if (n % ShapeBatch.BATCH_SIZE == 0) {
+                c.drawPath(path, renderPaint);
+                path.reset();
+            }
+        }
+
+        c.drawPath(path, renderPaint);
+        path.reset();
+
+        if (shapeHoleColor != ColorTemplate.COLOR_NONE) {
+            renderPaint.setColor(shapeHoleColor);
+            ShapeBatch.drawPoints(c, positions, offset, count, shapeHoleSize, Paint.Cap.SQUARE, renderPaint);
+        }
+    }
 }
@@ -13,11 +13,13 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class TriangleShapeRenderer implements IShapeRenderer
+public class TriangleShapeRenderer implements IShapeBatchRenderer
 {
 
     protected Path mTrianglePathBuffer = new Path();
 
+    protected Path mBatchHolePath = new Path();
+
     @Override
     public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
                             float posX, float posY, Paint renderPaint) {
@@ -77,4 +79,73 @@ public class TriangleShapeRenderer implements IShapeRenderer
 
     }
 
-}
\ No newline at end of file
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int offset, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHalf = shapeSize / 2f;
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeHoleSize = shapeHoleSizeHalf * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+        final boolean drawHoles = shapeHoleColor != ColorTemplate.COLOR_NONE;
+
+        if (shapeSize <= 0.0 || count < 1)
+            return;
+
+        renderPaint.setStyle(Paint.Style.FILL);
+
+        final int color = renderPaint.getColor();
+        final int end = offset + count * 2;
+
+        Path tri = mTrianglePathBuffer;
+        Path holes = mBatchHolePath;
+        tri.reset();
+        holes.reset();
+
+        for (int i = offset, n = 1; i < end; i += 2, n++) {
+
+            final float posX = positions[i];
+            final float posY = positions[i + 1];
+
+            tri.moveTo(posX, posY - shapeHalf);
+            tri.lineTo(posX + shapeHalf, posY + shapeHalf);
+            tri.lineTo(posX - shapeHalf, posY + shapeHalf);
+            tri.close();
+
+            // the inner triangle runs the other way round and cuts out the hole
+            tri.moveTo(posX - shapeHalf + shapeStrokeSize,
+                    posY + shapeHalf - shapeStrokeSize);
+            tri.lineTo(posX + shapeHalf - shapeStrokeSize,
+                    posY + shapeHalf - shapeStrokeSize);
+            tri.lineTo(posX,
+                    posY - shapeHalf + shapeStrokeSize);
+            tri.close();
+
+            if (drawHoles) {
+                holes.moveTo(posX,
+                        posY - shapeHalf + shapeStrokeSize);
+                holes.lineTo(posX + shapeHalf - shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                holes.lineTo(posX - shapeHalf + shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                holes.close();
+            }
+
+            if (n % ShapeBatch.BATCH_SIZE == 0 || i + 2 >= end) {
+
+                renderPaint.setColor(color);
+                c.drawPath(tri, renderPaint);
+                tri.reset();
+
+                if (drawHoles) {
+                    renderPaint.setColor(shapeHoleColor);
+                    c.drawPath(holes, renderPaint);
+                    holes.reset();
+                }
+            }
+        }
+    }
+}
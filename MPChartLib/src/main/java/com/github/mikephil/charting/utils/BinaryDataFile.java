@@ -0,0 +1,295 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary file format for the values of a DataSet, as an alternative to the text
+ * files of FileUtils. The file consists of a header and float columns:
+ *
+ * <pre>
+ * int   magic       "MPCD"
+ * int   version     1
+ * int   entryCount  n
+ * int   stackSize   s, 0 if there are no stacked values
+ * float x[n]
+ * float y[n]
+ * float stack[s][n] the stacked values of BarEntries, NaN where an entry has less values
+ * </pre>
+ *
+ * All values are little endian. Reading maps the file into memory, the columns are copied
+ * with bulk operations straight into primitive arrays, no objects are created per value.
+ */
+public class BinaryDataFile {
+
+    /**
+     * "MPCD"
+     */
+    public static final int MAGIC = 0x4D504344;
+
+    public static final int VERSION = 1;
+
+    /**
+     * the size of the header in bytes
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * the mapped columns, positioned after the header
+     */
+    private FloatBuffer mColumns;
+
+    private int mEntryCount;
+
+    private int mStackSize;
+
+    /**
+     * Maps the whole given file into memory.
+     *
+     * @param file
+     * @throws IOException if the file can not be read or is no valid file of this format
+     */
+    public BinaryDataFile(File file) throws IOException {
+
+        FileInputStream stream = new FileInputStream(file);
+
+        try {
+            FileChannel channel = stream.getChannel();
+            init(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            // the mapping stays valid after closing the channel
+            stream.close();
+        }
+    }
+
+    /**
+     * Maps the given region of the channel into memory, e.g. an uncompressed asset within the
+     * apk, opened via AssetManager.openFd(...).
+     *
+     * @param channel
+     * @param offset
+     * @param length
+     * @throws IOException if the region can not be read or is no valid file of this format
+     */
+    public BinaryDataFile(FileChannel channel, long offset, long length) throws IOException {
+        init(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+    }
+
+    private void init(ByteBuffer buffer) throws IOException {
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC)
+            throw new IOException("Not a chart data file.");
+
+        final int version = buffer.getInt();
+
+        if (version != VERSION)
+            throw new IOException("Unsupported chart data file version " + version + ".");
+
+        mEntryCount = buffer.getInt();
+        mStackSize = buffer.getInt();
+
+        if (mEntryCount < 0 || mStackSize < 0
+                || buffer.remaining() < (2L + mStackSize) * mEntryCount * 4L)
+            throw new IOException("Truncated chart data file.");
+
+        mColumns = buffer.asFloatBuffer();
+    }
+
+    /**
+     * Returns the number of values in the file.
+     *
+     * @return
+     */
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    /**
+     * Returns the number of stacked values per entry, 0 if the file has none.
+     *
+     * @return
+     */
+    public int getStackSize() {
+        return mStackSize;
+    }
+
+    public float getX(int index) {
+        return mColumns.get(index);
+    }
+
+    public float getY(int index) {
+        return mColumns.get(mEntryCount + index);
+    }
+
+    /**
+     * Returns the stacked value at the given position of the entry at the given index,
+     * NaN if the entry has less stacked values.
+     *
+     * @param index
+     * @param stackIndex
+     * @return
+     */
+    public float getStackValue(int index, int stackIndex) {
+        return mColumns.get((2 + stackIndex) * mEntryCount + index);
+    }
+
+    /**
+     * Copies count values of the given column (0 = x, 1 = y, 2 + i = stack i), starting at
+     * the given index, into the array.
+     *
+     * @param column
+     * @param index
+     * @param dst
+     * @param offset
+     * @param count
+     */
+    public void readColumn(int column, int index, float[] dst, int offset, int count) {
+
+        FloatBuffer columns = mColumns.duplicate();
+        columns.position(column * mEntryCount + index);
+        columns.get(dst, offset, count);
+    }
+
+    /**
+     * Creates a DataSet that holds the x- and y-values of this file, without creating
+     * an object per value.
+     *
+     * @param label
+     * @return
+     */
+    public PrimitiveLineDataSet toLineDataSet(String label) {
+
+        final int size = Math.max(mEntryCount, 1);
+
+        float[] xValues = new float[size];
+        float[] yValues = new float[size];
+
+        readColumn(0, 0, xValues, 0, mEntryCount);
+        readColumn(1, 0, yValues, 0, mEntryCount);
+
+        return new PrimitiveLineDataSet(xValues, yValues, mEntryCount, label);
+    }
+
+    /**
+     * Creates BarEntries from the values of this file, stacked if the file has stacked
+     * values.
+     *
+     * @return
+     */
+    public List<BarEntry> toBarEntries() {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>(mEntryCount);
+
+        for (int i = 0; i < mEntryCount; i++) {
+
+            int stackSize = mStackSize;
+
+            while (stackSize > 0 && Float.isNaN(getStackValue(i, stackSize - 1)))
+                stackSize--;
+
+            if (stackSize == 0) {
+                entries.add(new BarEntry(getX(i), getY(i)));
+            } else {
+
+                float[] vals = new float[stackSize];
+
+                for (int j = 0; j < stackSize; j++) {
+                    vals[j] = getStackValue(i, j);
+                }
+
+                entries.add(new BarEntry(getX(i), vals));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Writes the values of the given DataSet to the given file, replacing its content.
+     * The stacked values of IBarDataSets are written as additional columns.
+     *
+     * @param set
+     * @param file
+     * @throws IOException
+     */
+    public static void write(IDataSet set, File file) throws IOException {
+
+        final int entryCount = set.getEntryCount();
+
+        int stackSize = 0;
+
+        if (set instanceof IBarDataSet && ((IBarDataSet) set).isStacked())
+            stackSize = ((IBarDataSet) set).getStackSize();
+
+        FileOutputStream stream = new FileOutputStream(file);
+
+        try {
+            FileChannel channel = stream.getChannel();
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(entryCount);
+            buffer.putInt(stackSize);
+
+            for (int column = 0; column < 2 + stackSize; column++) {
+
+                for (int i = 0; i < entryCount; i++) {
+
+                    if (!buffer.hasRemaining())
+                        flush(buffer, channel);
+
+                    buffer.putFloat(getColumnValue(set, column, i));
+                }
+            }
+
+            flush(buffer, channel);
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static float getColumnValue(IDataSet set, int column, int index) {
+
+        if (column == 0)
+            return set.getX(index);
+
+        if (column == 1)
+            return set.getY(index);
+
+        float[] vals = ((BarEntry) set.getEntryForIndex(index)).getYVals();
+        final int stackIndex = column - 2;
+
+        if (vals == null)
+            return stackIndex == 0 ? set.getY(index) : Float.NaN;
+
+        return stackIndex < vals.length ? vals[stackIndex] : Float.NaN;
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+
+        buffer.flip();
+
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+
+        buffer.clear();
+    }
+}
@@ -1,26 +1,33 @@
 
 package com.github.mikephil.charting.utils;
 
+import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
 import android.os.Environment;
 import android.util.Log;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Utilities class for interacting with the assets and the devices storage to
- * load and save DataSet objects from and to .txt files.
+ * load and save DataSet objects from and to .txt files, or the binary files
+ * of BinaryDataFile.
  * 
  * @author Philipp Jahoda
  */
@@ -188,6 +195,85 @@ public class FileUtils {
         // return ds;
     }
 
+    /**
+     * Loads a DataSet from a textfile from the sd-card, in the same format as
+     * loadEntriesFromFile(...) ("x#y" per line). The file is parsed in chunks straight into
+     * the DataSet, without creating Strings or Entries per line.
+     *
+     * @param path  the name of the file on the sd-card (+ path if needed)
+     * @param label
+     * @return
+     */
+    public static PrimitiveLineDataSet loadDataSetFromFile(String path, String label) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+
+        PrimitiveLineDataSet set = new PrimitiveLineDataSet(label);
+
+        Reader reader = null;
+        try {
+            reader = new FileReader(new File(sdcard, path));
+
+            new TextDataParser()
+                    .setDelimiter('#')
+                    .setColumns(0, 1)
+                    .parse(reader, TextDataParser.into(set));
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+
+        } finally {
+
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+
+        return set;
+    }
+
+    /**
+     * Loads a DataSet from a textfile from the assets folder, in the same format as
+     * loadEntriesFromAssets(...) ("y#x" per line). The file is parsed in chunks straight
+     * into the DataSet, without creating Strings or Entries per line.
+     *
+     * @param am
+     * @param path  the name of the file in the assets folder (+ path if needed)
+     * @param label
+     * @return
+     */
+    public static PrimitiveLineDataSet loadDataSetFromAssets(AssetManager am, String path, String label) {
+
+        PrimitiveLineDataSet set = new PrimitiveLineDataSet(label);
+
+        InputStream in = null;
+        try {
+            in = am.open(path);
+
+            new TextDataParser()
+                    .setDelimiter('#')
+                    .setColumns(1, 0)
+                    .parse(in, TextDataParser.into(set));
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+
+        } finally {
+
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+
+        return set;
+    }
+
     /**
      * Saves an Array of Entries to the specified location on the sdcard
      * 
@@ -227,6 +313,85 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Saves the values of the given DataSet to the specified location on the sdcard,
+     * in the binary format of BinaryDataFile. Replaces an existing file.
+     *
+     * @param set
+     * @param path
+     */
+    public static void saveToBinaryFile(IDataSet set, String path) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+
+        try {
+            BinaryDataFile.write(set, new File(sdcard, path));
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        }
+    }
+
+    /**
+     * Loads a DataSet from a binary file (see BinaryDataFile) from the sd-card. The file
+     * is memory-mapped and copied into the DataSet without creating an Entry per value.
+     *
+     * @param path  the name of the file on the sd-card (+ path if needed)
+     * @param label
+     * @return
+     */
+    public static PrimitiveLineDataSet loadDataSetFromBinaryFile(String path, String label) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+
+        try {
+            return new BinaryDataFile(new File(sdcard, path)).toLineDataSet(label);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        }
+
+        return new PrimitiveLineDataSet(label);
+    }
+
+    /**
+     * Loads a DataSet from a binary file (see BinaryDataFile) from the assets folder. The
+     * asset needs to be stored uncompressed (aaptOptions noCompress) so that it can be
+     * memory-mapped.
+     *
+     * @param am
+     * @param path  the name of the file in the assets folder (+ path if needed)
+     * @param label
+     * @return
+     */
+    public static PrimitiveLineDataSet loadDataSetFromBinaryAssets(AssetManager am, String path, String label) {
+
+        AssetFileDescriptor descriptor = null;
+        FileInputStream stream = null;
+
+        try {
+            descriptor = am.openFd(path);
+            stream = descriptor.createInputStream();
+
+            return new BinaryDataFile(stream.getChannel(),
+                    descriptor.getStartOffset(), descriptor.getLength()).toLineDataSet(label);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+
+        } finally {
+
+            try {
+                if (stream != null)
+                    stream.close();
+
+                if (descriptor != null)
+                    descriptor.close();
+            } catch (IOException e) {
+                Log.e(LOG, e.toString());
+            }
+        }
+
+        return new PrimitiveLineDataSet(label);
+    }
+
     public static List<BarEntry> loadBarEntriesFromAssets(AssetManager am, String path) {
 
         List<BarEntry> entries = new ArrayList<BarEntry>();
@@ -0,0 +1,235 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * 2-dimensional tree over the x- and y-values of a DataSet, used to find the value closest
+ * to a touch position in O(log n). The tree is built in value space, distances are measured
+ * in pixels by scaling both axes with the number of pixels per value, so zooming does not
+ * require a rebuild. The tree is built lazily: update(...) rebuilds it in O(n log n) when the
+ * DataSet changed since the last build, invalidate() forces that. Values with a NaN x- or y-value are not indexed.
+ */
+public class KdTree {
+
+    /**
+     * the values in tree order, the node of a range [from, to) is at its middle and splits
+     * by x on even depths and by y on odd depths
+     */
+    private float[] mX = new float[0];
+    private float[] mY = new float[0];
+
+    /**
+     * the index of each value in the DataSet, in tree order
+     */
+    private int[] mIndices = new int[0];
+
+    /**
+     * the number of values in the tree
+     */
+    private int mSize;
+
+    /**
+     * the number of entries of the DataSet when the tree was built
+     */
+    private int mEntryCount = -1;
+
+    /**
+     * the data version of the DataSet when the tree was built
+     */
+    private int mDataVersion;
+
+    private boolean mDirty = true;
+
+    /**
+     * the closest value found by the running query
+     */
+    private int mBestIndex;
+    private float mBestDistance;
+
+    /**
+     * Marks the tree for a rebuild with the next update(...).
+     */
+    public void invalidate() {
+        mDirty = true;
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Rebuilds the tree from the given DataSet if it was invalidated, or the number of entries
+     * or the data version of the DataSet changed since the last build.
+     *
+     * @param set
+     */
+    public void update(IDataSet set) {
+
+        if (mDirty || mEntryCount != set.getEntryCount() || mDataVersion != set.getDataVersion())
+            build(set);
+    }
+
+    /**
+     * Builds the tree from all values of the given DataSet.
+     *
+     * @param set
+     */
+    public void build(IDataSet set) {
+
+        final int entryCount = set.getEntryCount();
+
+        if (mIndices.length < entryCount) {
+            mX = new float[entryCount];
+            mY = new float[entryCount];
+            mIndices = new int[entryCount];
+        }
+
+        mSize = 0;
+
+        for (int i = 0; i < entryCount; i++) {
+
+            final float x = set.getX(i);
+            final float y = set.getY(i);
+
+            if (Float.isNaN(x) || Float.isNaN(y))
+                continue;
+
+            mX[mSize] = x;
+            mY[mSize] = y;
+            mIndices[mSize] = i;
+            mSize++;
+        }
+
+        build(0, mSize, 0);
+
+        mEntryCount = entryCount;
+        mDataVersion = set.getDataVersion();
+        mDirty = false;
+    }
+
+    private void build(int from, int to, int depth) {
+
+        if (to - from < 2)
+            return;
+
+        final int mid = (from + to) >>> 1;
+
+        select(from, to - 1, mid, (depth & 1) == 0 ? mX : mY);
+
+        build(from, mid, depth + 1);
+        build(mid + 1, to, depth + 1);
+    }
+
+    /**
+     * Partially sorts [left, right] by the given coordinate so that the value at k is the one
+     * that belongs there, with no larger values before and no smaller values after it.
+     */
+    private void select(int left, int right, int k, float[] coords) {
+
+        while (right > left) {
+
+            final float pivot = coords[(left + right) >>> 1];
+
+            int i = left;
+            int j = right;
+
+            while (i <= j) {
+
+                while (coords[i] < pivot)
+                    i++;
+
+                while (coords[j] > pivot)
+                    j--;
+
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            if (k <= j)
+                right = j;
+            else if (k >= i)
+                left = i;
+            else
+                return;
+        }
+    }
+
+    private void swap(int i, int j) {
+
+        final float x = mX[i];
+        mX[i] = mX[j];
+        mX[j] = x;
+
+        final float y = mY[i];
+        mY[i] = mY[j];
+        mY[j] = y;
+
+        final int index = mIndices[i];
+        mIndices[i] = mIndices[j];
+        mIndices[j] = index;
+    }
+
+    /**
+     * Returns the index (in the DataSet) of the value closest to the given position, -1 if
+     * there is no value within maxDistance. The distance is measured after multiplying the
+     * x- and y-differences with the given scales, e.g. the pixels per value of both axes.
+     *
+     * @param x
+     * @param y
+     * @param scaleX
+     * @param scaleY
+     * @param maxDistance
+     * @return
+     */
+    public int nearest(float x, float y, float scaleX, float scaleY, float maxDistance) {
+
+        mBestIndex = -1;
+        mBestDistance = maxDistance * maxDistance;
+
+        nearest(0, mSize, 0, x, y, scaleX, scaleY);
+
+        return mBestIndex;
+    }
+
+    private void nearest(int from, int to, int depth, float x, float y, float scaleX, float scaleY) {
+
+        if (from >= to)
+            return;
+
+        final int mid = (from + to) >>> 1;
+
+        final float dx = (mX[mid] - x) * scaleX;
+        final float dy = (mY[mid] - y) * scaleY;
+        final float distance = dx * dx + dy * dy;
+
+        // equally close values resolve to the lowest index, independent of the tree layout
+        if (distance < mBestDistance || (distance == mBestDistance
+                && (mBestIndex == -1 || mIndices[mid] < mBestIndex))) {
+            mBestDistance = distance;
+            mBestIndex = mIndices[mid];
+        }
+
+        // distance to the splitting line
+        final float split = (depth & 1) == 0 ? -dx : -dy;
+
+        if (split < 0f) {
+            nearest(from, mid, depth + 1, x, y, scaleX, scaleY);
+
+            if (split * split <= mBestDistance)
+                nearest(mid + 1, to, depth + 1, x, y, scaleX, scaleY);
+        } else {
+            nearest(mid + 1, to, depth + 1, x, y, scaleX, scaleY);
+
+            if (split * split <= mBestDistance)
+                nearest(from, mid, depth + 1, x, y, scaleX, scaleY);
+        }
+    }
+}
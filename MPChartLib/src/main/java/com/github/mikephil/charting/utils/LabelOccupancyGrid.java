@@ -0,0 +1,107 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Coarse screen-space grid that keeps track of the area covered by the labels drawn so far.
+ * A label can only be placed if none of the cells its bounding box touches is occupied, which
+ * thins out overlapping labels at constant cost per label.
+ */
+public class LabelOccupancyGrid {
+
+    private float mLeft = 0f;
+    private float mTop = 0f;
+    private float mCellSize = 1f;
+
+    private int mColumns = 0;
+    private int mRows = 0;
+
+    private boolean[] mCells = new boolean[0];
+
+    private int mPlacedCount = 0;
+
+    /**
+     * Removes all labels and sets the covered area, labels outside of it are clamped to
+     * the border cells.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @param cellSize the edge length of the cells in pixels
+     */
+    public void reset(float left, float top, float right, float bottom, float cellSize) {
+
+        mLeft = left;
+        mTop = top;
+        mCellSize = Math.max(cellSize, 1f);
+
+        mColumns = Math.max((int) Math.ceil((right - left) / mCellSize), 1);
+        mRows = Math.max((int) Math.ceil((bottom - top) / mCellSize), 1);
+
+        final int cellCount = mColumns * mRows;
+
+        if (mCells.length < cellCount)
+            mCells = new boolean[cellCount];
+        else
+            Arrays.fill(mCells, 0, cellCount, false);
+
+        mPlacedCount = 0;
+    }
+
+    /**
+     * Places a label with the given bounding box if it does not touch an occupied cell.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @return true if the label was placed, false if it collides with a placed label
+     */
+    public boolean place(float left, float top, float right, float bottom) {
+
+        final int firstColumn = column(left);
+        final int lastColumn = column(right);
+        final int firstRow = row(top);
+        final int lastRow = row(bottom);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+
+                if (mCells[row * mColumns + column])
+                    return false;
+            }
+        }
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            Arrays.fill(mCells, row * mColumns + firstColumn, row * mColumns + lastColumn + 1, true);
+        }
+
+        mPlacedCount++;
+
+        return true;
+    }
+
+    /**
+     * Returns the number of labels placed since the last reset.
+     *
+     * @return
+     */
+    public int getPlacedCount() {
+        return mPlacedCount;
+    }
+
+    private int column(float x) {
+
+        final int column = (int) Math.floor((x - mLeft) / mCellSize);
+
+        return Math.min(Math.max(column, 0), mColumns - 1);
+    }
+
+    private int row(float y) {
+
+        final int row = (int) Math.floor((y - mTop) / mCellSize);
+
+        return Math.min(Math.max(row, 0), mRows - 1);
+    }
+}
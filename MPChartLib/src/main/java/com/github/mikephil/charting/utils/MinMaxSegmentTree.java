@@ -0,0 +1,304 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Segment tree over a growable list of (min, max) pairs that answers the minimum and
+ * maximum of any index range in O(log n). Appending and removing at either end update the
+ * tree in O(log n): the values occupy a window of the leaves that moves forward as values
+ * are removed from the front, and is moved back to the start (amortized O(1)) when it
+ * reaches the end. Inserting and removing in the middle shift the values and mark the tree
+ * for a lazy O(n) rebuild with the next query.
+ */
+public class MinMaxSegmentTree {
+
+    /**
+     * number of leaves the tree has space for, the leaves are stored at [mCapacity, 2 * mCapacity)
+     */
+    private int mCapacity;
+
+    /**
+     * the leaf of the value at index 0, relative to mCapacity
+     */
+    private int mStart;
+
+    /**
+     * the number of values in the tree
+     */
+    private int mSize;
+
+    private float[] mMin;
+    private float[] mMax;
+
+    /**
+     * true if the inner nodes need to be rebuilt before the next query
+     */
+    private boolean mDirty;
+
+    public MinMaxSegmentTree(int initialCapacity) {
+        mCapacity = Math.max(initialCapacity, 16);
+        mMin = new float[mCapacity * 2];
+        mMax = new float[mCapacity * 2];
+        clear();
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Removes all values. Values added directly afterwards are only indexed with the next
+     * query, so refilling the tree costs O(n) instead of O(n log n).
+     */
+    public void clear() {
+        mStart = 0;
+        mSize = 0;
+        Arrays.fill(mMin, Float.MAX_VALUE);
+        Arrays.fill(mMax, -Float.MAX_VALUE);
+        mDirty = true;
+    }
+
+    /**
+     * Makes sure the tree can hold the given number of values without resizing.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mCapacity)
+            return;
+
+        final int newCapacity = Math.max(capacity, mCapacity * 2);
+
+        float[] min = new float[newCapacity * 2];
+        float[] max = new float[newCapacity * 2];
+        Arrays.fill(min, Float.MAX_VALUE);
+        Arrays.fill(max, -Float.MAX_VALUE);
+
+        System.arraycopy(mMin, mCapacity + mStart, min, newCapacity, mSize);
+        System.arraycopy(mMax, mCapacity + mStart, max, newCapacity, mSize);
+
+        mCapacity = newCapacity;
+        mStart = 0;
+        mMin = min;
+        mMax = max;
+        mDirty = true;
+    }
+
+    /**
+     * Makes sure there is a free leaf after the last value, by moving the values back to the
+     * first leaf if at least half of the leaves have been freed at the front, or by growing
+     * the tree otherwise. Both happen at most once per mCapacity / 2 appends.
+     */
+    private void ensureSpaceAtEnd() {
+
+        if (mStart + mSize < mCapacity)
+            return;
+
+        if (mStart < mCapacity / 2) {
+            ensureCapacity(mCapacity + 1);
+            return;
+        }
+
+        final int from = mCapacity + mStart;
+
+        System.arraycopy(mMin, from, mMin, mCapacity, mSize);
+        System.arraycopy(mMax, from, mMax, mCapacity, mSize);
+        Arrays.fill(mMin, mCapacity + mSize, mCapacity * 2, Float.MAX_VALUE);
+        Arrays.fill(mMax, mCapacity + mSize, mCapacity * 2, -Float.MAX_VALUE);
+
+        mStart = 0;
+        mDirty = true;
+    }
+
+    /**
+     * Appends the given bounds to the end of the tree.
+     *
+     * @param min
+     * @param max
+     */
+    public void add(float min, float max) {
+
+        ensureSpaceAtEnd();
+
+        set(mSize++, min, max);
+    }
+
+    /**
+     * Replaces the bounds at the given index.
+     *
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void set(int index, float min, float max) {
+
+        int i = index + mStart + mCapacity;
+
+        mMin[i] = min;
+        mMax[i] = max;
+
+        if (mDirty)
+            return;
+
+        for (i >>= 1; i > 0; i >>= 1) {
+            mMin[i] = Math.min(mMin[2 * i], mMin[2 * i + 1]);
+            mMax[i] = Math.max(mMax[2 * i], mMax[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Inserts the given bounds at the given index, shifting the following values.
+     *
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void insert(int index, float min, float max) {
+
+        // a free leaf in front of the first value can be used without shifting
+        if (index == 0 && mStart > 0) {
+            mStart--;
+            mSize++;
+            set(0, min, max);
+            return;
+        }
+
+        if (index == mSize) {
+            add(min, max);
+            return;
+        }
+
+        ensureSpaceAtEnd();
+
+        final int leaf = index + mStart + mCapacity;
+
+        System.arraycopy(mMin, leaf, mMin, leaf + 1, mSize - index);
+        System.arraycopy(mMax, leaf, mMax, leaf + 1, mSize - index);
+
+        mMin[leaf] = min;
+        mMax[leaf] = max;
+
+        mSize++;
+        mDirty = true;
+    }
+
+    /**
+     * Removes the bounds at the given index, shifting the following values.
+     *
+     * @param index
+     */
+    public void remove(int index) {
+
+        // removing at either end only clears a leaf
+        if (index == 0 || index == mSize - 1) {
+
+            set(index, Float.MAX_VALUE, -Float.MAX_VALUE);
+
+            if (index == 0 && mSize > 1)
+                mStart++;
+
+            mSize--;
+
+            if (mSize == 0)
+                mStart = 0;
+
+            return;
+        }
+
+        final int leaf = index + mStart + mCapacity;
+
+        System.arraycopy(mMin, leaf + 1, mMin, leaf, mSize - index - 1);
+        System.arraycopy(mMax, leaf + 1, mMax, leaf, mSize - index - 1);
+
+        mSize--;
+
+        mMin[mCapacity + mStart + mSize] = Float.MAX_VALUE;
+        mMax[mCapacity + mStart + mSize] = -Float.MAX_VALUE;
+
+        mDirty = true;
+    }
+
+    /**
+     * Returns true if the next query rebuilds all inner nodes, e.g. after inserting or
+     * removing in the middle.
+     *
+     * @return
+     */
+    public boolean needsRebuild() {
+        return mDirty;
+    }
+
+    /**
+     * Returns the minimum of the values in the index range [from, to].
+     * Float.MAX_VALUE if the range is empty.
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMin(int from, int to) {
+
+        build();
+
+        float min = Float.MAX_VALUE;
+
+        for (int l = from + mStart + mCapacity, r = to + mStart + mCapacity + 1; l < r; l >>= 1, r >>= 1) {
+
+            if ((l & 1) == 1)
+                min = Math.min(min, mMin[l++]);
+
+            if ((r & 1) == 1)
+                min = Math.min(min, mMin[--r]);
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the maximum of the values in the index range [from, to].
+     * -Float.MAX_VALUE if the range is empty.
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMax(int from, int to) {
+
+        build();
+
+        float max = -Float.MAX_VALUE;
+
+        for (int l = from + mStart + mCapacity, r = to + mStart + mCapacity + 1; l < r; l >>= 1, r >>= 1) {
+
+            if ((l & 1) == 1)
+                max = Math.max(max, mMax[l++]);
+
+            if ((r & 1) == 1)
+                max = Math.max(max, mMax[--r]);
+        }
+
+        return max;
+    }
+
+    /**
+     * Rebuilds the inner nodes if necessary.
+     */
+    private void build() {
+
+        if (!mDirty)
+            return;
+
+        for (int i = mCapacity - 1; i > 0; i--) {
+            mMin[i] = Math.min(mMin[2 * i], mMin[2 * i + 1]);
+            mMax[i] = Math.max(mMax[2 * i], mMax[2 * i + 1]);
+        }
+
+        mDirty = false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs independent tasks on an Executor and waits for them, used by the parallel
+ * computations of the chart data.
+ */
+public final class ParallelTasks {
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Runs all given tasks and returns when all of them are done. The first task runs on the
+     * calling thread, the others on the executor (or on the calling thread, if the executor
+     * rejects them). If a task fails, the first failure is rethrown after all tasks are done.
+     * Do not call this from a thread of a bounded executor that runs the tasks, it could wait
+     * for itself.
+     *
+     * @param executor
+     * @param tasks
+     */
+    public static void runAll(Executor executor, List<Runnable> tasks) {
+
+        if (tasks.isEmpty())
+            return;
+
+        final CountDownLatch done = new CountDownLatch(tasks.size());
+        final Throwable[] failure = new Throwable[1];
+
+        // the first task runs on the calling thread, after the others are started
+        for (int i = 1; i < tasks.size(); i++) {
+
+            final Runnable task = tasks.get(i);
+
+            Runnable wrapper = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        task.run();
+                    } catch (Throwable t) {
+                        synchronized (failure) {
+                            if (failure[0] == null)
+                                failure[0] = t;
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            };
+
+            try {
+                executor.execute(wrapper);
+            } catch (RejectedExecutionException e) {
+                wrapper.run();
+            }
+        }
+
+        final Runnable first = tasks.get(0);
+
+        try {
+            first.run();
+        } catch (Throwable t) {
+            synchronized (failure) {
+                if (failure[0] == null)
+                    failure[0] = t;
+            }
+        } finally {
+            done.countDown();
+        }
+
+        boolean interrupted = false;
+
+        while (true) {
+            try {
+                done.await();
+                break;
+            } catch (InterruptedException e) {
+                // the results are needed, keep waiting and restore the flag afterwards
+                interrupted = true;
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        final Throwable t;
+
+        synchronized (failure) {
+            t = failure[0];
+        }
+
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+
+        if (t instanceof Error)
+            throw (Error) t;
+
+        if (t != null)
+            throw new RuntimeException(t);
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Runs preparations on a worker Executor and delivers the result of the latest one through
+ * a result Executor, e.g. one that posts to the UI thread. Starting a new preparation or
+ * cancelling supersedes the pending one, its result is never delivered. The methods of this
+ * class must be called on the thread the result Executor delivers on.
+ *
+ * @param <T> the type of the prepared result
+ */
+public class PreparationRunner<T> {
+
+    /**
+     * Receives the result of the latest preparation.
+     *
+     * @param <T>
+     */
+    public interface Callback<T> {
+
+        /**
+         * Called with the result of a preparation that has not been superseded.
+         *
+         * @param result
+         */
+        void onPrepared(T result);
+
+        /**
+         * Called if a preparation that has not been superseded threw.
+         *
+         * @param error
+         */
+        void onFailed(Throwable error);
+    }
+
+    private final Executor mResultExecutor;
+
+    private final Callback<T> mCallback;
+
+    /** the preparation whose result is delivered next, null if there is none */
+    private PreparationTask mPending;
+
+    /**
+     * @param resultExecutor the Executor the results are delivered through
+     * @param callback
+     */
+    public PreparationRunner(Executor resultExecutor, Callback<T> callback) {
+        this.mResultExecutor = resultExecutor;
+        this.mCallback = callback;
+    }
+
+    /**
+     * Runs the given preparation on the given Executor, superseding the pending one.
+     *
+     * @param preparation
+     * @param executor
+     */
+    public void start(Callable<T> preparation, Executor executor) {
+
+        cancel();
+
+        mPending = new PreparationTask(preparation);
+        executor.execute(mPending);
+    }
+
+    /**
+     * Cancels the pending preparation, if any. Its result is not delivered, even if it is
+     * already done.
+     */
+    public void cancel() {
+
+        if (mPending != null) {
+            mPending.cancel(false);
+            mPending = null;
+        }
+    }
+
+    /**
+     * Returns true if the result of a preparation has not been delivered yet.
+     *
+     * @return
+     */
+    public boolean isPending() {
+        return mPending != null;
+    }
+
+    private class PreparationTask extends FutureTask<T> {
+
+        PreparationTask(Callable<T> preparation) {
+            super(preparation);
+        }
+
+        @Override
+        protected void done() {
+
+            if (isCancelled())
+                return;
+
+            mResultExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+
+                    // superseded or cancelled after it was done
+                    if (mPending != PreparationTask.this)
+                        return;
+
+                    mPending = null;
+
+                    T result;
+
+                    try {
+                        result = get();
+                    } catch (ExecutionException e) {
+                        mCallback.onFailed(e.getCause());
+                        return;
+                    } catch (InterruptedException e) {
+                        mCallback.onFailed(e);
+                        return;
+                    }
+
+                    mCallback.onPrepared(result);
+                }
+            });
+        }
+    }
+}
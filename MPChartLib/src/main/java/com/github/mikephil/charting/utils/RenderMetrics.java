@@ -0,0 +1,244 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Timings and draw counts of a single frame of a chart, reported to a ChartRenderMetrics
+ * listener. The chart measures the duration of its drawing phases, the renderers count the
+ * visible entries and the lines and rectangles they draw per DataSet. The object is reused
+ * from frame to frame, recording does not allocate once the arrays fit the number of DataSets.
+ */
+public class RenderMetrics {
+
+    /**
+     * The phases of drawing a frame that are timed.
+     */
+    public enum Phase {
+        AUTO_SCALE,
+        COMPUTE_AXIS,
+        DRAW_DATA,
+        DRAW_HIGHLIGHTED,
+        DRAW_VALUES,
+        RENDER_AXIS_LABELS,
+        RENDER_LEGEND,
+        DRAW_MARKERS
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    /**
+     * the number of frames recorded so far
+     */
+    private long mFrameCount = 0;
+
+    private long mFrameStart;
+    private long mFrameNanos;
+
+    private final long[] mPhaseNanos = new long[PHASES.length];
+
+    private Phase mPhase;
+    private long mPhaseStart;
+
+    /**
+     * the DataSets of the frame, the per DataSet counts are stored at the same index
+     */
+    private IDataSet[] mDataSets = new IDataSet[0];
+    private int mDataSetCount = 0;
+
+    private int[] mVisibleEntryCounts = new int[0];
+    private int[] mLineCounts = new int[0];
+    private int[] mRectCounts = new int[0];
+
+    /**
+     * Resets all values and starts the timing of a new frame.
+     *
+     * @param dataSets the DataSets that are drawn in the frame
+     */
+    public void beginFrame(List<? extends IDataSet> dataSets) {
+
+        mDataSetCount = dataSets == null ? 0 : dataSets.size();
+
+        if (mDataSets.length < mDataSetCount) {
+            mDataSets = new IDataSet[mDataSetCount];
+            mVisibleEntryCounts = new int[mDataSetCount];
+            mLineCounts = new int[mDataSetCount];
+            mRectCounts = new int[mDataSetCount];
+        }
+
+        for (int i = 0; i < mDataSetCount; i++) {
+            mDataSets[i] = dataSets.get(i);
+        }
+
+        Arrays.fill(mDataSets, mDataSetCount, mDataSets.length, null);
+        Arrays.fill(mVisibleEntryCounts, 0);
+        Arrays.fill(mLineCounts, 0);
+        Arrays.fill(mRectCounts, 0);
+        Arrays.fill(mPhaseNanos, 0);
+
+        mPhase = null;
+        mFrameNanos = 0;
+        mFrameStart = System.nanoTime();
+    }
+
+    /**
+     * Stops the timing of the frame.
+     */
+    public void endFrame() {
+        mFrameNanos = System.nanoTime() - mFrameStart;
+        mFrameCount++;
+    }
+
+    /**
+     * Starts timing the given phase. Only one phase is timed at a time.
+     *
+     * @param phase
+     */
+    public void beginPhase(Phase phase) {
+        mPhase = phase;
+        mPhaseStart = System.nanoTime();
+    }
+
+    /**
+     * Stops timing the current phase and adds the elapsed time to it.
+     */
+    public void endPhase() {
+
+        if (mPhase == null)
+            return;
+
+        mPhaseNanos[mPhase.ordinal()] += System.nanoTime() - mPhaseStart;
+        mPhase = null;
+    }
+
+    /**
+     * Adds the given number of entries within the visible range of the given DataSet.
+     *
+     * @param set
+     * @param count
+     */
+    public void addVisibleEntries(IDataSet set, int count) {
+
+        final int index = indexOf(set);
+
+        if (index >= 0)
+            mVisibleEntryCounts[index] += count;
+    }
+
+    /**
+     * Adds the given number of line segments drawn for the given DataSet.
+     *
+     * @param set
+     * @param count
+     */
+    public void addLines(IDataSet set, int count) {
+
+        final int index = indexOf(set);
+
+        if (index >= 0)
+            mLineCounts[index] += count;
+    }
+
+    /**
+     * Adds the given number of rectangles drawn for the given DataSet.
+     *
+     * @param set
+     * @param count
+     */
+    public void addRects(IDataSet set, int count) {
+
+        final int index = indexOf(set);
+
+        if (index >= 0)
+            mRectCounts[index] += count;
+    }
+
+    private int indexOf(IDataSet set) {
+
+        for (int i = 0; i < mDataSetCount; i++) {
+            if (mDataSets[i] == set)
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of frames recorded so far, including the current one.
+     *
+     * @return
+     */
+    public long getFrameCount() {
+        return mFrameCount;
+    }
+
+    /**
+     * Returns the duration of the whole frame in nanoseconds.
+     *
+     * @return
+     */
+    public long getFrameNanos() {
+        return mFrameNanos;
+    }
+
+    /**
+     * Returns the time spent in the given phase in nanoseconds, 0 if the phase has been skipped.
+     *
+     * @param phase
+     * @return
+     */
+    public long getPhaseNanos(Phase phase) {
+        return mPhaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the number of DataSets of the frame.
+     *
+     * @return
+     */
+    public int getDataSetCount() {
+        return mDataSetCount;
+    }
+
+    /**
+     * Returns the DataSet at the given index, the index is the one used for the counts.
+     *
+     * @param index
+     * @return
+     */
+    public IDataSet getDataSet(int index) {
+        return mDataSets[index];
+    }
+
+    /**
+     * Returns the number of entries of the DataSet at the given index that were in the visible range.
+     *
+     * @param index
+     * @return
+     */
+    public int getVisibleEntryCount(int index) {
+        return mVisibleEntryCounts[index];
+    }
+
+    /**
+     * Returns the number of line segments drawn for the DataSet at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public int getLineCount(int index) {
+        return mLineCounts[index];
+    }
+
+    /**
+     * Returns the number of rectangles drawn for the DataSet at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public int getRectCount(int index) {
+        return mRectCounts[index];
+    }
+}
@@ -0,0 +1,419 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
+import com.github.mikephil.charting.data.StreamingLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Streaming parser for delimited text files (e.g. "y#x" or CSV). The input is read in chunks
+ * into a char buffer and the numbers are parsed straight from that buffer, without creating
+ * a String per line or value. The parsed values are handed to a ValueSink in batches, so
+ * files of any size can be loaded with constant memory overhead (apart from the sink).
+ *
+ * Lines that can not be parsed (e.g. a header line) are skipped and counted. Configure the
+ * parser before use, an instance is not thread safe but can be reused.
+ */
+public class TextDataParser {
+
+    /**
+     * Receives the parsed values in batches.
+     */
+    public interface ValueSink {
+
+        /**
+         * Called with the next count values. The arrays are reused for the next batch.
+         *
+         * @param xValues
+         * @param yValues
+         * @param count
+         */
+        void addValues(float[] xValues, float[] yValues, int count);
+    }
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private char mDelimiter = ',';
+
+    /**
+     * the column of the x-value, -1 to use the line number (of the parsed lines)
+     */
+    private int mXColumn = 0;
+
+    private int mYColumn = 1;
+
+    private char[] mBuffer = new char[8192];
+
+    private float[] mXBatch = new float[1024];
+    private float[] mYBatch = new float[1024];
+    private int mBatchCount;
+
+    private int mValueCount;
+    private int mSkippedLines;
+
+    /**
+     * set if the last parseFloat(...) call did not find a valid number
+     */
+    private boolean mInvalid;
+
+    /**
+     * Sets the character that separates the columns. Default: ','
+     *
+     * @param delimiter
+     * @return this parser
+     */
+    public TextDataParser setDelimiter(char delimiter) {
+        mDelimiter = delimiter;
+        return this;
+    }
+
+    /**
+     * Sets the columns (zero based) of the x- and y-values. Use -1 as the x-column to number
+     * the values instead. Default: 0, 1
+     *
+     * @param xColumn
+     * @param yColumn
+     * @return this parser
+     */
+    public TextDataParser setColumns(int xColumn, int yColumn) {
+
+        if (yColumn < 0)
+            throw new IllegalArgumentException("The y-column needs to be at least 0.");
+
+        mXColumn = xColumn;
+        mYColumn = yColumn;
+        return this;
+    }
+
+    /**
+     * Sets the number of values handed to the sink at once. Default: 1024
+     *
+     * @param batchSize
+     * @return this parser
+     */
+    public TextDataParser setBatchSize(int batchSize) {
+        mXBatch = new float[Math.max(batchSize, 1)];
+        mYBatch = new float[Math.max(batchSize, 1)];
+        return this;
+    }
+
+    /**
+     * Returns the number of values found by the last parse(...) call.
+     *
+     * @return
+     */
+    public int getValueCount() {
+        return mValueCount;
+    }
+
+    /**
+     * Returns the number of lines the last parse(...) call could not parse.
+     *
+     * @return
+     */
+    public int getSkippedLines() {
+        return mSkippedLines;
+    }
+
+    /**
+     * Parses the given UTF-8 stream, see parse(Reader, ValueSink). Does not close the stream.
+     *
+     * @param in
+     * @param sink
+     * @throws IOException
+     */
+    public void parse(InputStream in, ValueSink sink) throws IOException {
+        parse(new InputStreamReader(in, "UTF-8"), sink);
+    }
+
+    /**
+     * Parses all lines of the given reader and hands the values to the sink. Does not close
+     * the reader.
+     *
+     * @param reader
+     * @param sink
+     * @throws IOException
+     */
+    public void parse(Reader reader, ValueSink sink) throws IOException {
+
+        mBatchCount = 0;
+        mValueCount = 0;
+        mSkippedLines = 0;
+
+        // number of chars in the buffer, the ones before scanFrom contain no line break
+        int length = 0;
+        int scanFrom = 0;
+        boolean eof = false;
+
+        while (!eof) {
+
+            // a line longer than the buffer
+            if (length == mBuffer.length)
+                mBuffer = Arrays.copyOf(mBuffer, mBuffer.length * 2);
+
+            final int read = reader.read(mBuffer, length, mBuffer.length - length);
+
+            if (read < 0)
+                eof = true;
+            else
+                length += read;
+
+            int lineStart = 0;
+
+            for (int i = scanFrom; i < length; i++) {
+
+                if (mBuffer[i] == '\n') {
+                    parseLine(lineStart, i, sink);
+                    lineStart = i + 1;
+                }
+            }
+
+            if (eof && lineStart < length) {
+                parseLine(lineStart, length, sink);
+                lineStart = length;
+            }
+
+            // keep the incomplete line
+            length -= lineStart;
+            System.arraycopy(mBuffer, lineStart, mBuffer, 0, length);
+            scanFrom = length;
+        }
+
+        if (mBatchCount > 0)
+            sink.addValues(mXBatch, mYBatch, mBatchCount);
+
+        mBatchCount = 0;
+    }
+
+    /**
+     * Parses the line in the buffer range [from, to).
+     */
+    private void parseLine(int from, int to, ValueSink sink) {
+
+        if (to > from && mBuffer[to - 1] == '\r')
+            to--;
+
+        if (to == from)
+            return;
+
+        float x = mValueCount;
+        float y = Float.NaN;
+        boolean hasX = mXColumn < 0;
+        boolean hasY = false;
+
+        int column = 0;
+        int fieldStart = from;
+
+        for (int i = from; i <= to; i++) {
+
+            if (i < to && mBuffer[i] != mDelimiter)
+                continue;
+
+            if (column == mXColumn) {
+                x = parseFloat(fieldStart, i);
+                hasX = !mInvalid;
+            }
+
+            if (column == mYColumn) {
+                y = parseFloat(fieldStart, i);
+                hasY = !mInvalid;
+            }
+
+            column++;
+            fieldStart = i + 1;
+        }
+
+        if (!hasX || !hasY) {
+            mSkippedLines++;
+            return;
+        }
+
+        mXBatch[mBatchCount] = x;
+        mYBatch[mBatchCount] = y;
+        mBatchCount++;
+        mValueCount++;
+
+        if (mBatchCount == mXBatch.length) {
+            sink.addValues(mXBatch, mYBatch, mBatchCount);
+            mBatchCount = 0;
+        }
+    }
+
+    /**
+     * Parses the number in the buffer range [from, to), surrounding whitespace is ignored.
+     * Decimal numbers with up to 18 significant digits and small exponents are computed
+     * directly, everything else falls back to Float.parseFloat(...). Sets mInvalid if the
+     * range does not contain a number.
+     */
+    private float parseFloat(int from, int to) {
+
+        mInvalid = false;
+
+        while (from < to && mBuffer[from] <= ' ')
+            from++;
+
+        while (to > from && mBuffer[to - 1] <= ' ')
+            to--;
+
+        if (from == to) {
+            mInvalid = true;
+            return Float.NaN;
+        }
+
+        int i = from;
+        boolean negative = false;
+
+        if (mBuffer[i] == '-' || mBuffer[i] == '+') {
+            negative = mBuffer[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+
+        for (; i < to && mBuffer[i] >= '0' && mBuffer[i] <= '9'; i++) {
+            anyDigit = true;
+
+            if (mantissa == 0 && mBuffer[i] == '0')
+                continue;
+
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (mBuffer[i] - '0');
+                digits++;
+            } else {
+                exponent++;
+            }
+        }
+
+        if (i < to && mBuffer[i] == '.') {
+
+            for (i++; i < to && mBuffer[i] >= '0' && mBuffer[i] <= '9'; i++) {
+                anyDigit = true;
+
+                if (mantissa == 0 && mBuffer[i] == '0') {
+                    exponent--;
+                    continue;
+                }
+
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (mBuffer[i] - '0');
+                    digits++;
+                    exponent--;
+                }
+            }
+        }
+
+        if (anyDigit && i < to && (mBuffer[i] == 'e' || mBuffer[i] == 'E')) {
+
+            int j = i + 1;
+            boolean negativeExponent = false;
+
+            if (j < to && (mBuffer[j] == '-' || mBuffer[j] == '+')) {
+                negativeExponent = mBuffer[j] == '-';
+                j++;
+            }
+
+            int e = 0;
+            final int exponentStart = j;
+
+            for (; j < to && mBuffer[j] >= '0' && mBuffer[j] <= '9' && e < 10000; j++) {
+                e = e * 10 + (mBuffer[j] - '0');
+            }
+
+            if (j > exponentStart) {
+                exponent += negativeExponent ? -e : e;
+                i = j;
+            }
+        }
+
+        // something else, e.g. "NaN", "Infinity" or text
+        if (!anyDigit || i != to)
+            return parseFloatSlow(from, to);
+
+        if (mantissa == 0)
+            return negative ? -0f : 0f;
+
+        // both operands are exact in double, so the quotient / product is correctly rounded
+        if (mantissa < (1L << 53) && exponent >= -22 && exponent <= 22) {
+
+            double value = exponent < 0
+                    ? mantissa / POWERS_OF_TEN[-exponent]
+                    : mantissa * POWERS_OF_TEN[exponent];
+
+            return (float) (negative ? -value : value);
+        }
+
+        return parseFloatSlow(from, to);
+    }
+
+    private float parseFloatSlow(int from, int to) {
+
+        try {
+            return Float.parseFloat(new String(mBuffer, from, to - from));
+        } catch (NumberFormatException e) {
+            mInvalid = true;
+            return Float.NaN;
+        }
+    }
+
+    /**
+     * Returns a sink that appends the values to the given DataSet.
+     *
+     * @param set
+     * @return
+     */
+    public static ValueSink into(final PrimitiveLineDataSet set) {
+        return new ValueSink() {
+            @Override
+            public void addValues(float[] xValues, float[] yValues, int count) {
+                set.addValues(xValues, yValues, 0, count);
+            }
+        };
+    }
+
+    /**
+     * Returns a sink that appends the values to the given DataSet, the DataSet keeps only
+     * the newest values that fit into its capacity.
+     *
+     * @param set
+     * @return
+     */
+    public static ValueSink into(final StreamingLineDataSet set) {
+        return new ValueSink() {
+            @Override
+            public void addValues(float[] xValues, float[] yValues, int count) {
+                for (int i = 0; i < count; i++) {
+                    set.append(xValues[i], yValues[i]);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a sink that adds an Entry per value to the given DataSet.
+     *
+     * @param set
+     * @return
+     */
+    public static ValueSink into(final IDataSet<Entry> set) {
+        return new ValueSink() {
+            @Override
+            public void addValues(float[] xValues, float[] yValues, int count) {
+                for (int i = 0; i < count; i++) {
+                    set.addEntry(new Entry(xValues[i], yValues[i]));
+                }
+            }
+        };
+    }
+}
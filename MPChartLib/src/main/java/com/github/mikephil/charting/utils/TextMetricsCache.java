@@ -0,0 +1,191 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache for the measurements of texts, keyed by the typeface, the text
+ * size and the text itself. Axis labels, legend labels and values are mostly the same strings
+ * from frame to frame, so measuring them with the Paint (which is expensive) only once
+ * avoids most of the work when the chart is zoomed or dragged.
+ *
+ * Other attributes of the Paint (e.g. the text scale) are not part of the key. A lookup of
+ * a cached text does not allocate. Not thread safe, like the other measuring methods of Utils.
+ */
+public class TextMetricsCache {
+
+    /**
+     * The measurements of a text. The values are measured lazily, the first time they are
+     * needed.
+     */
+    public static final class Metrics {
+
+        private float mWidth = Float.NaN;
+
+        private boolean mHasBounds = false;
+        private int mBoundsLeft;
+        private int mBoundsWidth;
+        private int mBoundsHeight;
+
+        private Metrics() {
+        }
+    }
+
+    private static final class Key {
+
+        private Typeface mTypeface;
+        private float mTextSize;
+        private String mText;
+        private int mHash;
+
+        void set(Typeface typeface, float textSize, String text) {
+            mTypeface = typeface;
+            mTextSize = textSize;
+            mText = text;
+            mHash = (typeface == null ? 0 : typeface.hashCode()) * 961
+                    + Float.floatToIntBits(textSize) * 31
+                    + text.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key other = (Key) o;
+
+            return mHash == other.mHash
+                    && Float.floatToIntBits(mTextSize) == Float.floatToIntBits(other.mTextSize)
+                    && (mTypeface == null ? other.mTypeface == null : mTypeface.equals(other.mTypeface))
+                    && mText.equals(other.mText);
+        }
+    }
+
+    private final LinkedHashMap<Key, Metrics> mCache;
+
+    /**
+     * reused for lookups, so that a hit does not allocate
+     */
+    private final Key mLookupKey = new Key();
+
+    private final Rect mBoundsBuffer = new Rect();
+
+    private boolean mEnabled = true;
+
+    /**
+     * @param maxSize the maximum number of cached texts
+     */
+    public TextMetricsCache(final int maxSize) {
+        mCache = new LinkedHashMap<Key, Metrics>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Metrics> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Enables / disables the cache, if disabled every call measures the text again.
+     * Default: true
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+
+        if (!enabled)
+            clear();
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    /**
+     * Returns the number of cached texts.
+     *
+     * @return
+     */
+    public int size() {
+        return mCache.size();
+    }
+
+    public void clear() {
+        mCache.clear();
+    }
+
+    /**
+     * Returns the width of the given text, see Paint.measureText(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public float getWidth(Paint paint, String text) {
+
+        Metrics metrics = getMetrics(paint, text);
+
+        if (Float.isNaN(metrics.mWidth))
+            metrics.mWidth = paint.measureText(text);
+
+        return metrics.mWidth;
+    }
+
+    /**
+     * Returns the bounds of the given text, see Paint.getTextBounds(...). Only the left
+     * edge and the size of the bounds are set, the bounds are moved vertically to 0.
+     *
+     * @param paint
+     * @param text
+     * @param outBounds
+     */
+    public void getBounds(Paint paint, String text, Rect outBounds) {
+
+        Metrics metrics = getMetrics(paint, text);
+
+        if (!metrics.mHasBounds) {
+
+            mBoundsBuffer.set(0, 0, 0, 0);
+            paint.getTextBounds(text, 0, text.length(), mBoundsBuffer);
+
+            metrics.mBoundsLeft = mBoundsBuffer.left;
+            metrics.mBoundsWidth = mBoundsBuffer.width();
+            metrics.mBoundsHeight = mBoundsBuffer.height();
+            metrics.mHasBounds = true;
+        }
+
+        outBounds.set(metrics.mBoundsLeft, 0,
+                metrics.mBoundsLeft + metrics.mBoundsWidth, metrics.mBoundsHeight);
+    }
+
+    private Metrics getMetrics(Paint paint, String text) {
+
+        if (!mEnabled)
+            return new Metrics();
+
+        mLookupKey.set(paint.getTypeface(), paint.getTextSize(), text);
+
+        Metrics metrics = mCache.get(mLookupKey);
+
+        if (metrics == null) {
+
+            Key key = new Key();
+            key.set(mLookupKey.mTypeface, mLookupKey.mTextSize, text);
+
+            metrics = new Metrics();
+            mCache.put(key, metrics);
+        }
+
+        return metrics;
+    }
+}
@@ -181,15 +181,11 @@ public class Transformer {
 
         for (int j = 0; j < count; j += 2) {
 
-            Entry e = data.getEntryForIndex(j / 2 + min);
+            final int index = j / 2 + min;
 
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
+            // missing entries are read as 0, like the Entry based transformation did
+            valuePoints[j] = data.getX(index);
+            valuePoints[j + 1] = data.getY(index) * phaseY;
         }
 
         getValueToPixelMatrix().mapPoints(valuePoints);
@@ -272,6 +268,20 @@ public class Transformer {
         mMatrixOffset.mapPoints(pts);
     }
 
+    /**
+     * Transforms the first pointCount points (x/y pairs) of the given array from values into
+     * pixels, the rest of the array is left untouched.
+     *
+     * @param pts
+     * @param pointCount
+     */
+    public void pointValuesToPixel(float[] pts, int pointCount) {
+
+        mMatrixValueToPx.mapPoints(pts, 0, pts, 0, pointCount);
+        mViewPortHandler.getMatrixTouch().mapPoints(pts, 0, pts, 0, pointCount);
+        mMatrixOffset.mapPoints(pts, 0, pts, 0, pointCount);
+    }
+
     /**
      * Transform a rectangle with all matrices.
      *
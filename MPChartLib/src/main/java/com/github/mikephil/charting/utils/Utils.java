@@ -142,7 +142,19 @@ public abstract class Utils {
      * @return
      */
     public static int calcTextWidth(Paint paint, String demoText) {
-        return (int) paint.measureText(demoText);
+        return (int) mTextMetricsCache.getWidth(paint, demoText);
+    }
+
+    private static TextMetricsCache mTextMetricsCache = new TextMetricsCache(512);
+
+    /**
+     * Returns the cache of the text measurements done by calcTextWidth(...),
+     * calcTextHeight(...) and calcTextSize(...).
+     *
+     * @return
+     */
+    public static TextMetricsCache getTextMetricsCache() {
+        return mTextMetricsCache;
     }
 
     private static Rect mCalcTextHeightRect = new Rect();
@@ -157,8 +169,7 @@ public abstract class Utils {
     public static int calcTextHeight(Paint paint, String demoText) {
 
         Rect r = mCalcTextHeightRect;
-        r.set(0,0,0,0);
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
+        mTextMetricsCache.getBounds(paint, demoText, r);
         return r.height();
     }
 
@@ -210,8 +221,7 @@ public abstract class Utils {
     public static void calcTextSize(Paint paint, String demoText, FSize outputFSize) {
 
         Rect r = mCalcTextSizeRect;
-        r.set(0,0,0,0);
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
+        mTextMetricsCache.getBounds(paint, demoText, r);
         outputFSize.width = r.width();
         outputFSize.height = r.height();
 
@@ -557,7 +567,7 @@ public abstract class Utils {
         float drawOffsetY = 0.f;
 
         final float lineHeight = paint.getFontMetrics(mFontMetricsBuffer);
-        paint.getTextBounds(text, 0, text.length(), mDrawTextRectBuffer);
+        mTextMetricsCache.getBounds(paint, text, mDrawTextRectBuffer);
 
         // Android sometimes has pre-padding
         drawOffsetX -= mDrawTextRectBuffer.left;
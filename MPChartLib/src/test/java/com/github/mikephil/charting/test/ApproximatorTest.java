@@ -2,6 +2,7 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
 
 import org.junit.Test;
 
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +42,60 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test
+    public void testApproximationN() {
+
+        float[] points = new float[]{
+                10, 20,
+                20, 30,
+                25, 25,
+                30, 28,
+                31, 31,
+                33, 33,
+                40, 40,
+                44, 40,
+                48, 23,
+                50, 20,
+                55, 20,
+                60, 25};
+
+        ApproximatorN a = new ApproximatorN();
+
+        float[] reduced = a.reduceWithDouglasPeucker(points, 5);
+
+        assertEquals(10, reduced.length);
+
+        // first and last point always stay
+        assertEquals(10, reduced[0], 0.01f);
+        assertEquals(20, reduced[1], 0.01f);
+        assertEquals(60, reduced[8], 0.01f);
+        assertEquals(25, reduced[9], 0.01f);
+
+        // the peak is the most significant point
+        boolean containsPeak = false;
+        for (int i = 0; i < reduced.length; i += 2) {
+            if (reduced[i] == 40 || reduced[i] == 44)
+                containsPeak = true;
+        }
+        assertTrue(containsPeak);
+
+        // nothing to reduce
+        assertEquals(24, a.reduceWithDouglasPeucker(points, 12).length);
+
+        // the result of the point budget reduction is sorted by x
+        float[] large = new float[2000];
+        for (int i = 0; i < large.length; i += 2) {
+            large[i] = i;
+            large[i + 1] = (float) Math.sin(i / 20.0);
+        }
+
+        reduced = a.reduceWithDouglasPeucker(large, 100);
+
+        assertEquals(200, reduced.length);
+
+        for (int i = 2; i < reduced.length; i += 2) {
+            assertTrue(reduced[i] > reduced[i - 2]);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class BarBufferTest {
+
+    @Test
+    public void testFeedVisibleRange() {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>();
+
+        // bars at x = 0, 2, 4, ..., 198
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BarEntry(i * 2f, i + 1f));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+
+        // the viewport from 41 to 45, the bars at 40 and 46 reach into it with a width of 3,
+        // the range is rounded outwards by one bar on each side
+        int first = BarBuffer.getFirstVisibleIndex(set, 41f, 3f);
+        int last = BarBuffer.getLastVisibleIndex(set, 45f, 3f);
+
+        assertEquals(19, first);
+        assertEquals(24, last);
+
+        BarBuffer buffer = new BarBuffer(set.getEntryCount() * 4, 1, false);
+        buffer.setBarWidth(3f);
+        buffer.feed(set, first, last);
+
+        // only the bars of the range are fed, to the start of the buffer
+        assertEquals(19, buffer.getFeedStart());
+        assertEquals(24, buffer.getFeedLength());
+
+        // left, top, right, bottom of the bar at 38
+        assertEquals(36.5f, buffer.buffer[0], 0.01f);
+        assertEquals(20f, buffer.buffer[1], 0.01f);
+        assertEquals(39.5f, buffer.buffer[2], 0.01f);
+        assertEquals(0f, buffer.buffer[3], 0.01f);
+
+        // the bar at 48
+        assertEquals(46.5f, buffer.buffer[20], 0.01f);
+        assertEquals(25f, buffer.buffer[21], 0.01f);
+
+        // the range is limited by the x-phase
+        buffer.setPhases(0.2f, 1f);
+        buffer.feed(set, first, last);
+        assertEquals(4, buffer.getFeedLength());
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
+import com.github.mikephil.charting.utils.BinaryDataFile;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+public class BinaryDataFileTest {
+
+    @Test
+    public void testLineDataSet() throws IOException {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 50000; i++) {
+            entries.add(new Entry(i * 0.5f, (float) Math.sin(i / 100.0)));
+        }
+
+        File file = File.createTempFile("chart", ".bin");
+        file.deleteOnExit();
+
+        BinaryDataFile.write(new LineDataSet(entries, ""), file);
+
+        assertEquals(BinaryDataFile.HEADER_SIZE + 50000 * 8, file.length());
+
+        BinaryDataFile dataFile = new BinaryDataFile(file);
+        assertEquals(50000, dataFile.getEntryCount());
+        assertEquals(0, dataFile.getStackSize());
+
+        PrimitiveLineDataSet set = dataFile.toLineDataSet("Loaded");
+        assertEquals("Loaded", set.getLabel());
+        assertEquals(50000, set.getEntryCount());
+
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(entries.get(i).getX(), set.getX(i), 0f);
+            assertEquals(entries.get(i).getY(), set.getY(i), 0f);
+        }
+
+        assertEquals(0f, set.getXMin(), 0f);
+        assertEquals(24999.5f, set.getXMax(), 0f);
+    }
+
+    @Test
+    public void testStackedBarDataSet() throws IOException {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>();
+        entries.add(new BarEntry(0, new float[]{1, 2, 3}));
+        entries.add(new BarEntry(1, new float[]{-4, 5}));
+        entries.add(new BarEntry(2, 6));
+
+        File file = File.createTempFile("chart", ".bin");
+        file.deleteOnExit();
+
+        BinaryDataFile.write(new BarDataSet(entries, ""), file);
+
+        BinaryDataFile dataFile = new BinaryDataFile(file);
+        assertEquals(3, dataFile.getStackSize());
+        assertEquals(1f, dataFile.getY(1), 0f);
+        assertEquals(Float.NaN, dataFile.getStackValue(1, 2), 0f);
+
+        List<BarEntry> loaded = dataFile.toBarEntries();
+        assertEquals(3, loaded.size());
+
+        for (int i = 0; i < loaded.size(); i++) {
+
+            BarEntry expected = entries.get(i);
+            BarEntry actual = loaded.get(i);
+
+            assertEquals(expected.getX(), actual.getX(), 0f);
+            assertEquals(expected.getY(), actual.getY(), 0f);
+
+            if (expected.getYVals() == null) {
+                // single values are stored as the first stacked value
+                assertEquals(1, actual.getYVals().length);
+                continue;
+            }
+
+            assertEquals(expected.getYVals().length, actual.getYVals().length);
+
+            for (int j = 0; j < expected.getYVals().length; j++) {
+                assertEquals(expected.getYVals()[j], actual.getYVals()[j], 0f);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidFile() throws IOException {
+
+        File file = File.createTempFile("chart", ".txt");
+        file.deleteOnExit();
+
+        FileOutputStream stream = new FileOutputStream(file);
+        stream.write("0.5#1.0\n".getBytes("UTF-8"));
+        stream.close();
+
+        try {
+            new BinaryDataFile(file);
+            fail("Text files are not valid.");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
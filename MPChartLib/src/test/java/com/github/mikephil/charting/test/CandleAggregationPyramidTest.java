@@ -0,0 +1,137 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.CandleAggregationPyramid;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class CandleAggregationPyramidTest {
+
+    @Test
+    public void testMerge() {
+
+        List<CandleEntry> entries = new ArrayList<>();
+        entries.add(new CandleEntry(0, 12, 8, 11, 9));
+        entries.add(new CandleEntry(1, 15, 9, 9, 14));
+        entries.add(new CandleEntry(2, 14, 5, 14, 6));
+        entries.add(new CandleEntry(3, 8, 6, 6, 7));
+        entries.add(new CandleEntry(4, 9, 7, 7, 8));
+
+        CandleAggregationPyramid pyramid = new CandleAggregationPyramid();
+        pyramid.build(entries);
+
+        assertEquals(4, pyramid.getLevelCount());
+        assertEquals(3, pyramid.getLevel(1).size());
+        assertEquals(2, pyramid.getLevel(2).size());
+        assertEquals(1, pyramid.getLevel(3).size());
+
+        CandleEntry first = pyramid.getLevel(2).get(0);
+        assertEquals(1.5f, first.getX());
+        assertEquals(11f, first.getOpen());
+        assertEquals(7f, first.getClose());
+        assertEquals(15f, first.getHigh());
+        assertEquals(5f, first.getLow());
+
+        // a single remaining candle is taken over
+        CandleEntry last = pyramid.getLevel(1).get(2);
+        assertEquals(4f, last.getX());
+        assertEquals(7f, last.getOpen());
+        assertEquals(8f, last.getClose());
+
+        CandleEntry all = pyramid.getLevel(3).get(0);
+        assertEquals(11f, all.getOpen());
+        assertEquals(8f, all.getClose());
+        assertEquals(15f, all.getHigh());
+        assertEquals(5f, all.getLow());
+
+        assertEquals(0, pyramid.getIndex(1, 1f, false));
+        assertEquals(1, pyramid.getIndex(1, 1f, true));
+        assertEquals(1, pyramid.getIndex(1, 2.5f, true));
+        assertEquals(2, pyramid.getIndex(1, 10f, true));
+        assertEquals(0, pyramid.getIndex(1, -3f, false));
+    }
+
+    @Test
+    public void testAppendMatchesBuild() {
+
+        Random random = new Random(11);
+
+        List<CandleEntry> entries = new ArrayList<>();
+        CandleAggregationPyramid appended = new CandleAggregationPyramid();
+
+        for (int i = 0; i < 1000; i++) {
+
+            float open = random.nextFloat() * 100f;
+            float close = random.nextFloat() * 100f;
+
+            entries.add(new CandleEntry(i, Math.max(open, close) + random.nextFloat(),
+                    Math.min(open, close) - random.nextFloat(), open, close));
+
+            appended.append(entries);
+
+            // change the last candle in place, like a live candle
+            CandleEntry live = entries.get(i);
+            live.setClose(live.getClose() + 1f);
+            live.setHigh(Math.max(live.getHigh(), live.getClose()));
+            appended.update(entries, i);
+        }
+
+        CandleAggregationPyramid built = new CandleAggregationPyramid();
+        built.build(entries);
+
+        assertEquals(built.getLevelCount(), appended.getLevelCount());
+
+        for (int level = 1; level < built.getLevelCount(); level++) {
+
+            List<CandleEntry> expected = built.getLevel(level);
+            List<CandleEntry> actual = appended.getLevel(level);
+
+            assertEquals(expected.size(), actual.size());
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getX(), actual.get(i).getX());
+                assertEquals(expected.get(i).getOpen(), actual.get(i).getOpen());
+                assertEquals(expected.get(i).getClose(), actual.get(i).getClose());
+                assertEquals(expected.get(i).getHigh(), actual.get(i).getHigh());
+                assertEquals(expected.get(i).getLow(), actual.get(i).getLow());
+            }
+        }
+    }
+
+    @Test
+    public void testDataSet() {
+
+        List<CandleEntry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            entries.add(new CandleEntry(i, i + 2, i, i, i + 1));
+        }
+
+        CandleDataSet set = new CandleDataSet(entries, "");
+
+        assertNull(set.getAggregationPyramid());
+
+        set.setAggregationEnabled(true);
+
+        assertEquals(4, set.getAggregationPyramid().getLevelCount());
+        assertEquals(9f, set.getAggregationPyramid().getLevel(3).get(0).getHigh());
+
+        set.addEntry(new CandleEntry(8, 20, 8, 8, 9));
+
+        assertEquals(5, set.getAggregationPyramid().getLevelCount());
+        assertEquals(20f, set.getAggregationPyramid().getLevel(4).get(0).getHigh());
+
+        set.removeFirst();
+
+        assertEquals(4, set.getAggregationPyramid().getLevelCount());
+        assertEquals(1f, set.getAggregationPyramid().getLevel(1).get(0).getOpen());
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.buffer.CandleBuffer;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class CandleBufferTest {
+
+    @Test
+    public void testGroupedCandles() {
+
+        List<CandleEntry> entries = new ArrayList<>();
+        entries.add(new CandleEntry(0, 12, 8, 11, 9)); // decreasing
+        entries.add(new CandleEntry(1, 13, 7, 9, 12)); // increasing
+        entries.add(new CandleEntry(2, 11, 9, 10, 10)); // neutral
+        entries.add(new CandleEntry(3, 14, 6, 13, 7)); // decreasing
+
+        CandleDataSet set = new CandleDataSet(entries, "");
+        set.setBarSpace(0.1f);
+
+        CandleBuffer buffer = new CandleBuffer(set.getEntryCount() * CandleBuffer.FLOATS_PER_CANDLE);
+        buffer.feed(set, 0, 3);
+
+        assertEquals(4, buffer.getCandleCount());
+        assertEquals(2, buffer.getCandleCount(CandleBuffer.DECREASING));
+        assertEquals(1, buffer.getCandleCount(CandleBuffer.INCREASING));
+        assertEquals(1, buffer.getCandleCount(CandleBuffer.NEUTRAL));
+
+        assertEquals(0, buffer.getFirstCandle(CandleBuffer.DECREASING));
+        assertEquals(2, buffer.getFirstCandle(CandleBuffer.INCREASING));
+        assertEquals(3, buffer.getFirstCandle(CandleBuffer.NEUTRAL));
+
+        // candles of the same type keep the order of the entries
+        assertEquals(0, buffer.getEntryIndex(0));
+        assertEquals(3, buffer.getEntryIndex(1));
+        assertEquals(1, buffer.getEntryIndex(2));
+        assertEquals(2, buffer.getEntryIndex(3));
+
+        // shadows of the second decreasing candle: high to open, low to close
+        int shadow = buffer.getShadowOffset(1);
+        assertEquals(3f, buffer.buffer[shadow]);
+        assertEquals(14f, buffer.buffer[shadow + 1]);
+        assertEquals(13f, buffer.buffer[shadow + 3]);
+        assertEquals(6f, buffer.buffer[shadow + 5]);
+        assertEquals(7f, buffer.buffer[shadow + 7]);
+
+        // body of the increasing candle: close on top
+        int body = buffer.getBodyOffset(2);
+        assertEquals(1f - 0.5f + 0.1f, buffer.buffer[body], 0.0001f);
+        assertEquals(12f, buffer.buffer[body + 1]);
+        assertEquals(1f + 0.5f - 0.1f, buffer.buffer[body + 2], 0.0001f);
+        assertEquals(9f, buffer.buffer[body + 3]);
+
+        assertEquals(4 * CandleBuffer.FLOATS_PER_CANDLE, buffer.getFeedLength());
+
+        // only the visible range, as bars instead of candles
+        set.setShowCandleBar(false);
+
+        buffer.setPhases(1f, 0.5f);
+        buffer.feed(set, 1, 2);
+
+        assertEquals(2, buffer.getCandleCount());
+        assertEquals(0, buffer.getCandleCount(CandleBuffer.DECREASING));
+
+        // range, open tick and close tick of the increasing candle, scaled by the y-phase
+        int bar = buffer.getBarOffset(buffer.getFirstCandle(CandleBuffer.INCREASING));
+        assertEquals(6.5f, buffer.buffer[bar + 1]);
+        assertEquals(3.5f, buffer.buffer[bar + 3]);
+        assertEquals(4.5f, buffer.buffer[bar + 5]);
+        assertEquals(6f, buffer.buffer[bar + 9]);
+    }
+
+    @Test
+    public void testAggregatedLevel() {
+
+        List<CandleEntry> entries = new ArrayList<>();
+        entries.add(new CandleEntry(0, 12, 8, 11, 9));
+        entries.add(new CandleEntry(1, 13, 7, 9, 12));
+        entries.add(new CandleEntry(2, 11, 9, 10, 10));
+        entries.add(new CandleEntry(3, 14, 6, 13, 7));
+
+        CandleDataSet set = new CandleDataSet(entries, "");
+        set.setBarSpace(0.1f);
+        set.setAggregationEnabled(true);
+
+        CandleBuffer buffer = new CandleBuffer(set.getEntryCount() * CandleBuffer.FLOATS_PER_CANDLE);
+
+        // level 1 merges two entries each: (0, 1) opens at 11 and closes at 12, (2, 3) opens
+        // at 10 and closes at 7
+        buffer.feed(set, 1, 0, 1);
+
+        assertEquals(2, buffer.getCandleCount());
+        assertEquals(1, buffer.getCandleCount(CandleBuffer.DECREASING));
+        assertEquals(1, buffer.getCandleCount(CandleBuffer.INCREASING));
+
+        // the index of the first entry each candle covers, decreasing candles first
+        assertEquals(2, buffer.getEntryIndex(0));
+        assertEquals(0, buffer.getEntryIndex(1));
+
+        // twice as wide, centered between the merged entries, spanning both
+        int body = buffer.getBodyOffset(1);
+        assertEquals(0.5f - 1f + 0.2f, buffer.buffer[body], 0.0001f);
+        assertEquals(12f, buffer.buffer[body + 1]);
+        assertEquals(0.5f + 1f - 0.2f, buffer.buffer[body + 2], 0.0001f);
+        assertEquals(11f, buffer.buffer[body + 3]);
+
+        int shadow = buffer.getShadowOffset(1);
+        assertEquals(13f, buffer.buffer[shadow + 1]);
+        assertEquals(7f, buffer.buffer[shadow + 5]);
+    }
+}
@@ -4,6 +4,7 @@ import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
 import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.data.ScatterDataSet;
 
@@ -11,6 +12,9 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
@@ -208,4 +212,77 @@ public class ChartDataTest {
         assertFalse(lineData.removeDataSet(lineSet1));
         assertFalse(lineData.removeDataSet(lineSet2));
     }
+
+    @Test
+    public void testParallelMinMax() {
+
+        Random random = new Random(11);
+
+        // one DataSet large enough to be split into chunks, and a few small ones
+        int size = 300000;
+        float[] xValues = new float[size];
+        float[] yValues = new float[size];
+
+        for (int i = 0; i < size; i++) {
+            xValues[i] = i;
+            yValues[i] = (float) random.nextGaussian() * 100f;
+        }
+
+        yValues[123456] = 1000f;
+        yValues[234567] = -1000f;
+
+        PrimitiveLineDataSet large = new PrimitiveLineDataSet(xValues, yValues, size, "");
+        large.setAxisDependency(YAxis.AxisDependency.RIGHT);
+
+        LineData data = new LineData(large);
+
+        for (int s = 0; s < 5; s++) {
+
+            List<Entry> entries = new ArrayList<Entry>();
+
+            for (int i = 0; i < 1000; i++) {
+                entries.add(new Entry(i - s * 10, random.nextFloat() * s));
+            }
+
+            data.addDataSet(new LineDataSet(entries, ""));
+        }
+
+        // shrink the large DataSet without notifying it, so that only a recalculation finds it
+        large.getYValues()[234567] = 0f;
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            data.setParallelExecutor(executor);
+            data.setParallelThreshold(1000);
+
+            // notifying the data recalculates the DataSets in parallel
+            data.notifyDataChanged();
+
+            assertEquals(-40f, data.getXMin(), 0f);
+            assertEquals(size - 1f, data.getXMax(), 0f);
+            assertEquals(1000f, data.getYMax(YAxis.AxisDependency.RIGHT), 0f);
+            assertEquals(0f, data.getYMin(YAxis.AxisDependency.LEFT), 0f);
+
+            float parallelMin = large.getYMin();
+
+            data.calcMinMaxY(100000f, 200000f);
+            assertEquals(1000f, data.getYMax(YAxis.AxisDependency.RIGHT), 0f);
+
+            // values changed in place are found by notifying the data
+            large.getYValues()[10] = 5000f;
+            data.notifyDataChanged();
+            assertEquals(5000f, data.getYMax(YAxis.AxisDependency.RIGHT), 0f);
+            large.getYValues()[10] = 0f;
+
+            // the same as sequential
+            data.setParallelExecutor(null);
+            data.calcDataSetsMinMax();
+
+            assertEquals(parallelMin, large.getYMin(), 0f);
+            assertEquals(1000f, large.getYMax(), 0f);
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -1,17 +1,31 @@
 package com.github.mikephil.charting.test;
 
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
 import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.data.StreamingLineDataSet;
+import com.github.mikephil.charting.utils.KdTree;
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
 
 /**
  * Created by philipp on 31/05/16.
@@ -235,4 +249,502 @@ public class DataSetTest {
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
     }
+
+    @Test
+    public void testPrimitiveLineDataSet() {
+
+        PrimitiveLineDataSet set = new PrimitiveLineDataSet(2, "");
+
+        set.addValue(10, 10);
+        set.addValue(15, 2);
+        set.addEntry(new Entry(21, 5));
+
+        assertEquals(3, set.getEntryCount());
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        assertEquals(15f, set.getX(1), 0.01f);
+        assertEquals(2f, set.getY(1), 0.01f);
+
+        set.addEntryOrdered(new Entry(5, 1));
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(5, set.getEntryForIndex(0).getX(), 0.01f);
+        assertEquals(1, set.getEntryForIndex(0).getY(), 0.01f);
+        assertEquals(10, set.getX(1), 0.01f);
+
+        Entry closest = set.getEntryForXValue(17, Float.NaN, DataSet.Rounding.DOWN);
+        assertEquals(15, closest.getX(), 0.01f);
+        assertEquals(2, set.getEntryIndex(closest));
+
+        set.calcMinMaxY(10, 15);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        assertTrue(set.removeEntry(new Entry(15, 2)));
+        assertFalse(set.removeEntry(new Entry(15, 2)));
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(21, set.getX(2), 0.01f);
+
+        // legacy access through the entries list
+        List<Entry> entries = set.getEntries();
+        assertEquals(3, entries.size());
+        assertEquals(21, entries.get(2).getX(), 0.01f);
+
+        assertTrue(set.removeFirst());
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(5f, set.getYMin(), 0.01f);
+
+        set.clear();
+
+        assertEquals(0, set.getEntryCount());
+        assertFalse(set.removeLast());
+    }
+
+    @Test
+    public void testYRangeIndex() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        List<Entry> indexedEntries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++) {
+            float y = (float) Math.sin(i / 5.0) * i;
+            entries.add(new Entry(i, y));
+            indexedEntries.add(new Entry(i, y));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        ScatterDataSet indexed = new ScatterDataSet(indexedEntries, "");
+        indexed.setYRangeIndexEnabled(true);
+
+        assertTrue(indexed.isYRangeIndexEnabled());
+
+        assertMinMaxYEquals(set, indexed);
+
+        set.addEntry(new Entry(100, 500));
+        indexed.addEntry(new Entry(100, 500));
+
+        set.addEntryOrdered(new Entry(50.5f, -500));
+        indexed.addEntryOrdered(new Entry(50.5f, -500));
+
+        assertMinMaxYEquals(set, indexed);
+
+        assertTrue(set.removeEntry(51));
+        assertTrue(indexed.removeEntry(51));
+
+        assertTrue(set.removeFirst());
+        assertTrue(indexed.removeFirst());
+
+        assertEquals(set.getYMin(), indexed.getYMin(), 0.001f);
+        assertEquals(set.getYMax(), indexed.getYMax(), 0.001f);
+        assertEquals(set.getXMin(), indexed.getXMin(), 0.001f);
+        assertEquals(set.getXMax(), indexed.getXMax(), 0.001f);
+
+        assertMinMaxYEquals(set, indexed);
+    }
+
+    @Test
+    public void testYRangeIndexSlidingWindow() {
+
+        Random random = new Random(3);
+
+        // a realtime window: remove the oldest value and append a new one on every frame
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(16);
+        List<Float> values = new ArrayList<Float>();
+
+        for (int i = 0; i < 16; i++) {
+            float y = random.nextFloat();
+            tree.add(y, y);
+            values.add(y);
+        }
+
+        tree.getMin(0, 0);
+
+        int rebuilds = 0;
+
+        for (int frame = 0; frame < 1000; frame++) {
+
+            tree.remove(0);
+            values.remove(0);
+
+            float y = random.nextFloat();
+            tree.add(y, y);
+            values.add(y);
+
+            if (tree.needsRebuild())
+                rebuilds++;
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int i = 4; i < 12; i++) {
+                min = Math.min(min, values.get(i));
+                max = Math.max(max, values.get(i));
+            }
+
+            assertEquals(min, tree.getMin(4, 11));
+            assertEquals(max, tree.getMax(4, 11));
+            assertEquals(16, tree.size());
+        }
+
+        // only growing once and moving the window back to the first leaf (once per 16
+        // frames after growing to 32 leaves) rebuild the tree
+        assertTrue(rebuilds <= 1000 / 16 + 1);
+
+        // removing in the middle still needs a rebuild
+        tree.remove(5);
+        assertTrue(tree.needsRebuild());
+
+        // the bounds of the DataSet follow the window
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 50; i++) {
+            entries.add(new Entry(i, i % 7));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        set.setYRangeIndexEnabled(true);
+
+        for (int i = 50; i < 200; i++) {
+
+            set.removeFirst();
+            set.addEntry(new Entry(i, i < 100 ? i % 7 : 10 + i % 3));
+
+            assertEquals(i - 49f, set.getXMin());
+            assertEquals((float) i, set.getXMax());
+        }
+
+        // only the values 10 to 12 are left
+        assertEquals(10f, set.getYMin());
+        assertEquals(12f, set.getYMax());
+    }
+
+    @Test
+    public void testSpatialIndex() {
+
+        Random random = new Random(42);
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 500; i++) {
+            // few distinct x-values with widely varying y-values
+            entries.add(new Entry(random.nextInt(20), random.nextFloat() * 1000f));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        assertFalse(set.isSpatialIndexEnabled());
+        assertNull(set.getSpatialIndex());
+
+        set.setSpatialIndexEnabled(true);
+
+        KdTree index = set.getSpatialIndex();
+        assertEquals(500, index.size());
+
+        final float scaleX = 40f;
+        final float scaleY = 0.5f;
+
+        for (int i = 0; i < 200; i++) {
+
+            float x = random.nextFloat() * 22f - 1f;
+            float y = random.nextFloat() * 1100f - 50f;
+
+            assertEquals(nearest(set, x, y, scaleX, scaleY, 25f),
+                    index.nearest(x, y, scaleX, scaleY, 25f));
+        }
+
+        assertEquals(-1, index.nearest(100f, 100f, scaleX, scaleY, 25f));
+
+        // appending is picked up without notifying the DataSet
+        set.addEntry(new Entry(30f, 10f));
+        assertEquals(500, set.getSpatialIndex().nearest(30f, 11f, scaleX, scaleY, 25f));
+
+        // modifying the values requires notifying the DataSet
+        set.getEntryForIndex(500).setY(200f);
+        set.notifyDataSetChanged();
+        assertEquals(-1, set.getSpatialIndex().nearest(30f, 11f, scaleX, scaleY, 25f));
+        assertEquals(500, set.getSpatialIndex().nearest(30f, 199f, scaleX, scaleY, 25f));
+
+        // removing a value rebuilds the index of a bubble DataSet as well
+        List<BubbleEntry> bubbles = new ArrayList<BubbleEntry>();
+        bubbles.add(new BubbleEntry(0f, 0f, 1f));
+        bubbles.add(new BubbleEntry(10f, 10f, 1f));
+
+        BubbleDataSet bubbleSet = new BubbleDataSet(bubbles, "");
+        bubbleSet.setSpatialIndexEnabled(true);
+
+        assertEquals(1, bubbleSet.getSpatialIndex().nearest(9f, 9f, 1f, 1f, 5f));
+
+        bubbleSet.removeFirst();
+
+        assertEquals(0, bubbleSet.getSpatialIndex().nearest(9f, 9f, 1f, 1f, 5f));
+        assertEquals(-1, bubbleSet.getSpatialIndex().nearest(0f, 0f, 1f, 1f, 5f));
+    }
+
+    private static int nearest(ScatterDataSet set, float x, float y, float scaleX, float scaleY,
+                               float maxDistance) {
+
+        int nearest = -1;
+        float best = maxDistance * maxDistance;
+
+        for (int i = 0; i < set.getEntryCount(); i++) {
+
+            float dx = (set.getX(i) - x) * scaleX;
+            float dy = (set.getY(i) - y) * scaleY;
+            float distance = dx * dx + dy * dy;
+
+            if (distance < best || (distance == best && nearest == -1)) {
+                best = distance;
+                nearest = i;
+            }
+        }
+
+        return nearest;
+    }
+
+    @Test
+    public void testStreamingLineDataSet() {
+
+        StreamingLineDataSet set = new StreamingLineDataSet(5, "");
+
+        assertEquals(0, set.getEntryCount());
+        assertEquals(5, set.getCapacity());
+
+        float[] y = new float[]{3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5, 8, 9, 7, 9, 3};
+
+        for (int i = 0; i < y.length; i++) {
+
+            set.append(i, y[i]);
+
+            final int first = Math.max(0, i - 4);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int j = first; j <= i; j++) {
+                min = Math.min(min, y[j]);
+                max = Math.max(max, y[j]);
+            }
+
+            assertEquals(i - first + 1, set.getEntryCount());
+            assertEquals(first, set.getXMin(), 0.01f);
+            assertEquals(i, set.getXMax(), 0.01f);
+            assertEquals(min, set.getYMin(), 0.01f);
+            assertEquals(max, set.getYMax(), 0.01f);
+            assertEquals(y[first], set.getEntryForIndex(0).getY(), 0.01f);
+            assertEquals(y[i], set.getY(set.getEntryCount() - 1), 0.01f);
+        }
+
+        assertTrue(set.isFull());
+        assertEquals(2, set.getEntryIndex(13.2f, Float.NaN, DataSet.Rounding.CLOSEST));
+
+        assertTrue(set.removeFirst());
+        assertEquals(12, set.getXMin(), 0.01f);
+        assertEquals(3, set.getYMin(), 0.01f);
+
+        assertTrue(set.removeLast());
+        assertEquals(14, set.getXMax(), 0.01f);
+        assertEquals(7, set.getYMin(), 0.01f);
+        assertEquals(9, set.getYMax(), 0.01f);
+
+        set.addEntryOrdered(new Entry(13.5f, 1));
+        assertEquals(4, set.getEntryCount());
+        assertEquals(13.5f, set.getX(2), 0.01f);
+        assertEquals(1, set.getYMin(), 0.01f);
+
+        set.clear();
+        assertEquals(0, set.getEntryCount());
+
+        set.setYRangeIndexEnabled(false);
+
+        try {
+            set.setYRangeIndexEnabled(true);
+            fail("The y-range index is not supported.");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        LineData data = new LineData(set);
+
+        try {
+            data.appendAndEvict(new Entry(20, 1), 0, 0);
+            fail("A maximum entry count of 0 is not valid.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private void assertMinMaxYEquals(ScatterDataSet expected, ScatterDataSet actual) {
+
+        for (float from = 0; from < 100; from += 7.5f) {
+            for (float to = from; to < 105; to += 11.25f) {
+
+                expected.calcMinMaxY(from, to);
+                actual.calcMinMaxY(from, to);
+
+                assertEquals(expected.getYMin(), actual.getYMin(), 0.001f);
+                assertEquals(expected.getYMax(), actual.getYMax(), 0.001f);
+            }
+        }
+
+        expected.calcMinMax();
+        actual.calcMinMax();
+    }
+
+    @Test
+    public void testAddTick() {
+
+        CandleDataSet set = new CandleDataSet(new ArrayList<CandleEntry>(), "");
+        set.setTickBuckets(1000L, 5000L);
+        set.setYRangeIndexEnabled(true);
+        set.setAggregationEnabled(true);
+
+        CandleData data = new CandleData(set);
+
+        assertEquals(0, data.addTick(0, 5100L, 10f, 1f));
+        assertEquals(0, data.addTick(0, 5900L, 12f, 2f));
+        assertEquals(0, data.addTick(0, 5500L, 9f, 1f));
+
+        CandleEntry first = set.getEntryForIndex(0);
+        assertEquals(0f, first.getX());
+        assertEquals(10f, first.getOpen());
+        assertEquals(9f, first.getClose());
+        assertEquals(12f, first.getHigh());
+        assertEquals(9f, first.getLow());
+        assertEquals(4f, first.getVolume());
+
+        // a new bucket opens a new candle
+        assertEquals(1, data.addTick(0, 6000L, 11f, 1f));
+        assertEquals(1, data.addTick(0, 6999L, 15f, 1f));
+        assertEquals(2, set.getEntryCount());
+        assertEquals(15f, set.getEntryForIndex(1).getClose());
+
+        // a late tick only extends its candle
+        assertEquals(0, data.addTick(0, 5200L, 8f, 1f));
+        assertEquals(9f, first.getClose());
+        assertEquals(8f, first.getLow());
+
+        // a tick before the origin
+        assertEquals(0, data.addTick(0, 4999L, 10f, 1f));
+        assertEquals(-1f, set.getEntryForIndex(0).getX());
+
+        assertEquals(8f, set.getYMin());
+        assertEquals(15f, set.getYMax());
+        assertEquals(8f, data.getYMin());
+        assertEquals(15f, data.getYMax());
+        assertEquals(-1f, data.getXMin());
+        assertEquals(1f, data.getXMax());
+
+        set.calcMinMaxY(0f, 0f);
+        assertEquals(8f, set.getYMin());
+        assertEquals(12f, set.getYMax());
+
+        CandleEntry all = set.getAggregationPyramid().getLevel(2).get(0);
+        assertEquals(10f, all.getOpen());
+        assertEquals(15f, all.getClose());
+        assertEquals(15f, all.getHigh());
+        assertEquals(8f, all.getLow());
+    }
+
+    @Test
+    public void testAddTickEpochMillis() {
+
+        // 2026-10-18 12:00:30 UTC, more than 2^24 minutes after the epoch
+        final long now = 1792324830000L;
+
+        CandleDataSet set = new CandleDataSet(new ArrayList<CandleEntry>(), "");
+
+        // the first candle starts at the minute of the first tick
+        assertEquals(0, set.addTick(now, 10f, 1f));
+        assertEquals(1792324800000L, set.getTickOrigin());
+
+        // neighbouring minutes stay apart
+        assertEquals(1, set.addTick(now + 60000L, 11f, 1f));
+        assertEquals(2, set.addTick(now + 120000L, 12f, 1f));
+        assertEquals(1, set.addTick(now + 60001L, 13f, 1f));
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(1f, set.getEntryForIndex(1).getX());
+        assertEquals(13f, set.getEntryForIndex(1).getHigh());
+        assertEquals(2f, set.getEntryForIndex(2).getX());
+
+        // with the epoch as the origin, the minute can not be a float x-value
+        CandleDataSet epoch = new CandleDataSet(new ArrayList<CandleEntry>(), "");
+        epoch.setTickBuckets(60000L, 0L);
+
+        try {
+            epoch.addTick(now, 10f, 1f);
+            fail("The minute of the tick is not exact as a float.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDataVersion() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 1));
+        entries.add(new Entry(1, 2));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        int version = set.getDataVersion();
+
+        set.addEntry(new Entry(2, 3));
+        assertTrue(set.getDataVersion() != version);
+
+        version = set.getDataVersion();
+        set.removeFirst();
+        assertTrue(set.getDataVersion() != version);
+
+        // values changed in place need notifyDataSetChanged()
+        version = set.getDataVersion();
+        set.getEntryForIndex(0).setY(1.5f);
+        assertEquals(version, set.getDataVersion());
+        set.notifyDataSetChanged();
+        assertTrue(set.getDataVersion() != version);
+
+        // a full streaming set keeps its size and bounds, but its values change
+        StreamingLineDataSet streaming = new StreamingLineDataSet(3, "");
+        streaming.append(0, 1);
+        streaming.append(1, 5);
+        streaming.append(2, 1);
+
+        version = streaming.getDataVersion();
+        streaming.append(3, 5);
+        assertEquals(3, streaming.getEntryCount());
+        assertTrue(streaming.getDataVersion() != version);
+
+        PrimitiveLineDataSet primitive = new PrimitiveLineDataSet(new float[]{0, 1}, new float[]{1, 2}, 2, "");
+
+        version = primitive.getDataVersion();
+        primitive.getEntries().set(1, new Entry(1, 1.5f));
+        assertTrue(primitive.getDataVersion() != version);
+    }
+
+    @Test
+    public void testMissingEntry() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 1));
+        entries.add(new Entry(1, 2));
+
+        // a DataSet that has no Entry at index 1
+        LineDataSet sparse = new LineDataSet(entries, "") {
+            @Override
+            public Entry getEntryForIndex(int index) {
+                return index == 1 ? null : super.getEntryForIndex(index);
+            }
+        };
+
+        assertEquals(1f, sparse.getY(0));
+        assertEquals(0f, sparse.getX(1));
+        assertEquals(0f, sparse.getY(1));
+    }
 }
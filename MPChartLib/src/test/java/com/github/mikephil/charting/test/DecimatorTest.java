@@ -0,0 +1,94 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.Decimator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class DecimatorTest {
+
+    private LineDataSet createSine(int count) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry(i, (float) Math.sin(i / 10.0)));
+        }
+
+        return new LineDataSet(entries, "");
+    }
+
+    @Test
+    public void testMinMaxPerPixel() {
+
+        LineDataSet set = createSine(1000);
+
+        int[] out = new int[1000];
+
+        // 100 values per pixel column -> 10 columns, at most 4 values each
+        int count = new Decimator().decimate(set, LineDataSet.DecimationMode.MIN_MAX_PER_PIXEL,
+                0, 999, 100f, 1f, out);
+
+        assertTrue(count <= 40);
+        assertEquals(0, out[0]);
+        assertEquals(999, out[count - 1]);
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        for (int i = 0; i < count; i++) {
+
+            if (i > 0)
+                assertTrue(out[i] > out[i - 1]);
+
+            min = Math.min(min, set.getY(out[i]));
+            max = Math.max(max, set.getY(out[i]));
+        }
+
+        // the extremes are always kept
+        set.calcMinMax();
+        assertEquals(set.getYMin(), min, 0.0001f);
+        assertEquals(set.getYMax(), max, 0.0001f);
+    }
+
+    @Test
+    public void testPointBudget() {
+
+        LineDataSet set = createSine(1000);
+
+        int[] out = new int[1000];
+
+        Decimator decimator = new Decimator();
+
+        // 100 values per pixel column -> budget of 2 * 10 + 2 values
+        int count = decimator.decimate(set, LineDataSet.DecimationMode.LTTB, 0, 999, 100f, 1f, out);
+
+        assertEquals(22, count);
+        assertEquals(0, out[0]);
+        assertEquals(999, out[count - 1]);
+
+        count = decimator.decimate(set, LineDataSet.DecimationMode.DOUGLAS_PEUCKER, 0, 999, 100f, 1f, out);
+
+        assertEquals(22, count);
+        assertEquals(0, out[0]);
+        assertEquals(999, out[count - 1]);
+
+        for (int i = 1; i < count; i++) {
+            assertTrue(out[i] > out[i - 1]);
+        }
+
+        // nothing to reduce
+        count = decimator.decimate(set, LineDataSet.DecimationMode.LTTB, 10, 20, 1f, 1f, out);
+
+        assertEquals(11, count);
+        assertEquals(10, out[0]);
+        assertEquals(20, out[10]);
+    }
+}
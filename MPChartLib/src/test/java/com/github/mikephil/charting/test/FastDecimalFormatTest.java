@@ -0,0 +1,100 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.FastDecimalFormat;
+
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+public class FastDecimalFormatTest {
+
+    @Test
+    public void testSameAsDecimalFormat() {
+
+        Random random = new Random(3);
+
+        for (int digits = 0; digits < 6; digits++) {
+
+            StringBuffer b = new StringBuffer();
+            for (int i = 0; i < digits; i++) {
+                if (i == 0)
+                    b.append(".");
+                b.append("0");
+            }
+
+            DecimalFormat expected = new DecimalFormat("###,###,###,##0" + b.toString());
+            FastDecimalFormat format = new FastDecimalFormat(digits, true);
+
+            float[] special = new float[]{
+                    0f, -0f, -0.01f, 0.125f, 0.375f, 2.5f, 999.95f, 1e20f,
+                    Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY
+            };
+
+            for (float value : special) {
+                assertEquals(expected.format(value), format.format(value));
+            }
+
+            for (int i = 0; i < 20000; i++) {
+
+                float value;
+
+                switch (i % 3) {
+                    case 0:
+                        value = (random.nextFloat() - 0.5f) * 2000f;
+                        break;
+                    case 1:
+                        value = (random.nextInt(20001) - 10000) * 0.05f;
+                        break;
+                    default:
+                        value = (float) ((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16)));
+                        break;
+                }
+
+                assertEquals(expected.format(value), format.format(value));
+            }
+        }
+    }
+
+    @Test
+    public void testSuffixAndReuse() {
+
+        FastDecimalFormat format = new FastDecimalFormat(1, false, " %");
+
+        DecimalFormat expected = new DecimalFormat("0.0");
+
+        assertEquals(expected.format(-1234.56f) + " %", format.format(-1234.56f));
+        assertEquals(expected.format(12f) + " %", format.formatToCharSequence(12f).toString());
+
+        // recently formatted values return the same instance
+        String text = format.format(42.42f);
+        assertSame(text, format.format(42.42f));
+    }
+
+    @Test
+    public void testValueFormatterChars() {
+
+        DefaultValueFormatter formatter = new DefaultValueFormatter(2);
+
+        Entry entry = new Entry(1f, 1234.5f);
+
+        assertEquals(formatter.getPointLabel(entry), formatter.getPointLabelChars(entry).toString());
+        assertEquals(formatter.getFormattedValue(-0.5f), formatter.getFormattedValueChars(-0.5f).toString());
+
+        // subclasses that change the labels are not bypassed
+        DefaultValueFormatter custom = new DefaultValueFormatter(2) {
+            @Override
+            public String getFormattedValue(float value) {
+                return "$" + super.getFormattedValue(value);
+            }
+        };
+
+        assertEquals("$" + formatter.getFormattedValue(1234.5f), custom.getPointLabelChars(entry).toString());
+        assertEquals("$" + formatter.getFormattedValue(-0.5f), custom.getFormattedValueChars(-0.5f).toString());
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
+import com.github.mikephil.charting.formatter.FormattedLabelCache;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class FormattedLabelCacheTest {
+
+    @Test
+    public void testCache() {
+
+        ValueFormatter formatter = new DefaultAxisValueFormatter(1);
+        assertTrue(formatter.isCacheable());
+
+        FormattedLabelCache cache = new FormattedLabelCache(3);
+
+        assertNull(cache.get(formatter, 1f));
+
+        cache.put(formatter, 1f, "1.0");
+        cache.put(formatter, 2f, "2.0");
+        cache.put(formatter, 3f, "3.0");
+
+        assertEquals(3, cache.size());
+        assertEquals("1.0", cache.get(formatter, 1f));
+        assertNull(cache.get(formatter, -1f));
+
+        // 2 is the least recently used label now
+        cache.put(formatter, 4f, "4.0");
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get(formatter, 2f));
+        assertEquals("1.0", cache.get(formatter, 1f));
+        assertEquals("3.0", cache.get(formatter, 3f));
+        assertEquals("4.0", cache.get(formatter, 4f));
+
+        // 0 and -0 are formatted differently
+        cache.put(formatter, 0f, "0.0");
+        assertNull(cache.get(formatter, -0f));
+
+        // another formatter empties the cache
+        assertNull(cache.get(new DefaultAxisValueFormatter(2), 4f));
+        assertEquals(0, cache.size());
+    }
+}
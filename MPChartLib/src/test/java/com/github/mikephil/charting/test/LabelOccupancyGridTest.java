@@ -0,0 +1,53 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.LabelOccupancyGrid;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class LabelOccupancyGridTest {
+
+    @Test
+    public void testPlace() {
+
+        LabelOccupancyGrid grid = new LabelOccupancyGrid();
+        grid.reset(0f, 0f, 100f, 100f, 10f);
+
+        assertTrue(grid.place(0f, 0f, 25f, 8f));
+
+        // overlaps the first label
+        assertFalse(grid.place(20f, 5f, 45f, 13f));
+
+        // the cells right of and below the first label are free
+        assertTrue(grid.place(30f, 0f, 55f, 8f));
+        assertTrue(grid.place(0f, 10f, 25f, 18f));
+
+        // labels outside of the grid are clamped to the border cells
+        assertTrue(grid.place(95f, 95f, 120f, 130f));
+        assertFalse(grid.place(150f, 150f, 160f, 160f));
+
+        assertEquals(4, grid.getPlacedCount());
+
+        grid.reset(0f, 0f, 100f, 100f, 10f);
+
+        assertEquals(0, grid.getPlacedCount());
+        assertTrue(grid.place(20f, 5f, 45f, 13f));
+    }
+
+    @Test
+    public void testThinning() {
+
+        LabelOccupancyGrid grid = new LabelOccupancyGrid();
+        grid.reset(0f, 0f, 1000f, 100f, 10f);
+
+        // 1000 labels of 30px width, one per pixel, only every 40th fits
+        for (int i = 0; i < 1000; i++) {
+            grid.place(i, 50f, i + 30f, 60f);
+        }
+
+        assertEquals(25, grid.getPlacedCount());
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.buffer.LineBuffer;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
+import com.github.mikephil.charting.data.filter.Decimator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class LineBufferTest {
+
+    @Test
+    public void testRange() {
+
+        PrimitiveLineDataSet set = new PrimitiveLineDataSet(5, "");
+
+        for (int i = 0; i < 5; i++) {
+            set.addValue(i, i * 3f);
+        }
+
+        LineBuffer buffer = new LineBuffer(LineBuffer.getRequiredSize(5, false));
+        buffer.setPhases(1f, 2f);
+
+        // the line of the first value in the range starts at the value before it
+        buffer.feed(set, 2, 4);
+        assertEquals(12, buffer.getFeedLength());
+        assertEquals(1f, buffer.buffer[0], 0.01f);
+        assertEquals(6f, buffer.buffer[1], 0.01f);
+        assertEquals(4f, buffer.buffer[10], 0.01f);
+        assertEquals(24f, buffer.buffer[11], 0.01f);
+
+        buffer.setPhases(1f, 1f);
+        buffer.setStepped(true);
+        buffer.feed(set, 1, 2);
+
+        // horizontal to the next x, then vertical to the next y
+        assertEquals(16, buffer.getFeedLength());
+        assertEquals(0f, buffer.buffer[0], 0.01f);
+        assertEquals(0f, buffer.buffer[1], 0.01f);
+        assertEquals(1f, buffer.buffer[2], 0.01f);
+        assertEquals(0f, buffer.buffer[3], 0.01f);
+        assertEquals(1f, buffer.buffer[6], 0.01f);
+        assertEquals(3f, buffer.buffer[7], 0.01f);
+    }
+
+    @Test
+    public void testSizeBoundedByDecimation() {
+
+        final int entryCount = 100000;
+
+        PrimitiveLineDataSet set = new PrimitiveLineDataSet(entryCount, "");
+
+        for (int i = 0; i < entryCount; i++) {
+            set.addValue(i, (float) Math.sin(i / 10.0));
+        }
+
+        // 1000 values per pixel column -> 100 columns, at most 4 values each
+        int[] indices = new int[entryCount];
+        int count = new Decimator().decimate(set, LineDataSet.DecimationMode.MIN_MAX_PER_PIXEL,
+                0, entryCount - 1, 1000f, 1f, indices);
+
+        assertTrue(count <= 400);
+
+        // the buffer is sized by the kept values and the feed stays within it
+        final int required = LineBuffer.getRequiredSize(count, false);
+        assertTrue(required <= 1600);
+
+        LineBuffer buffer = new LineBuffer(required);
+        buffer.feed(set, indices, 0, count);
+
+        assertEquals(count * 4, buffer.getFeedLength());
+
+        // consecutive kept values are connected
+        for (int k = 1; k < count; k++) {
+            assertEquals((float) indices[k - 1], buffer.buffer[k * 4]);
+            assertEquals((float) indices[k], buffer.buffer[k * 4 + 2]);
+        }
+    }
+
+    @Test
+    public void testColorRuns() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 8; i++) {
+            entries.add(new Entry(i, i % 3));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        set.setColors(new int[]{0xffff0000, 0xffff0000, 0xffff0000, 0xff00ff00, 0xff00ff00, 0xff0000ff, 0xff0000ff});
+
+        LineBuffer buffer = new LineBuffer(LineBuffer.getRequiredSize(8, false));
+        buffer.feedSegments(set, 0, 7);
+
+        // a segment takes the color of the value it starts at, 7 segments in 3 runs
+        assertEquals(7, buffer.getSegmentCount());
+        assertEquals(0xff00ff00, buffer.getSegmentColor(3));
+
+        assertEquals(3, buffer.getRunEnd(0, 7));
+        assertEquals(5, buffer.getRunEnd(3, 7));
+        assertEquals(7, buffer.getRunEnd(5, 7));
+
+        // segments outside of the viewport split a run
+        buffer.setSegmentCulled(1, true);
+        assertEquals(1, buffer.getRunEnd(0, 7));
+        assertEquals(3, buffer.getRunEnd(2, 7));
+
+        // the segments of the decimated values are colored like their starting values
+        buffer.feedSegments(set, new int[]{0, 2, 3, 6}, 0, 4);
+
+        assertEquals(3, buffer.getSegmentCount());
+        assertEquals(0xffff0000, buffer.getSegmentColor(1));
+        assertEquals(0xff00ff00, buffer.getSegmentColor(2));
+        assertEquals(2, buffer.getRunEnd(0, 3));
+
+        // the segment from 3 to 6
+        assertEquals(3f, buffer.buffer[8], 0.01f);
+        assertEquals(6f, buffer.buffer[10], 0.01f);
+    }
+}
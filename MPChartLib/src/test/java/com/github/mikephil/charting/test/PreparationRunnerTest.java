@@ -0,0 +1,169 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.PreparationRunner;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class PreparationRunnerTest {
+
+    /**
+     * Collects the runnables and runs them when asked, like a worker or the UI thread queue.
+     */
+    private static class QueueExecutor implements Executor {
+
+        final List<Runnable> queue = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(command);
+        }
+
+        void runAll() {
+            while (!queue.isEmpty()) {
+                queue.remove(0).run();
+            }
+        }
+    }
+
+    private static class DirectExecutor implements Executor {
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
+
+    private final List<String> mDelivered = new ArrayList<>();
+
+    private Throwable mFailure;
+
+    private PreparationRunner<String> createRunner(Executor resultExecutor) {
+
+        return new PreparationRunner<>(resultExecutor, new PreparationRunner.Callback<String>() {
+            @Override
+            public void onPrepared(String result) {
+                mDelivered.add(result);
+            }
+
+            @Override
+            public void onFailed(Throwable error) {
+                mFailure = error;
+            }
+        });
+    }
+
+    private static Callable<String> value(final String value) {
+
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                return value;
+            }
+        };
+    }
+
+    @Test
+    public void testDirect() {
+
+        PreparationRunner<String> runner = createRunner(new DirectExecutor());
+
+        runner.start(value("a"), new DirectExecutor());
+
+        assertFalse(runner.isPending());
+        assertEquals(1, mDelivered.size());
+        assertEquals("a", mDelivered.get(0));
+    }
+
+    @Test
+    public void testSupersede() {
+
+        QueueExecutor worker = new QueueExecutor();
+        QueueExecutor ui = new QueueExecutor();
+
+        PreparationRunner<String> runner = createRunner(ui);
+
+        runner.start(value("first"), worker);
+        runner.start(value("second"), worker);
+
+        assertTrue(runner.isPending());
+
+        // the first one was cancelled before it ran
+        worker.runAll();
+        ui.runAll();
+
+        assertFalse(runner.isPending());
+        assertEquals(1, mDelivered.size());
+        assertEquals("second", mDelivered.get(0));
+    }
+
+    @Test
+    public void testSupersedeAfterDone() {
+
+        QueueExecutor ui = new QueueExecutor();
+
+        PreparationRunner<String> runner = createRunner(ui);
+
+        // the first one is done, but its result has not been delivered yet
+        runner.start(value("first"), new DirectExecutor());
+        assertEquals(1, ui.queue.size());
+
+        runner.start(value("second"), new DirectExecutor());
+        ui.runAll();
+
+        assertEquals(1, mDelivered.size());
+        assertEquals("second", mDelivered.get(0));
+    }
+
+    @Test
+    public void testCancel() {
+
+        QueueExecutor worker = new QueueExecutor();
+        QueueExecutor ui = new QueueExecutor();
+
+        PreparationRunner<String> runner = createRunner(ui);
+
+        // cancelled while running, like setData(null) while data is being prepared
+        runner.start(value("a"), worker);
+        runner.cancel();
+
+        assertFalse(runner.isPending());
+
+        worker.runAll();
+        ui.runAll();
+
+        // cancelled after it was done, before the result was delivered
+        runner.start(value("b"), worker);
+        worker.runAll();
+        runner.cancel();
+        ui.runAll();
+
+        assertTrue(mDelivered.isEmpty());
+        assertNull(mFailure);
+    }
+
+    @Test
+    public void testFailure() {
+
+        PreparationRunner<String> runner = createRunner(new DirectExecutor());
+
+        runner.start(new Callable<String>() {
+            @Override
+            public String call() {
+                throw new IllegalStateException();
+            }
+        }, new DirectExecutor());
+
+        assertTrue(mFailure instanceof IllegalStateException);
+        assertTrue(mDelivered.isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.RenderMetrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class RenderMetricsTest {
+
+    @Test
+    public void testRenderMetrics() {
+
+        LineDataSet first = new LineDataSet(new ArrayList<Entry>(), "first");
+        LineDataSet second = new LineDataSet(new ArrayList<Entry>(), "second");
+        LineDataSet other = new LineDataSet(new ArrayList<Entry>(), "other");
+
+        List<IDataSet> dataSets = new ArrayList<>();
+        dataSets.add(first);
+        dataSets.add(second);
+
+        RenderMetrics metrics = new RenderMetrics();
+        metrics.beginFrame(dataSets);
+
+        metrics.addVisibleEntries(second, 10);
+        metrics.addLines(second, 9);
+        metrics.addLines(second, 1);
+        metrics.addRects(first, 3);
+
+        // DataSets that are not part of the frame are ignored
+        metrics.addLines(other, 100);
+
+        metrics.beginPhase(RenderMetrics.Phase.DRAW_DATA);
+        metrics.endPhase();
+        metrics.endFrame();
+
+        assertEquals(1, metrics.getFrameCount());
+        assertEquals(2, metrics.getDataSetCount());
+        assertEquals(second, metrics.getDataSet(1));
+
+        assertEquals(0, metrics.getVisibleEntryCount(0));
+        assertEquals(10, metrics.getVisibleEntryCount(1));
+        assertEquals(0, metrics.getLineCount(0));
+        assertEquals(10, metrics.getLineCount(1));
+        assertEquals(3, metrics.getRectCount(0));
+
+        assertTrue(metrics.getPhaseNanos(RenderMetrics.Phase.DRAW_DATA) >= 0);
+        assertEquals(0, metrics.getPhaseNanos(RenderMetrics.Phase.DRAW_VALUES));
+        assertTrue(metrics.getFrameNanos() >= metrics.getPhaseNanos(RenderMetrics.Phase.DRAW_DATA));
+
+        // the next frame starts from zero
+        dataSets.remove(0);
+        metrics.beginFrame(dataSets);
+
+        assertEquals(1, metrics.getDataSetCount());
+        assertEquals(0, metrics.getLineCount(0));
+        assertEquals(0, metrics.getPhaseNanos(RenderMetrics.Phase.DRAW_DATA));
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.PrimitiveLineDataSet;
+import com.github.mikephil.charting.utils.TextDataParser;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+
+public class TextDataParserTest {
+
+    @Test
+    public void testParse() throws IOException {
+
+        String text = "time;ignored;value\r\n"
+                + "0;a;1.5\r\n"
+                + "1.25;b;-2e3\n"
+                + "\n"
+                + "2;c;not a number\n"
+                + " 3 ; d ; .5 \n"
+                + "4;e;NaN";
+
+        PrimitiveLineDataSet set = new PrimitiveLineDataSet("");
+
+        TextDataParser parser = new TextDataParser()
+                .setDelimiter(';')
+                .setColumns(0, 2)
+                .setBatchSize(2);
+
+        parser.parse(new StringReader(text), TextDataParser.into(set));
+
+        assertEquals(4, parser.getValueCount());
+        assertEquals(2, parser.getSkippedLines());
+        assertEquals(4, set.getEntryCount());
+
+        assertEquals(0f, set.getX(0));
+        assertEquals(1.5f, set.getY(0));
+        assertEquals(1.25f, set.getX(1));
+        assertEquals(-2000f, set.getY(1));
+        assertEquals(3f, set.getX(2));
+        assertEquals(0.5f, set.getY(2));
+        assertEquals(4f, set.getX(3));
+        assertEquals(Float.NaN, set.getY(3));
+
+        // numbered values
+        set = new PrimitiveLineDataSet("");
+
+        parser.setDelimiter('#')
+                .setColumns(-1, 0)
+                .parse(new StringReader("5#0\n6#1\n7#2\n"), TextDataParser.into(set));
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(2f, set.getX(2));
+        assertEquals(7f, set.getY(2));
+    }
+
+    @Test
+    public void testNumbers() throws IOException {
+
+        Random random = new Random(7);
+
+        StringBuilder text = new StringBuilder();
+        String[] values = new String[2000];
+
+        for (int i = 0; i < values.length; i++) {
+
+            switch (i % 5) {
+                case 0:
+                    values[i] = Float.toString((random.nextFloat() - 0.5f) * 1e6f);
+                    break;
+                case 1:
+                    values[i] = Double.toString(random.nextGaussian());
+                    break;
+                case 2:
+                    values[i] = Float.toString(random.nextFloat() * 1e-30f);
+                    break;
+                case 3:
+                    values[i] = Long.toString(random.nextLong());
+                    break;
+                default:
+                    values[i] = String.format("%.3f", random.nextDouble() * 100.0).replace(',', '.');
+                    break;
+            }
+
+            text.append(i).append(',').append(values[i]).append('\n');
+        }
+
+        PrimitiveLineDataSet set = new PrimitiveLineDataSet("");
+
+        // tiny chunks, so that lines and numbers are split between reads
+        new TextDataParser().parse(new ChunkedReader(text.toString(), 7), TextDataParser.into(set));
+
+        assertEquals(values.length, set.getEntryCount());
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals((float) i, set.getX(i));
+            assertEquals(values[i], Float.parseFloat(values[i]), set.getY(i), 0f);
+        }
+    }
+
+    /**
+     * Reader that returns at most the given number of chars per read.
+     */
+    private static class ChunkedReader extends Reader {
+
+        private final StringReader mReader;
+        private final int mChunkSize;
+
+        ChunkedReader(String text, int chunkSize) {
+            mReader = new StringReader(text);
+            mChunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return mReader.read(cbuf, off, Math.min(len, mChunkSize));
+        }
+
+        @Override
+        public void close() {
+            mReader.close();
+        }
+    }
+}